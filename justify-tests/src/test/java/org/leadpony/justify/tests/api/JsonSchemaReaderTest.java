@@ -222,4 +222,67 @@ public class JsonSchemaReaderTest implements Loggable {
             return reader.read();
         }
     }
+
+    private static JsonSchema readSchema(JsonSchemaReaderFactory factory, String json) {
+        try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(json))) {
+            return reader.read();
+        }
+    }
+
+    @Test
+    public void readShouldShareEqualSubschemasIfInterning() {
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withSchemaInterning(true)
+                .build();
+        JsonSchema first = readSchema(factory,
+                "{ \"properties\": { \"foo\": { \"type\": \"string\", \"format\": \"date-time\" } } }");
+        JsonSchema second = readSchema(factory,
+                "{ \"items\": { \"type\": \"string\", \"format\": \"date-time\" } }");
+
+        assertThat(second.findSchema("/items").get())
+            .isSameAs(first.findSchema("/properties/foo").get());
+    }
+
+    @Test
+    public void readShouldNotShareSubschemasOfEqualHashCodes() {
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withSchemaInterning(true)
+                .build();
+        // "Aa" and "BB" have the same hash code.
+        JsonSchema first = readSchema(factory, "{ \"items\": { \"title\": \"Aa\", \"type\": \"string\" } }");
+        JsonSchema second = readSchema(factory, "{ \"items\": { \"title\": \"BB\", \"type\": \"string\" } }");
+
+        assertThat(second.findSchema("/items").get())
+            .isNotSameAs(first.findSchema("/items").get());
+        assertThat(second.findSchema("/items").get().toJson().asJsonObject().getString("title"))
+            .isEqualTo("BB");
+    }
+
+    @Test
+    public void readShouldNotShareSubschemasContainingReferences() {
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactoryBuilder()
+                .withSchemaInterning(true)
+                .build();
+        String json = "{ \"properties\": { \"foo\": { \"$ref\": \"#/definitions/bar\" } },"
+                + " \"definitions\": { \"bar\": { \"type\": \"integer\" } } }";
+        JsonSchema first = readSchema(factory, json);
+        JsonSchema second = readSchema(factory, json);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.findSchema("/properties/foo").get())
+            .isNotSameAs(first.findSchema("/properties/foo").get());
+        assertThat(second.findSchema("/definitions/bar").get())
+            .isSameAs(first.findSchema("/definitions/bar").get());
+    }
+
+    @Test
+    public void readShouldNotShareSubschemasByDefault() {
+        JsonSchemaReaderFactory factory = SERVICE.createSchemaReaderFactory();
+        String json = "{ \"items\": { \"type\": \"string\" } }";
+        JsonSchema first = readSchema(factory, json);
+        JsonSchema second = readSchema(factory, json);
+
+        assertThat(second.findSchema("/items").get())
+            .isNotSameAs(first.findSchema("/items").get());
+    }
 }
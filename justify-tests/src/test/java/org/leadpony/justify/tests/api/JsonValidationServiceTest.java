@@ -18,11 +18,16 @@ package org.leadpony.justify.tests.api;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.leadpony.justify.api.JsonPushValidator;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.StringResultCache;
+import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationProfile;
+import org.leadpony.justify.api.ValidationResultCache;
 import org.leadpony.justify.tests.helper.JsonExample;
 import org.leadpony.justify.tests.helper.SchemaExample;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
@@ -30,17 +35,28 @@ import org.leadpony.justify.tests.helper.ValidationServiceType;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 
 /**
@@ -330,6 +346,404 @@ public class JsonValidationServiceTest {
                     .hasMessageContaining("nonexistent.json");
         }
 
+        @Test
+        public void validateAllShouldReturnProblemsPerSchema() {
+            JsonSchema valid = sut.readSchema(new StringReader("{\"type\":\"object\"}"));
+            JsonSchema invalid = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"string\"},\"b\":{\"maximum\":1}}}"));
+            List<JsonSchema> schemas = Arrays.asList(valid, invalid);
+
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("{\"a\":42,\"b\":2}"));
+            List<List<Problem>> actual = sut.validateAll(parser, schemas, true);
+            parser.close();
+
+            assertThat(actual).hasSize(2);
+            assertThat(actual.get(0)).isEmpty();
+            assertThat(actual.get(1)).hasSize(2);
+        }
+
+        @Test
+        public void validateAllShouldReturnProblemsPerOccurrenceOfSameSchema() {
+            JsonSchema valid = sut.readSchema(new StringReader("{\"type\":\"object\"}"));
+            JsonSchema invalid = sut.readSchema(new StringReader("{\"type\":\"array\"}"));
+            List<JsonSchema> schemas = Arrays.asList(invalid, valid, invalid);
+
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("{}"));
+            List<List<Problem>> actual = sut.validateAll(parser, schemas, true);
+            parser.close();
+
+            assertThat(actual).hasSize(3);
+            assertThat(actual.get(0)).hasSize(1);
+            assertThat(actual.get(1)).isEmpty();
+            assertThat(actual.get(2)).hasSize(1);
+        }
+
+        @Test
+        public void validateAllShouldApplyConfig() {
+            JsonSchema first = sut.readSchema(new StringReader("{\"items\":{\"maxLength\":2}}"));
+            JsonSchema second = sut.readSchema(new StringReader("{\"items\":{\"pattern\":\"^[A-Z]+$\"}}"));
+            List<JsonSchema> schemas = Arrays.asList(first, second);
+            StringResultCache cache = sut.createStringResultCache(16);
+            ValidationProfile profile = sut.createValidationProfile();
+            ValidationConfig config = sut.createValidationConfig()
+                    .withStringResultCache(cache)
+                    .withValidationProfile(profile);
+
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("[\"abc\",\"abc\"]"));
+            List<List<Problem>> actual = sut.validateAll(config.getAsMap(), parser, schemas, true);
+            parser.close();
+
+            assertThat(actual.get(0)).hasSize(2);
+            assertThat(actual.get(1)).hasSize(2);
+            assertThat(cache.getHitCount()).isEqualTo(2);
+            assertThat(cache.getMissCount()).isEqualTo(2);
+            JsonObject json = profile.toJson();
+            assertThat(json.keySet()).containsExactly("0", "1");
+            assertThat(json.getJsonObject("0").getJsonObject("/items").keySet()).containsExactly("maxLength");
+            assertThat(json.getJsonObject("1").getJsonObject("/items").keySet()).containsExactly("pattern");
+        }
+
+        @Test
+        public void validateAllShouldProfileEachRootSchemaSeparately() {
+            JsonSchema first = sut.readSchema(new StringReader(
+                    "{\"$id\":\"http://example.org/first\",\"minProperties\":5}"));
+            JsonSchema second = sut.readSchema(new StringReader("{\"minProperties\":9}"));
+            JsonSchema third = sut.readSchema(new StringReader("{\"minProperties\":1}"));
+            List<JsonSchema> schemas = Arrays.asList(first, second, third);
+            ValidationProfile profile = sut.createValidationProfile();
+            ValidationConfig config = sut.createValidationConfig().withValidationProfile(profile);
+
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("{\"a\":1}"));
+            sut.validateAll(config.getAsMap(), parser, schemas, true);
+            parser.close();
+
+            JsonObject json = profile.toJson();
+            assertThat(json.keySet()).containsExactly("http://example.org/first", "1", "2");
+            assertThat(json.getJsonObject("http://example.org/first").getJsonObject("")
+                    .getJsonObject("minProperties").getJsonNumber("failures").longValue()).isEqualTo(1);
+            assertThat(json.getJsonObject("1").getJsonObject("")
+                    .getJsonObject("minProperties").getJsonNumber("failures").longValue()).isEqualTo(1);
+            assertThat(json.getJsonObject("2").getJsonObject("")
+                    .getJsonObject("minProperties").getJsonNumber("failures").longValue()).isZero();
+        }
+
+        @Test
+        public void validateAllShouldStopAtFirstProblemIfNotCollecting() {
+            JsonSchema valid = sut.readSchema(new StringReader("{\"type\":\"object\"}"));
+            JsonSchema invalid = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"string\"},\"b\":{\"maximum\":1}}}"));
+            List<JsonSchema> schemas = Arrays.asList(valid, invalid);
+
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("{\"a\":42,\"b\":2}"));
+            List<List<Problem>> actual = sut.validateAll(parser, schemas, false);
+            parser.close();
+
+            assertThat(actual.get(0)).isEmpty();
+            assertThat(actual.get(1)).hasSize(1);
+        }
+
+        @Test
+        public void validateAllShouldReplayEventsForConditionals() {
+            JsonSchema schema = sut.readSchema(new StringReader("{"
+                    + "\"if\":{\"properties\":{\"kind\":{\"const\":\"a\"}},\"required\":[\"kind\"]},"
+                    + "\"then\":{\"properties\":{\"value\":{\"type\":\"string\"}}},"
+                    + "\"else\":{\"properties\":{\"value\":{\"type\":\"number\"}}}}"));
+            List<JsonSchema> schemas = Arrays.asList(schema);
+
+            JsonParser parser = sut.getJsonProvider().createParser(
+                    new StringReader("{\"value\":42,\"kind\":\"a\"}"));
+            List<List<Problem>> actual = sut.validateAll(parser, schemas, true);
+            parser.close();
+
+            // The "then" subschema is applied to the value recorded before "kind".
+            assertThat(actual.get(0)).extracting(Problem::getPointer).containsExactly("/value");
+            assertThat(actual.get(0)).extracting(Problem::getKeyword).containsExactly("type");
+        }
+
+        @Test
+        public void applyAndValidateShouldReportProblemsInReplacedValue() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"properties\":{\"b\":{\"type\":\"string\"}}}}}"));
+            JsonObject document = readObject("{\"a\":{\"b\":\"foo\"},\"c\":1}");
+            JsonPatch patch = sut.getJsonProvider().createPatchBuilder().replace("/a/b", 42).build();
+            List<Problem> problems = new ArrayList<>();
+
+            JsonObject actual = sut.applyAndValidate(schema, document, patch, problems::addAll);
+
+            assertThat(actual.getJsonObject("a").getInt("b")).isEqualTo(42);
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/a/b");
+        }
+
+        @Test
+        public void applyAndValidateShouldReportMissingRequiredProperty() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"required\":[\"b\"],\"properties\":{\"b\":{\"type\":\"string\"}}}}}"));
+            JsonObject document = readObject("{\"a\":{\"b\":\"foo\",\"c\":1}}");
+            JsonPatch patch = sut.getJsonProvider().createPatchBuilder().remove("/a/b").build();
+            List<Problem> problems = new ArrayList<>();
+
+            sut.applyAndValidate(schema, document, patch, problems::addAll);
+
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/a");
+            assertThat(problems.get(0).getKeyword()).isEqualTo("required");
+            assertThat(problems.get(0).getSchema()).isSameAs(schema.findSchema("/properties/a").get());
+        }
+
+        @Test
+        public void applyAndValidateShouldReportNoProblemsIfPatchIsValid() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"integer\"}},\"additionalProperties\":{\"type\":\"string\"}}"));
+            JsonObject document = readObject("{\"a\":1}");
+            JsonPatch patch = sut.getJsonProvider().createPatchBuilder().replace("/a", 2).add("/b", "bar").build();
+            List<Problem> problems = new ArrayList<>();
+
+            JsonObject actual = sut.applyAndValidate(schema, document, patch, problems::addAll);
+
+            assertThat(actual.getString("b")).isEqualTo("bar");
+            assertThat(problems).isEmpty();
+        }
+
+        @Test
+        public void applyAndValidateShouldValidateWholeValueUnderUnsafeKeyword() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"enum\":[{\"b\":1,\"c\":2}]}}}"));
+            JsonObject document = readObject("{\"a\":{\"b\":1,\"c\":2}}");
+            JsonPatch patch = sut.getJsonProvider().createPatchBuilder().replace("/a/c", 3).build();
+            List<Problem> problems = new ArrayList<>();
+
+            sut.applyAndValidate(schema, document, patch, problems::addAll);
+
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/a");
+        }
+
+        @Test
+        public void applyAndValidateShouldReportProblemsInMergedValue() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"integer\"},\"b\":{\"maxLength\":3}}}"));
+            JsonObject document = readObject("{\"a\":1,\"b\":\"foo\"}");
+            JsonMergePatch patch = sut.getJsonProvider().createMergePatch(readObject("{\"b\":\"foobar\"}"));
+            List<Problem> problems = new ArrayList<>();
+
+            JsonValue actual = sut.applyAndValidate(schema, document, patch, problems::addAll);
+
+            assertThat(actual.asJsonObject().getString("b")).isEqualTo("foobar");
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/b");
+        }
+
+        @Test
+        public void validateAtShouldValidateOnlyValueAtPointer() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"definitions\":{\"Items\":{\"items\":{\"properties\":{\"name\":{\"type\":\"string\"}}}}},"
+                    + "\"properties\":{\"header\":{\"type\":\"string\"}}}"));
+            JsonSchema items = schema.findSchema("/definitions/Items").get();
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader(
+                    "{\"header\":{\"id\":1},\"payload\":{\"items\":[{\"name\":\"a\"},{\"name\":2}]},\"trailer\":3}"));
+            List<Problem> problems = new ArrayList<>();
+
+            boolean found = sut.validateAt(parser, "/payload/items", items, problems::addAll);
+
+            assertThat(found).isTrue();
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/payload/items/1/name");
+            assertThat(parser.next()).isEqualTo(JsonParser.Event.END_OBJECT);
+            assertThat(parser.next()).isEqualTo(JsonParser.Event.KEY_NAME);
+            assertThat(parser.getString()).isEqualTo("trailer");
+            parser.close();
+        }
+
+        @Test
+        public void validateAtShouldReturnFalseIfValueIsMissing() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"type\":\"string\"}"));
+            JsonParser parser = sut.getJsonProvider().createParser(new StringReader("{\"a\":[1,2],\"b\":{}}"));
+            List<Problem> problems = new ArrayList<>();
+
+            boolean found = sut.validateAt(parser, "/a/2", schema, problems::addAll);
+            parser.close();
+
+            assertThat(found).isFalse();
+            assertThat(problems).isEmpty();
+        }
+
+        @Test
+        public void validateAtShouldValidateValueInJsonValue() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"type\":\"integer\"}"));
+            JsonObject value = readObject("{\"a\":[1,\"b\"],\"c\":\"d\"}");
+            List<Problem> problems = new ArrayList<>();
+
+            boolean found = sut.validateAt(value, "/a/1", schema, problems::addAll);
+
+            assertThat(found).isTrue();
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/a/1");
+        }
+
+        @Test
+        public void validateShouldReuseResultForSameBytes() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"properties\":{\"a\":{\"type\":\"string\"}}}"));
+            ValidationResultCache cache = sut.createValidationResultCache(8);
+            byte[] document = "{\"a\":42}".getBytes(StandardCharsets.UTF_8);
+
+            List<Problem> first = sut.validate(document, schema, cache);
+            List<Problem> second = sut.validate(document.clone(), schema, cache);
+
+            assertThat(first).extracting(Problem::getPointer).containsExactly("/a");
+            assertThat(second).isSameAs(first);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            assertThat(cache.getHitRatio()).isEqualTo(0.5);
+        }
+
+        @Test
+        public void validateShouldNotShareResultsAmongSchemas() {
+            JsonSchema string = sut.readSchema(new StringReader("{\"type\":\"string\"}"));
+            JsonSchema number = sut.readSchema(new StringReader("{\"type\":\"number\"}"));
+            ValidationResultCache cache = sut.createValidationResultCache(8);
+            byte[] document = "42".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(sut.validate(document, string, cache)).hasSize(1);
+            assertThat(sut.validate(document, number, cache)).isEmpty();
+            assertThat(cache.getHitCount()).isZero();
+            assertThat(cache.size()).isEqualTo(2);
+        }
+
+        @Test
+        public void validateShouldCacheResultOfStreamForSameBytes() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"maxItems\":1}"));
+            ValidationResultCache cache = sut.createValidationResultCache(8);
+            byte[] document = "[1, 2]\n".getBytes(StandardCharsets.UTF_8);
+
+            List<Problem> streamed = sut.validate(new ByteArrayInputStream(document), schema, cache);
+            List<Problem> buffered = sut.validate(document, schema, cache);
+
+            assertThat(streamed).hasSize(1);
+            assertThat(buffered).isSameAs(streamed);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isZero();
+        }
+
+        @Test
+        public void validateShouldLeaveStreamOpen() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"maxItems\":1}"));
+            ValidationResultCache cache = sut.createValidationResultCache(8);
+            boolean[] closed = {false};
+            InputStream in = new ByteArrayInputStream("[1]".getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+
+            List<Problem> problems = sut.validate(in, schema, cache);
+
+            assertThat(problems).isEmpty();
+            assertThat(closed[0]).isFalse();
+        }
+
+        @Test
+        public void validateShouldReuseResultForEqualJsonValue() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"required\":[\"c\"]}"));
+            ValidationResultCache cache = sut.createValidationResultCache(8);
+
+            List<Problem> first = sut.validate(readObject("{\"a\":1,\"b\":[true,null]}"), schema, cache);
+            List<Problem> second = sut.validate(readObject("{\"b\":[true,null],\"a\":1}"), schema, cache);
+            List<Problem> third = sut.validate(readObject("{\"b\":[null,true],\"a\":1}"), schema, cache);
+
+            assertThat(first).hasSize(1);
+            assertThat(second).isSameAs(first);
+            assertThat(third).isNotSameAs(first);
+            assertThat(cache.getHitCount()).isEqualTo(1);
+            assertThat(cache.getMissCount()).isEqualTo(2);
+        }
+
+        @Test
+        public void validateShouldEvictLeastRecentlyUsedResult() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"type\":\"integer\"}"));
+            ValidationResultCache cache = sut.createValidationResultCache(2);
+            byte[] one = "10".getBytes(StandardCharsets.UTF_8);
+            byte[] two = "20".getBytes(StandardCharsets.UTF_8);
+            byte[] three = "30".getBytes(StandardCharsets.UTF_8);
+
+            sut.validate(one, schema, cache);
+            sut.validate(two, schema, cache);
+            sut.validate(one, schema, cache);
+            sut.validate(three, schema, cache);
+            sut.validate(one, schema, cache);
+            sut.validate(two, schema, cache);
+
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.getHitCount()).isEqualTo(2);
+            assertThat(cache.getMissCount()).isEqualTo(4);
+        }
+
+        private JsonObject readObject(String json) {
+            try (JsonReader reader = sut.getJsonProvider().createReader(new StringReader(json))) {
+                return reader.readObject();
+            }
+        }
+
+        @Test
+        public void createPushValidatorShouldValidateDocumentInChunks() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"name\":{\"maxLength\":3},\"tags\":{\"items\":{\"type\":\"string\"}}}}"));
+            byte[] bytes = "{\"name\": \"caf\u00e9s\", \"tags\": [\"a\", 12345]}".getBytes(StandardCharsets.UTF_8);
+
+            JsonPushValidator validator = sut.createPushValidator(schema);
+            for (int i = 0; i < bytes.length; i += 3) {
+                validator.push(ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i)));
+            }
+            List<Problem> problems = validator.complete();
+
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/name", "/tags/1");
+            assertThat(problems.get(1).getLocation().getColumnNumber()).isEqualTo(37);
+        }
+
+        @Test
+        public void createPushValidatorShouldReturnNoProblemsIfValid() {
+            JsonSchema schema = sut.readSchema(new StringReader("{\"type\":\"array\",\"maxItems\":2}"));
+
+            JsonPushValidator validator = sut.createPushValidator(schema);
+            validator.push(ByteBuffer.wrap("[1, ".getBytes(StandardCharsets.UTF_8)));
+            validator.push(ByteBuffer.wrap("2]".getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(validator.complete()).isEmpty();
+        }
+
+        @Test
+        public void createGeneratorShouldWriteValidDocument() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"integer\"},\"b\":{\"items\":{\"type\":\"string\"}}}}"));
+            List<Problem> problems = new ArrayList<>();
+            StringWriter writer = new StringWriter();
+
+            try (JsonGenerator generator = sut.createGenerator(writer, schema, problems::addAll)) {
+                generator.writeStartObject()
+                        .write("a", 42)
+                        .writeStartArray("b")
+                        .write("foo")
+                        .write("bar")
+                        .writeEnd()
+                        .writeEnd();
+            }
+
+            assertThat(writer.toString()).isEqualTo("{\"a\":42,\"b\":[\"foo\",\"bar\"]}");
+            assertThat(problems).isEmpty();
+        }
+
+        @Test
+        public void createGeneratorShouldReportProblemsWithPointers() {
+            JsonSchema schema = sut.readSchema(new StringReader(
+                    "{\"properties\":{\"a\":{\"type\":\"integer\"},\"b\":{\"items\":{\"type\":\"string\"}}}}"));
+            List<Problem> problems = new ArrayList<>();
+            StringWriter writer = new StringWriter();
+
+            try (JsonGenerator generator = sut.createGenerator(writer, schema, problems::addAll)) {
+                generator.writeStartObject()
+                        .write("a", 4.2)
+                        .write("b", getJsonProvider().createArrayBuilder().add("foo").add(42).build())
+                        .writeEnd();
+            }
+
+            assertThat(problems).extracting(Problem::getPointer).containsExactly("/a", "/b/1");
+        }
+
         @Test
         public void getJsonProviderShouldReturnValidJsonProvider() {
             assertThat(sut.getJsonProvider()).isNotNull();
@@ -84,6 +84,75 @@ public class JsonbTest implements Loggable {
         printProblems(problems);
     }
 
+    @Test
+    public void fromJsonShouldValidateEachDocumentWithSameProvider() {
+        String schema = PERSON_SCHEMA;
+        String valid = "{\"name\":\"John Smith\", \"age\": 46}";
+        String invalid = "{\"age\": -1}";
+
+        JsonSchema s = SERVICE.readSchema(new StringReader(schema));
+        List<Problem> problems = new ArrayList<>();
+        JsonProvider provider = SERVICE.createJsonProvider(s, parser -> problems::addAll);
+        Jsonb jsonb = JsonbBuilder.newBuilder().withProvider(provider).build();
+
+        jsonb.fromJson(valid, Person.class);
+        assertThat(problems).isEmpty();
+
+        jsonb.fromJson(invalid, Person.class);
+        assertThat(problems).hasSize(2);
+
+        problems.clear();
+        jsonb.fromJson(valid, Person.class);
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void toJsonShouldSerialize() {
+        JsonSchema s = SERVICE.readSchema(new StringReader(PERSON_SCHEMA));
+        List<Problem> problems = new ArrayList<>();
+        JsonProvider provider = SERVICE.createJsonProvider(s, parser -> problems::addAll, true);
+        Jsonb jsonb = JsonbBuilder.newBuilder().withProvider(provider).build();
+        Person person = new Person();
+        person.name = "John Smith";
+        person.age = 46;
+
+        String json = jsonb.toJson(person);
+
+        assertThat(json).isEqualTo("{\"age\":46,\"name\":\"John Smith\"}");
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void toJsonShouldReportProblemsIfInvalid() {
+        JsonSchema s = SERVICE.readSchema(new StringReader(PERSON_SCHEMA));
+        List<Problem> problems = new ArrayList<>();
+        JsonProvider provider = SERVICE.createJsonProvider(s, parser -> problems::addAll, true);
+        Jsonb jsonb = JsonbBuilder.newBuilder().withProvider(provider).build();
+        Person person = new Person();
+        person.age = -1;
+
+        jsonb.toJson(person);
+
+        assertThat(problems).hasSize(2);
+        assertThat(problems).extracting(Problem::getPointer).contains("/age");
+
+        printProblems(problems);
+    }
+
+    @Test
+    public void toJsonShouldNotValidateByDefault() {
+        JsonSchema s = SERVICE.readSchema(new StringReader(PERSON_SCHEMA));
+        List<Problem> problems = new ArrayList<>();
+        JsonProvider provider = SERVICE.createJsonProvider(s, parser -> problems::addAll);
+        Jsonb jsonb = JsonbBuilder.newBuilder().withProvider(provider).build();
+        Person person = new Person();
+        person.age = -1;
+
+        jsonb.toJson(person);
+
+        assertThat(problems).isEmpty();
+    }
+
     /**
      * A POJO class.
      *
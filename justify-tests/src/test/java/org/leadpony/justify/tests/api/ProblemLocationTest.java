@@ -18,15 +18,26 @@ package org.leadpony.justify.tests.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonValue;
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -34,6 +45,7 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ValidationConfig;
 import org.leadpony.justify.tests.helper.Loggable;
 import org.leadpony.justify.tests.helper.MultiJsonSource;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
@@ -62,6 +74,7 @@ public class ProblemLocationTest implements Loggable {
         "problem/anyOf.txt",
         "problem/contains.txt",
         "problem/format.txt",
+        "problem/if.txt",
         "problem/items.txt",
         "problem/maximum.txt",
         "problem/maxItems.txt",
@@ -93,6 +106,70 @@ public class ProblemLocationTest implements Loggable {
         }
 
         checkProblems(actual, expected);
+
+        checkProblems(readWithBuiltinTokenizer(instance, jsonSchema), expected);
+
+        assertThat(summarize(validateInMemory(instance, jsonSchema)))
+            .containsExactlyInAnyOrderElementsOf(summarize(actual));
+    }
+
+    private static List<Problem> validateInMemory(String instance, JsonSchema schema) {
+        JsonValue value;
+        try (JsonReader reader = Json.createReader(new StringReader(instance))) {
+            value = reader.readValue();
+        }
+        List<Problem> actual = new ArrayList<>();
+        JsonParserFactory factory = SERVICE.createParserFactory(null, schema, parser -> actual::addAll);
+        JsonParser parser;
+        if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+            parser = factory.createParser((JsonArray) value);
+        } else if (value.getValueType() == JsonValue.ValueType.OBJECT) {
+            parser = factory.createParser((JsonObject) value);
+        } else {
+            parser = SERVICE.createParser(new StringReader(instance), schema, actual::addAll);
+        }
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+        return actual;
+    }
+
+    /**
+     * Summarizes the problems without their locations, which are not available
+     * for in-memory instances.
+     */
+    private static List<String> summarize(List<Problem> problems) {
+        return problems.stream()
+                .map(ProblemLocationTest::summarize)
+                .collect(Collectors.toList());
+    }
+
+    private static String summarize(Problem problem) {
+        StringBuilder builder = new StringBuilder()
+                .append(problem.getPointer()).append(' ').append(problem.getKeyword());
+        if (problem.hasBranches()) {
+            for (int i = 0; i < problem.countBranches(); i++) {
+                List<String> branch = summarize(problem.getBranch(i));
+                branch.sort(null);
+                builder.append(' ').append(branch);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static List<Problem> readWithBuiltinTokenizer(String instance, JsonSchema schema) {
+        List<Problem> actual = new ArrayList<>();
+        ValidationConfig config = SERVICE.createValidationConfig()
+                .withSchema(schema)
+                .withProblemHandler(actual::addAll)
+                .withBuiltinTokenizer(true);
+        JsonReaderFactory factory = SERVICE.createReaderFactory(config.getAsMap());
+        InputStream in = new ByteArrayInputStream(instance.getBytes(StandardCharsets.UTF_8));
+        try (JsonReader reader = factory.createReader(in)) {
+            reader.readValue();
+        }
+        return actual;
     }
 
     private static void checkProblems(List<Problem> actual, List<ExpectedProblem> expected) {
@@ -111,6 +111,17 @@ public class ProblemTest implements Loggable {
         assertThat(schema).hasToString("{\"type\":\"string\"}");
     }
 
+    @Test
+    public void getSchemaShouldReturnSchemaInFlattenedAllOf() {
+        Problem problem = createProblem(
+                "{ \"allOf\": [ true, { \"allOf\": [ {}, { \"type\": \"string\" } ] } ] }",
+                INSTANCE);
+        JsonSchema schema = problem.getSchema();
+
+        assertThat(schema).hasToString("{\"type\":\"string\"}");
+        assertThat(problem.getKeyword()).isEqualTo("type");
+    }
+
     @Test
     public void getSchemaShouldReturnBooleanSchema() {
         Problem problem = createProblem("false", INSTANCE);
@@ -16,24 +16,34 @@
 package org.leadpony.justify.tests.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.json.JsonObject;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.ProblemHandlerFactory;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.StringResultCache;
 import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationProfile;
 import org.leadpony.justify.tests.helper.ValidationServiceType;
 
 /**
@@ -135,6 +145,213 @@ public class ValidationConfigTest {
         assertThat(handlerFactory.problems).hasSize(1);
     }
 
+    @Test
+    public void withStringResultCacheShouldReuseResults() {
+        List<Problem> problems = new ArrayList<>();
+        StringResultCache cache = SERVICE.createStringResultCache(16);
+        JsonSchema schema = SERVICE.readSchema(new StringReader(
+                "{\"items\":{\"pattern\":\"^[A-Z]{2}$\",\"maxLength\":2}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withStringResultCache(cache);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("[\"JP\",\"US\",\"JP\",\"JP\",\"jp\",\"jp\"]"));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).hasSize(2);
+        assertThat(cache.getHitCount()).isEqualTo(6);
+        assertThat(cache.getMissCount()).isEqualTo(6);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+        assertThat(cache.getHitRatios())
+            .containsEntry("pattern", 0.5)
+            .containsEntry("maxLength", 0.5);
+    }
+
+    @Test
+    public void createStringResultCacheShouldRoundUpCapacity() {
+        StringResultCache cache = SERVICE.createStringResultCache(100);
+
+        assertThat(cache.capacity()).isEqualTo(128);
+    }
+
+    @Test
+    public void withValidationProfileShouldAggregateKeywords() {
+        ValidationProfile profile = SERVICE.createValidationProfile();
+        JsonSchema schema = SERVICE.readSchema(new StringReader(
+                "{\"items\":{\"type\":\"string\",\"maxLength\":2}}"));
+
+        sut.withSchema(schema);
+        sut.withValidationProfile(profile);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        for (int i = 0; i < 2; i++) {
+            JsonParser parser = factory.createParser(new StringReader("[\"ab\",\"abc\",\"cd\"]"));
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        assertThat(profile.toJson().keySet()).containsExactly("0");
+        JsonObject json = profile.toJson().getJsonObject("0");
+        assertThat(json.keySet()).containsExactly("", "/items");
+        JsonObject items = json.getJsonObject("").getJsonObject("items");
+        assertThat(items.getJsonNumber("evaluators").longValue()).isEqualTo(2);
+        assertThat(items.getJsonNumber("events").longValue()).isEqualTo(10);
+        assertThat(items.getJsonNumber("failures").longValue()).isEqualTo(2);
+        assertThat(items.getJsonNumber("sampledEvents").longValue()).isGreaterThanOrEqualTo(2);
+        // Each test of a string counts as an evaluator processing a single event.
+        JsonObject type = json.getJsonObject("/items").getJsonObject("type");
+        assertThat(type.getJsonNumber("evaluators").longValue()).isEqualTo(6);
+        assertThat(type.getJsonNumber("events").longValue()).isEqualTo(6);
+        assertThat(type.getJsonNumber("failures").longValue()).isZero();
+        JsonObject maxLength = json.getJsonObject("/items").getJsonObject("maxLength");
+        assertThat(maxLength.getJsonNumber("evaluators").longValue()).isEqualTo(6);
+        assertThat(maxLength.getJsonNumber("events").longValue()).isEqualTo(6);
+        assertThat(maxLength.getJsonNumber("failures").longValue()).isEqualTo(2);
+        assertThat(maxLength.getJsonNumber("sampledEvents").longValue()).isEqualTo(6);
+
+        profile.clear();
+
+        assertThat(profile.toJson()).isEmpty();
+    }
+
+    @Test
+    public void withRegexStepLimitShouldReportExceededMatches() {
+        List<Problem> problems = new ArrayList<>();
+        StringResultCache cache = SERVICE.createStringResultCache(16);
+        JsonSchema schema = SERVICE.readSchema(new StringReader(
+                "{\"items\":{\"pattern\":\"a*b\",\"patternProperties\":{\"a*b\":{}}}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withStringResultCache(cache);
+        sut.withRegexStepLimit(1);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        for (int i = 0; i < 2; i++) {
+            JsonParser parser = factory.createParser(new StringReader("[\"aaaaaaaab\",{\"aaaaaaaab\":1}]"));
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        // Exceeded matches are never cached.
+        assertThat(problems).extracting(Problem::getKeyword)
+            .containsExactly("pattern", "patternProperties", "pattern", "patternProperties");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void withRegexStepLimitShouldAllowMatchesWithinLimit() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = SERVICE.readSchema(new StringReader(
+                "{\"patternProperties\":{\"a*b\":{}},\"additionalProperties\":{\"pattern\":\"a*b\"}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withRegexStepLimit(100);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("{\"aaaaaaaab\":\"c\",\"c\":\"aaaaaaaab\"}"));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).isEmpty();
+    }
+
+    @Test
+    public void withRegexStepLimitShouldApplyToContentSchema() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = readDraft201909Schema(
+                "{\"contentMediaType\":\"application/json\",\"contentSchema\":{\"pattern\":\"a*b\"}}");
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withRegexStepLimit(1);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("\"\\\"aaaaaaaab\\\"\""));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).extracting(Problem::getKeyword).containsExactly("contentMediaType");
+    }
+
+    @Test
+    public void withValidationProfileShouldAggregateKeywordsInContentSchema() {
+        ValidationProfile profile = SERVICE.createValidationProfile();
+        JsonSchema schema = readDraft201909Schema(
+                "{\"contentMediaType\":\"application/json\",\"contentSchema\":{\"maxLength\":2}}");
+
+        sut.withSchema(schema);
+        sut.withValidationProfile(profile);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("\"\\\"abc\\\"\""));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        JsonObject json = profile.toJson().getJsonObject("0");
+        assertThat(json.keySet()).contains("/contentSchema");
+        JsonObject maxLength = json.getJsonObject("/contentSchema").getJsonObject("maxLength");
+        assertThat(maxLength.getJsonNumber("failures").longValue()).isEqualTo(1);
+    }
+
+    @Test
+    public void withRegexStepLimitShouldThrowIfNotPositive() {
+        assertThatThrownBy(() -> sut.withRegexStepLimit(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "UTF-8, false",
+        "UTF-8, true",
+        "UTF-16BE, false",
+        "UTF-16LE, false",
+        "UTF-16, false",
+    })
+    public void withBuiltinTokenizerShouldDetectEncoding(String encoding, boolean withBom) {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = SERVICE.readSchema(new StringReader("{\"items\":{\"maxLength\":2}}"));
+        byte[] json = "[\"ab\",\"abc\"]".getBytes(Charset.forName(encoding));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (withBom) {
+            out.write(0xEF);
+            out.write(0xBB);
+            out.write(0xBF);
+        }
+        out.write(json, 0, json.length);
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withBuiltinTokenizer(true);
+
+        JsonParserFactory factory = SERVICE.createParserFactory(sut.getAsMap());
+        try (JsonParser parser = factory.createParser(new ByteArrayInputStream(out.toByteArray()))) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        assertThat(problems).extracting(Problem::getPointer).containsExactly("/1");
+    }
+
+    private static JsonSchema readDraft201909Schema(String json) {
+        return SERVICE.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(SpecVersion.DRAFT_2019_09)
+                .build()
+                .createSchemaReader(new StringReader(json))
+                .read();
+    }
+
     /**
      * A mock class of {@link ProblemHandlerFactory}.
      *
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.json.Json;
@@ -41,8 +42,10 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInfo;
@@ -173,6 +176,16 @@ public abstract class AbstractOfficialTest implements Loggable {
         return Stream.of(files).flatMap(AbstractOfficialTest::readTestCases);
     }
 
+    /**
+     * Generates the test cases whose instances are JSON arrays or JSON objects.
+     *
+     * @param files the files containing the test cases.
+     * @return the stream of the test cases.
+     */
+    public static Stream<TestCase> generateInMemoryTestCases(String... files) {
+        return generateTestCases(files).filter(test -> test.getData() instanceof JsonStructure);
+    }
+
     /**
      * Tests with a test case.
      *
@@ -217,6 +230,45 @@ public abstract class AbstractOfficialTest implements Loggable {
         printProblems(test, problems);
     }
 
+    /**
+     * Tests with a test case, validating the instance as an in-memory value. The
+     * problems found must be the same as found by validating the stream.
+     *
+     * @param test
+     */
+    public void testInMemory(TestCase test) {
+        testInMemory(getSchema(test.getSchema()), test.getData(), test.getResult());
+    }
+
+    /**
+     * Tests with a negated test case, validating the instance as an in-memory
+     * value.
+     *
+     * @param test
+     */
+    public void testNegatedInMemory(TestCase test) {
+        testInMemory(getNegatedSchema(test.getSchema()), test.getData(), !test.getResult());
+    }
+
+    private void testInMemory(JsonSchema schema, JsonValue data, boolean valid) {
+        List<Problem> expected = new ArrayList<>();
+        JsonParser parser = createValidator(data, schema, expected::addAll);
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+
+        List<Problem> problems = new ArrayList<>();
+        parser = createInMemoryValidator(data, schema, problems::addAll);
+        while (parser.hasNext()) {
+            parser.next();
+        }
+        parser.close();
+
+        assertThat(problems.isEmpty()).isEqualTo(valid);
+        assertThat(summarize(problems)).containsExactlyInAnyOrderElementsOf(summarize(expected));
+    }
+
     private JsonSchema getSchema(JsonValue value) {
         if (value == lastValue) {
             return lastSchema;
@@ -251,6 +303,31 @@ public abstract class AbstractOfficialTest implements Loggable {
         return SERVICE.createParser(reader, schema, handler);
     }
 
+    private JsonParser createInMemoryValidator(JsonValue data, JsonSchema schema, ProblemHandler handler) {
+        JsonParserFactory factory = SERVICE.createParserFactory(null, schema, parser -> handler);
+        if (data.getValueType() == JsonValue.ValueType.ARRAY) {
+            return factory.createParser((JsonArray) data);
+        } else {
+            return factory.createParser((JsonObject) data);
+        }
+    }
+
+    private static List<String> summarize(List<Problem> problems) {
+        return problems.stream()
+                .flatMap(AbstractOfficialTest::summarize)
+                .collect(Collectors.toList());
+    }
+
+    private static Stream<String> summarize(Problem problem) {
+        Stream<String> summary = Stream.of(problem.getPointer() + " " + problem.getMessage());
+        if (problem.hasBranches()) {
+            for (int index = 0; index < problem.countBranches(); index++) {
+                summary = Stream.concat(summary, summarize(problem.getBranch(index)).stream());
+            }
+        }
+        return summary;
+    }
+
     private static Stream<TestCase> readTestCases(String name) {
         Function<JsonObject, Stream<TestCase>> mapper = new Function<JsonObject, Stream<TestCase>>() {
             private int index;
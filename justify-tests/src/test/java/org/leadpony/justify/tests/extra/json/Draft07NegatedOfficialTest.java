@@ -36,6 +36,10 @@ public class Draft07NegatedOfficialTest extends AbstractOfficialTest {
         return Draft07OfficialTest.optional();
     }
 
+    public static Stream<TestCase> mandatoryInMemory() {
+        return Draft07OfficialTest.mandatoryInMemory();
+    }
+
     @ParameterizedTest
     @MethodSource("mandatory")
     public void testMandatory(TestCase test) {
@@ -47,4 +51,10 @@ public class Draft07NegatedOfficialTest extends AbstractOfficialTest {
     public void testOptional(TestCase test) {
         testNegated(test);
     }
+
+    @ParameterizedTest
+    @MethodSource("mandatoryInMemory")
+    public void testMandatoryInMemory(TestCase test) {
+        testNegatedInMemory(test);
+    }
 }
@@ -103,6 +103,10 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
         return generateTestCases(OPTIONAL);
     }
 
+    public static Stream<TestCase> mandatoryInMemory() {
+        return generateInMemoryTestCases(MANDATORY);
+    }
+
     @ParameterizedTest
     @MethodSource("mandatory")
     public void testMandatory(TestCase test) {
@@ -114,4 +118,10 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
     public void testOptional(TestCase test) {
         test(test);
     }
+
+    @ParameterizedTest
+    @MethodSource("mandatoryInMemory")
+    public void testMandatoryInMemory(TestCase test) {
+        testInMemory(test);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.extra.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.tests.helper.ValidationServiceType;
+
+/**
+ * @author leadpony
+ */
+@Spec(SpecVersion.DRAFT_2019_09)
+public class Draft201909UnofficialTest extends AbstractOfficialTest {
+
+    private static final String[] MANDATORY = {
+            "/org/leadpony/justify/tests/api/instance/contentSchema.json",
+            "/org/leadpony/justify/tests/api/instance/logicalOptimization.json",
+            "/org/leadpony/justify/tests/api/instance/recursiveRef.json",
+    };
+
+    private static final String STRICT_TREE = "{"
+            + "\"$recursiveAnchor\": true,"
+            + "\"type\": \"object\","
+            + "\"required\": [\"data\"],"
+            + "\"properties\": {"
+            + "\"children\": { \"type\": \"array\", \"items\": { \"$recursiveRef\": \"#\" } }"
+            + "}"
+            + "}";
+
+    private static final int TREE_DEPTH = 500;
+
+    public static Stream<TestCase> mandatory() {
+        return generateTestCases(MANDATORY);
+    }
+
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatory(TestCase test) {
+        test(test);
+    }
+
+    @Test
+    public void testDeepTree() {
+        JsonValidationService service = ValidationServiceType.DEFAULT.getService();
+        JsonSchema schema = service.createSchemaReaderFactoryBuilder()
+                .withDefaultSpecVersion(SpecVersion.DRAFT_2019_09)
+                .build()
+                .createSchemaReader(new StringReader(STRICT_TREE))
+                .read();
+
+        StringBuilder instance = new StringBuilder();
+        StringBuilder pointer = new StringBuilder();
+        for (int i = 0; i < TREE_DEPTH; i++) {
+            instance.append("{\"data\":").append(i).append(",\"children\":[");
+            pointer.append("/children/0");
+        }
+        instance.append("{}");
+        for (int i = 0; i < TREE_DEPTH; i++) {
+            instance.append("]}");
+        }
+
+        List<Problem> problems = new ArrayList<>();
+        try (JsonParser parser = service.createParser(
+                new StringReader(instance.toString()), schema, problems::addAll)) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo(pointer.toString());
+        assertThat(problems.get(0).getKeyword()).isEqualTo("required");
+    }
+}
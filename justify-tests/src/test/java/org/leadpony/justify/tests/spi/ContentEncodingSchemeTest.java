@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.tests.helper.ValidationServiceType;
+
+/**
+ * A test for content encoding schemes provided through SPI.
+ *
+ * @author leadpony
+ */
+public class ContentEncodingSchemeTest {
+
+    private static final JsonValidationService SERVICE = ValidationServiceType.DEFAULT.getService();
+
+    private static final String SCHEMA = "{"
+            + "\"contentEncoding\": \"counting-base64\","
+            + "\"contentMediaType\": \"application/json\""
+            + "}";
+
+    @BeforeEach
+    public void setUp() {
+        CountingEncodingScheme.PASSES.set(0);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // {"a":1}
+        "eyJhIjoxfQ==, , 1",
+        // {"a":
+        "eyJhIjo=, contentMediaType, 2",
+        "!, contentEncoding, 2",
+    })
+    public void validateShouldDecodeValidContentOnlyOnce(String value, String keyword, int passes) {
+        JsonSchema schema = SERVICE.readSchema(new StringReader(SCHEMA));
+
+        List<Problem> problems = new ArrayList<>();
+        String instance = "\"" + value + "\"";
+        try (JsonParser parser = SERVICE.createParser(new StringReader(instance), schema, problems::addAll)) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        if (keyword == null) {
+            assertThat(problems).isEmpty();
+        } else {
+            assertThat(problems).extracting(Problem::getKeyword).containsExactly(keyword);
+        }
+        // Only the invalid contents are decoded again to find the keyword failed.
+        assertThat(CountingEncodingScheme.PASSES).hasValue(passes);
+    }
+}
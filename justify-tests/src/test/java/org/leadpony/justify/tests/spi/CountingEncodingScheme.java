@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.leadpony.justify.spi.ContentEncodingScheme;
+
+/**
+ * Content encoding scheme representing "counting-base64", which counts the
+ * passes made over the encoded strings.
+ *
+ * @author leadpony
+ */
+public class CountingEncodingScheme implements ContentEncodingScheme {
+
+    /**
+     * The number of the passes over the encoded strings.
+     */
+    static final AtomicInteger PASSES = new AtomicInteger();
+
+    @Override
+    public String name() {
+        return "counting-base64";
+    }
+
+    @Override
+    public boolean canDecode(String src) {
+        try {
+            decode(src);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public byte[] decode(String src) {
+        PASSES.incrementAndGet();
+        return Base64.getDecoder().decode(src);
+    }
+
+    @Override
+    public InputStream decodeAsStream(String src) {
+        return new ByteArrayInputStream(decode(src));
+    }
+}
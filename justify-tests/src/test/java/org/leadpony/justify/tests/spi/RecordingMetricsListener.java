@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.spi;
+
+import java.net.URI;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.spi.ValidationMetricsListener;
+
+/**
+ * A metrics listener recording all notifications.
+ *
+ * <p>
+ * This listener is registered only for the test run of
+ * {@link ValidationMetricsListenerTest}, which has its own JVM.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class RecordingMetricsListener implements ValidationMetricsListener {
+
+    static final Queue<JsonSchema> SCHEMAS_READ = new ConcurrentLinkedQueue<>();
+    static final Queue<URI> REFERENCES_RESOLVED = new ConcurrentLinkedQueue<>();
+    static final Queue<Document> DOCUMENTS_VALIDATED = new ConcurrentLinkedQueue<>();
+
+    /**
+     * A document validated.
+     *
+     * @author leadpony
+     */
+    static class Document {
+
+        final JsonSchema schema;
+        final long events;
+        final long offset;
+        final int problems;
+
+        Document(JsonSchema schema, long events, long offset, int problems) {
+            this.schema = schema;
+            this.events = events;
+            this.offset = offset;
+            this.problems = problems;
+        }
+    }
+
+    /**
+     * Discards all notifications recorded so far.
+     */
+    static void clear() {
+        SCHEMAS_READ.clear();
+        REFERENCES_RESOLVED.clear();
+        DOCUMENTS_VALIDATED.clear();
+    }
+
+    @Override
+    public void schemaRead(JsonSchema schema, long nanos) {
+        SCHEMAS_READ.add(schema);
+    }
+
+    @Override
+    public void referenceResolved(URI targetId, boolean resolved, long nanos) {
+        if (resolved) {
+            REFERENCES_RESOLVED.add(targetId);
+        }
+    }
+
+    @Override
+    public void documentValidated(JsonSchema schema, long events, long offset, int problems, long nanos) {
+        DOCUMENTS_VALIDATED.add(new Document(schema, events, offset, problems));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.tests.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.tests.helper.ValidationServiceType;
+import org.leadpony.justify.tests.spi.RecordingMetricsListener.Document;
+
+/**
+ * A test for metrics listeners.
+ *
+ * <p>
+ * This test runs in a JVM separate from the other tests, where
+ * {@link RecordingMetricsListener} is provided through SPI.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class ValidationMetricsListenerTest {
+
+    private static final JsonValidationService SERVICE = ValidationServiceType.DEFAULT.getService();
+
+    private static final String SCHEMA = "{"
+            + "\"$id\": \"http://example.com/metrics.json\","
+            + "\"type\": \"array\","
+            + "\"items\": { \"$ref\": \"#/definitions/positive\" },"
+            + "\"definitions\": { \"positive\": { \"exclusiveMinimum\": 0 } }"
+            + "}";
+
+    @BeforeEach
+    public void setUp() {
+        RecordingMetricsListener.clear();
+    }
+
+    @Test
+    public void listenerShouldReceiveMetrics() {
+        JsonSchema schema = SERVICE.readSchema(new StringReader(SCHEMA));
+
+        assertThat(RecordingMetricsListener.SCHEMAS_READ).contains(schema);
+        assertThat(RecordingMetricsListener.REFERENCES_RESOLVED)
+                .contains(URI.create("http://example.com/metrics.json#/definitions/positive"));
+
+        List<Problem> problems = new ArrayList<>();
+        try (JsonParser parser = SERVICE.createParser(new StringReader("[1, 0, 2]"), schema, problems::addAll)) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+
+        List<Document> documents = RecordingMetricsListener.DOCUMENTS_VALIDATED.stream()
+                .filter(d -> d.schema == schema)
+                .collect(Collectors.toList());
+        assertThat(documents).hasSize(1);
+        Document document = documents.get(0);
+        assertThat(document.events).isEqualTo(5);
+        assertThat(document.offset).isEqualTo(9);
+        assertThat(document.problems).isEqualTo(1);
+        assertThat(problems).hasSize(1);
+    }
+}
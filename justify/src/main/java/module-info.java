@@ -30,6 +30,8 @@ module org.leadpony.justify {
     uses org.leadpony.justify.spi.ContentMimeType;
     uses org.leadpony.justify.spi.FormatAttribute;
     uses org.leadpony.justify.spi.JsonValidationProvider;
+    uses org.leadpony.justify.spi.RegexEngine;
+    uses org.leadpony.justify.spi.ValidationMetricsListener;
 
     provides org.leadpony.justify.spi.JsonValidationProvider
         with org.leadpony.justify.internal.provider.DefaultJsonValidationProvider;
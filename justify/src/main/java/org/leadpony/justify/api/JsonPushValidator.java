@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.api;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * A validator interface which accepts a JSON document in chunks of bytes as
+ * they arrive, without blocking.
+ *
+ * <p>
+ * The document must be encoded in UTF-8. The following example shows how to
+ * validate a document received in two chunks:
+ * </p>
+ *
+ * <pre>
+ * <code>
+ * JsonPushValidator validator = service.createPushValidator(schema);
+ * validator.push(ByteBuffer.wrap(firstChunk));
+ * validator.push(ByteBuffer.wrap(secondChunk));
+ * List&lt;Problem&gt; problems = validator.complete();
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * Each instance of this type is NOT safe for use by multiple concurrent
+ * threads.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface JsonPushValidator {
+
+    /**
+     * Pushes the next chunk of the JSON document to this validator. All of the
+     * remaining bytes in the chunk are consumed before this method returns.
+     *
+     * @param chunk the next chunk of the document, cannot be {@code null}.
+     * @throws NullPointerException  if the specified {@code chunk} is
+     *                               {@code null}.
+     * @throws JsonParsingException  if the bytes pushed so far do not form a
+     *                               valid JSON document.
+     * @throws IllegalStateException if this validator was already completed.
+     */
+    void push(ByteBuffer chunk);
+
+    /**
+     * Signals the end of the JSON document and returns the problems found.
+     *
+     * @return the list of problems found in the document, which is empty if the
+     *         document is valid. The list is unmodifiable.
+     * @throws JsonParsingException  if the document ended prematurely.
+     * @throws IllegalStateException if this validator was already completed.
+     */
+    List<Problem> complete();
+}
@@ -93,6 +93,12 @@ public interface JsonSchemaReader extends Closeable {
      */
     String METASCHEMA = "org.leadpony.justify.api.JsonSchemaReader.METASCHEMA";
 
+    /**
+     * The property used to specify whether the structurally equal subschemas are
+     * shared among the schemas read or not.
+     */
+    String SCHEMA_INTERNING = "org.leadpony.justify.api.JsonSchemaReader.SCHEMA_INTERNING";
+
     /**
      * Returns a JSON schema that is represented in the input source. This method
      * needs to be called only once for a reader instance.
@@ -143,4 +143,25 @@ public interface JsonSchemaReaderFactoryBuilder {
      *                              {@code null}.
      */
     JsonSchemaReaderFactoryBuilder withMetaschema(JsonSchema metaschema);
+
+    /**
+     * Specifies whether the structurally equal subschemas are shared among all
+     * schemas read by the factory or not. By default, this option is disabled.
+     *
+     * <p>
+     * When this option is enabled, a subschema is replaced with the instance
+     * previously read by any reader created by the same factory, provided that
+     * both are equal as JSON values and written in the same version of the
+     * specification. Subschemas containing identifiers, anchors, references or
+     * unknown keywords are never shared. The instances shared are held weakly
+     * and released once no schema refers to them. Note that
+     * {@link JsonSchema#getBaseUri()} of a shared subschema returns the base URI
+     * with which it was read for the first time.
+     * </p>
+     *
+     * @param enabled {@code true} to share the equal subschemas, {@code false}
+     *                otherwise.
+     * @return this builder.
+     */
+    JsonSchemaReaderFactoryBuilder withSchemaInterning(boolean enabled);
 }
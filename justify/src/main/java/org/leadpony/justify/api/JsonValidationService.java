@@ -17,19 +17,29 @@
 package org.leadpony.justify.api;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Consumer;
 
 import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonPatch;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
 
 import org.leadpony.justify.spi.JsonValidationProvider;
 
@@ -225,6 +235,41 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     ValidationConfig createValidationConfig();
 
+    /**
+     * Creates a bounded cache of the results of the keywords tested against string
+     * values. The cache can be specified in the configuration by
+     * {@link ValidationConfig#withStringResultCache(StringResultCache)}.
+     *
+     * @param capacity the maximum number of entries per keyword, which will be
+     *                 rounded up to a power of two.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive.
+     */
+    StringResultCache createStringResultCache(int capacity);
+
+    /**
+     * Creates a bounded cache of the results of validating whole JSON documents.
+     * The cache can be specified when validating documents by
+     * {@link #validate(byte[], JsonSchema, ValidationResultCache)} and the other
+     * overloaded methods.
+     *
+     * @param capacity the maximum number of results in the cache.
+     * @return newly created cache, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive.
+     */
+    ValidationResultCache createValidationResultCache(int capacity);
+
+    /**
+     * Creates an empty profile of validations. The profile can be specified in
+     * the configuration by
+     * {@link ValidationConfig#withValidationProfile(ValidationProfile)}.
+     *
+     * @return newly created profile, never be {@code null}.
+     */
+    ValidationProfile createValidationProfile();
+
     /**
      * Creates a parser factory for creating {@code JsonParser} instances. Parsers
      * created by the factory can validate JSON documents while parsing.
@@ -349,6 +394,270 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonParser createParser(JsonParser parser, JsonSchema schema, ProblemHandler handler);
 
+    /**
+     * Validates a JSON document against multiple JSON schemas, parsing the
+     * document only once.
+     *
+     * <p>
+     * Each schema stops being evaluated as soon as its result is determined. If
+     * {@code collectsProblems} is {@code false}, a schema also stops being
+     * evaluated at its first problem, and the parser may not be consumed to the
+     * end when no schema is being evaluated.
+     * </p>
+     *
+     * @param parser           the parser from which JSON is to be read, which must
+     *                         not have been started yet.
+     * @param schemas          the JSON schemas to apply when validating JSON
+     *                         document. The same schema may appear more than once.
+     * @param collectsProblems {@code true} to collect all problems for each
+     *                         schema, {@code false} to collect only the first
+     *                         problem.
+     * @return the list of the problems found for each schema, in the order of the
+     *         specified schemas. The list of the problems is empty if the JSON
+     *         document is valid against the schema.
+     * @throws JsonException        if an I/O error occurs while parsing.
+     * @throws JsonParsingException if the document is not a well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    List<List<Problem>> validateAll(JsonParser parser, List<JsonSchema> schemas, boolean collectsProblems);
+
+    /**
+     * Validates a JSON document against multiple JSON schemas with the specified
+     * configuration, parsing the document only once.
+     *
+     * <p>
+     * The configuration may be created with {@link ValidationConfig}. The string
+     * result cache, the validation profile and the step limit of regular
+     * expressions are applied to all of the schemas. The other properties are
+     * ignored.
+     * </p>
+     *
+     * @param config           the map of provider specific properties to
+     *                         configure the validation. This may be empty.
+     * @param parser           the parser from which JSON is to be read, which must
+     *                         not have been started yet.
+     * @param schemas          the JSON schemas to apply when validating JSON
+     *                         document. The same schema may appear more than once.
+     * @param collectsProblems {@code true} to collect all problems for each
+     *                         schema, {@code false} to collect only the first
+     *                         problem.
+     * @return the list of the problems found for each schema, in the order of the
+     *         specified schemas. The list of the problems is empty if the JSON
+     *         document is valid against the schema.
+     * @throws JsonException        if an I/O error occurs while parsing.
+     * @throws JsonParsingException if the document is not a well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     * @see #validateAll(JsonParser, List, boolean)
+     */
+    List<List<Problem>> validateAll(Map<String, ?> config, JsonParser parser, List<JsonSchema> schemas,
+            boolean collectsProblems);
+
+    /**
+     * Applies a JSON Patch to a JSON document which is already known to be valid
+     * against the JSON schema, and validates only the parts of the patched
+     * document that the patch can affect.
+     *
+     * <p>
+     * Each value added or replaced by the patch is validated against the
+     * subschemas applied to its location. The keywords constraining the members
+     * of a container, such as {@code required} or {@code maxProperties}, are
+     * checked again only for the containers which gained or lost members. When
+     * an enclosing schema contains a keyword whose result depends on the whole
+     * value, such as {@code anyOf}, {@code enum} or {@code uniqueItems}, the
+     * enclosing value is validated entirely instead. Arrays are also validated
+     * entirely when their items were added or removed.
+     * </p>
+     * <p>
+     * The problems found are reported with the JSON pointers of the patched
+     * document, but without locations in the text. If the original document
+     * was not valid, the problems it already had may not be reported.
+     * </p>
+     *
+     * @param <T>      the type of the document.
+     * @param schema   the JSON schema against which the original document was
+     *                 valid.
+     * @param document the original JSON document.
+     * @param patch    the JSON Patch to apply.
+     * @param handler  the handler of the problems found in the patched document.
+     * @return the patched document.
+     * @throws JsonException        if the patch could not be applied.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    <T extends JsonStructure> T applyAndValidate(JsonSchema schema, T document, JsonPatch patch,
+            ProblemHandler handler);
+
+    /**
+     * Applies a JSON Merge Patch to a JSON document which is already known to be
+     * valid against the JSON schema, and validates only the parts of the patched
+     * document that the patch can affect.
+     *
+     * <p>
+     * The members merged are validated in the same way as
+     * {@link #applyAndValidate(JsonSchema, JsonStructure, JsonPatch, ProblemHandler)}.
+     * </p>
+     *
+     * @param schema   the JSON schema against which the original document was
+     *                 valid.
+     * @param document the original JSON document.
+     * @param patch    the JSON Merge Patch to apply.
+     * @param handler  the handler of the problems found in the patched document.
+     * @return the patched document.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    JsonValue applyAndValidate(JsonSchema schema, JsonValue document, JsonMergePatch patch,
+            ProblemHandler handler);
+
+    /**
+     * Validates only the value located by a JSON pointer in a JSON document
+     * read from the specified parser.
+     *
+     * <p>
+     * The values before the target value are skipped without being validated,
+     * and the parser is not advanced any further once the target value ended.
+     * The parser is not closed by this method. A subschema of a larger schema can
+     * be applied to the target value by finding it with
+     * {@link JsonSchema#findSchema(String)}.
+     * </p>
+     * <p>
+     * The following example validates the items of a message against one of the
+     * definitions in the schema:
+     * </p>
+     *
+     * <pre>
+     * <code>
+     * JsonSchema item = schema.findSchema("/definitions/Item").get();
+     * boolean found = service.validateAt(parser, "/payload/items", item, handler);
+     * </code>
+     * </pre>
+     *
+     * @param parser  the parser from which JSON is to be read, which must not
+     *                have been started yet.
+     * @param pointer the JSON pointer of the value to validate.
+     * @param schema  the JSON schema to apply when validating the value.
+     * @param handler the object which handles problems found during the
+     *                validation. The problems are reported with the JSON
+     *                pointers in the whole document.
+     * @return {@code true} if the value was found and validated, {@code false}
+     *         if the document does not contain the value.
+     * @throws JsonException        if the JSON pointer is invalid or an I/O error
+     *                              occurs while parsing.
+     * @throws JsonParsingException if the document is not a well-formed JSON.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    boolean validateAt(JsonParser parser, String pointer, JsonSchema schema, ProblemHandler handler);
+
+    /**
+     * Validates only the value located by a JSON pointer in the specified JSON
+     * value.
+     *
+     * @param value   the JSON value containing the value to validate.
+     * @param pointer the JSON pointer of the value to validate.
+     * @param schema  the JSON schema to apply when validating the value.
+     * @param handler the object which handles problems found during the
+     *                validation. The problems are reported with the JSON
+     *                pointers in the whole value.
+     * @return {@code true} if the value was found and validated, {@code false}
+     *         if the specified value does not contain the value.
+     * @throws JsonException        if the JSON pointer is invalid.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     * @see #validateAt(JsonParser, String, JsonSchema, ProblemHandler)
+     */
+    boolean validateAt(JsonValue value, String pointer, JsonSchema schema, ProblemHandler handler);
+
+    /**
+     * Validates a JSON document given as bytes, reusing the result cached for the
+     * same bytes and the same JSON schema if exists.
+     *
+     * <p>
+     * The bytes are digested before being parsed. If the cache has no result for
+     * the document, the document is validated and the result is added to the
+     * cache.
+     * </p>
+     *
+     * @param document the bytes of the JSON document. The character encoding is
+     *                 determined as described in RFC 7159.
+     * @param schema   the JSON schema to apply when validating JSON document.
+     * @param cache    the cache of the results, which must be created by
+     *                 {@link #createValidationResultCache(int)}.
+     * @return the list of problems found, which cannot be modified. The list is
+     *         empty if the JSON document is valid.
+     * @throws JsonException            if an I/O error occurs while parsing.
+     * @throws JsonParsingException     if the document is not a well-formed JSON.
+     * @throws NullPointerException     if any of specified parameters is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by this service.
+     */
+    List<Problem> validate(byte[] document, JsonSchema schema, ValidationResultCache cache);
+
+    /**
+     * Validates a JSON document read from a byte stream, and adds the result to
+     * the cache.
+     *
+     * <p>
+     * The bytes are digested while the document is validated, in the same pass
+     * over the stream. As the digest is known only after the stream was read to
+     * the end, the document is always validated, and the result is cached for the
+     * same bytes to be validated later by
+     * {@link #validate(byte[], JsonSchema, ValidationResultCache)}. This method
+     * does not count as a lookup of the cache.
+     * </p>
+     *
+     * @param in     the byte stream from which the JSON document is to be read.
+     *               The character encoding is determined as described in RFC
+     *               7159. The specified stream will be read to the end but not
+     *               closed in this method, and the caller is responsible for
+     *               closing it.
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @param cache  the cache of the results, which must be created by
+     *               {@link #createValidationResultCache(int)}.
+     * @return the list of problems found, which cannot be modified. The list is
+     *         empty if the JSON document is valid.
+     * @throws JsonException            if an I/O error occurs while parsing.
+     * @throws JsonParsingException     if the document is not a well-formed JSON.
+     * @throws NullPointerException     if any of specified parameters is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by this service.
+     */
+    List<Problem> validate(InputStream in, JsonSchema schema, ValidationResultCache cache);
+
+    /**
+     * Validates a JSON value, reusing the result cached for an equal value and the
+     * same JSON schema if exists.
+     *
+     * <p>
+     * The value is digested in its canonical form, in which the properties of the
+     * objects are ordered by their names. Therefore objects differing only in the
+     * order of their properties share the same result. The problems found in JSON
+     * values have no locations in the text.
+     * </p>
+     *
+     * @param value  the JSON value to validate.
+     * @param schema the JSON schema to apply when validating the value.
+     * @param cache  the cache of the results, which must be created by
+     *               {@link #createValidationResultCache(int)}.
+     * @return the list of problems found, which cannot be modified. The list is
+     *         empty if the JSON value is valid.
+     * @throws NullPointerException     if any of specified parameters is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by this service.
+     */
+    List<Problem> validate(JsonValue value, JsonSchema schema, ValidationResultCache cache);
+
+    /**
+     * Creates a validator which accepts a JSON document encoded in UTF-8 in chunks
+     * of bytes. The validator never blocks, so it can be used on the threads
+     * performing asynchronous I/O.
+     *
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @return newly created instance of {@link JsonPushValidator}.
+     * @throws NullPointerException if the specified {@code schema} is
+     *                              {@code null}.
+     */
+    JsonPushValidator createPushValidator(JsonSchema schema);
+
     /**
      * Creates a reader factory for creating {@code JsonReader} instances. Readers
      * created by the factory can validate JSON documents while reading.
@@ -467,6 +776,69 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonReader createReader(JsonParser parser, JsonSchema schema, ProblemHandler handler);
 
+    /**
+     * Creates a generator factory for creating {@code JsonGenerator} instances.
+     * Generators created by the factory validate JSON documents while writing.
+     *
+     * <p>
+     * The factory is configured with the specified map of configuration properties.
+     * Note that the generators cannot insert default values into the output.
+     * </p>
+     *
+     * @param config         the map of provider-specific properties to configure
+     *                       the JSON generators. The map may be empty or
+     *                       {@code null}.
+     * @param schema         the JSON schema to apply when validating JSON document.
+     * @param handlerFactory the factory to supply problem handlers, cannot be
+     *                       {@code null}.
+     * @return newly created instance of {@code JsonGeneratorFactory}, which is
+     *         defined in the JSON Processing API.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config, JsonSchema schema,
+            ProblemHandlerFactory handlerFactory);
+
+    /**
+     * Creates a JSON generator for writing JSON to the specified character stream,
+     * which validates the JSON document while writing.
+     *
+     * <p>
+     * The problems found are reported with the JSON pointers of the written values,
+     * but without any locations.
+     * </p>
+     *
+     * @param writer  the character stream to which JSON is to be written.
+     * @param schema  the JSON schema to apply when validating JSON document.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @return newly created instance of {@code JsonGenerator}, which is defined in
+     *         the JSON Processing API. It must be closed by the method caller after
+     *         use.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    JsonGenerator createGenerator(Writer writer, JsonSchema schema, ProblemHandler handler);
+
+    /**
+     * Creates a JSON generator for writing JSON to the specified byte stream, which
+     * validates the JSON document while writing. Characters written to the stream
+     * are encoded into bytes using UTF-8 encoding.
+     *
+     * <p>
+     * The problems found are reported with the JSON pointers of the written values,
+     * but without any locations.
+     * </p>
+     *
+     * @param out     the byte stream to which JSON is to be written.
+     * @param schema  the JSON schema to apply when validating JSON document.
+     * @param handler the object which handles problems found during the validation,
+     *                cannot be {@code null}.
+     * @return newly created instance of {@code JsonGenerator}, which is defined in
+     *         the JSON Processing API. It must be closed by the method caller after
+     *         use.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     */
+    JsonGenerator createGenerator(OutputStream out, JsonSchema schema, ProblemHandler handler);
+
     /**
      * Creates a JSON provider for validating JSON documents while parsing and
      * reading. This method is intended to be used with Java API for JSON Binding
@@ -481,6 +853,25 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonProvider createJsonProvider(JsonSchema schema, ProblemHandlerFactory handlerFactory);
 
+    /**
+     * Creates a JSON provider for validating JSON documents while parsing and
+     * reading, and optionally while generating. This method is intended to be used
+     * with Java API for JSON Binding (JSON-B).
+     *
+     * @param schema           the JSON schema to apply when validating JSON
+     *                         document.
+     * @param handlerFactory   the factory to supply problem handlers, cannot be
+     *                         {@code null}.
+     * @param validatesOutput  {@code true} to validate also the JSON documents
+     *                         written by the generators of the provider, e.g.
+     *                         serialized by JSON-B, {@code false} otherwise.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     * @return newly created instance of {@code JsonProvider}, which is defined in
+     *         the JSON Processing API.
+     */
+    JsonProvider createJsonProvider(JsonSchema schema, ProblemHandlerFactory handlerFactory,
+            boolean validatesOutput);
+
     /**
      * Creates a problem handler which will print problems with the aid of the
      * specified line consumer.
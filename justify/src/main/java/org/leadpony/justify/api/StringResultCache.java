@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.api;
+
+import java.util.Map;
+
+/**
+ * A bounded cache of the results of the keywords tested against string values.
+ *
+ * <p>
+ * The cache keeps the results for each keyword separately, and each keyword
+ * can hold at most the number of entries specified on creation. A result
+ * recently computed may be evicted by another result for a different string.
+ * Instances of this type are thread-safe and can be shared by multiple
+ * validators.
+ * </p>
+ *
+ * <p>
+ * The cache is not used by default. It must be specified explicitly by
+ * {@link ValidationConfig#withStringResultCache(StringResultCache)}.
+ * </p>
+ *
+ * @author leadpony
+ * @see JsonValidationService#createStringResultCache(int)
+ */
+public interface StringResultCache {
+
+    /**
+     * Returns the maximum number of entries per keyword.
+     *
+     * @return the maximum number of entries per keyword.
+     */
+    int capacity();
+
+    /**
+     * Returns the number of lookups which found the cached result.
+     *
+     * @return the number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which did not find the cached result.
+     *
+     * @return the number of misses.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of the hits to all lookups.
+     *
+     * @return the hit ratio between 0.0 and 1.0, or 0.0 if no lookup was done.
+     */
+    double getHitRatio();
+
+    /**
+     * Returns the hit ratios for each keyword name.
+     *
+     * @return the map whose keys are the keyword names and whose values are the
+     *         hit ratios, never be {@code null}.
+     */
+    Map<String, Double> getHitRatios();
+
+    /**
+     * Removes all cached results and resets the statistics.
+     */
+    void clear();
+}
@@ -50,6 +50,29 @@ public interface ValidationConfig {
      */
     String SCHEMA = "org.leadpony.justify.api.ValidationConfig.SCHEMA";
 
+    /**
+     * The property used to specify the cache of the results tested against string
+     * values.
+     */
+    String STRING_RESULT_CACHE = "org.leadpony.justify.api.ValidationConfig.STRING_RESULT_CACHE";
+
+    /**
+     * The property used to specify whether byte streams will be read by the
+     * built-in tokenizer or not.
+     */
+    String BUILTIN_TOKENIZER = "org.leadpony.justify.api.ValidationConfig.BUILTIN_TOKENIZER";
+
+    /**
+     * The property used to specify the profile of validations.
+     */
+    String VALIDATION_PROFILE = "org.leadpony.justify.api.ValidationConfig.VALIDATION_PROFILE";
+
+    /**
+     * The property used to specify the number of steps allowed per character for
+     * a match of regular expression.
+     */
+    String REGEX_STEP_LIMIT = "org.leadpony.justify.api.ValidationConfig.REGEX_STEP_LIMIT";
+
     /**
      * Returns all configuration properties as an unmodifiable map.
      *
@@ -129,4 +152,72 @@ public interface ValidationConfig {
      * @return this builder.
      */
     ValidationConfig withDefaultValues(boolean usingDefaultValues);
+
+    /**
+     * Specifies the cache of the results of the keywords tested against string
+     * values, such as "pattern", "format", "maxLength" and "contentEncoding". By
+     * default, no results are cached and every string value is tested from
+     * scratch.
+     *
+     * @param cache the cache created by
+     *              {@link JsonValidationService#createStringResultCache(int)},
+     *              cannot be {@code null}.
+     * @return this builder.
+     * @throws NullPointerException     if the specified {@code cache} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code cache} was not
+     *                                  created by the validation service.
+     */
+    ValidationConfig withStringResultCache(StringResultCache cache);
+
+    /**
+     * Specifies whether byte streams encoded in UTF-8 will be read by the built-in
+     * tokenizer instead of the parser of the JSON Processing provider. The
+     * built-in tokenizer decodes strings and numbers only when their values are
+     * required by the schema. By default, the parser of the provider is used.
+     *
+     * <p>
+     * The encoding of a byte stream without a specified charset is detected from
+     * its first bytes, and the byte order mark of UTF-8 is skipped. Character
+     * streams, and byte streams detected or specified to be in other encodings,
+     * are read by the parser of the provider.
+     * </p>
+     *
+     * @param usingBuiltinTokenizer {@code true} to use the built-in tokenizer.
+     *                              {@code false} to use the parser of the
+     *                              provider.
+     * @return this builder.
+     */
+    ValidationConfig withBuiltinTokenizer(boolean usingBuiltinTokenizer);
+
+    /**
+     * Specifies the profile which aggregates the activity of the keywords during
+     * validations. By default, no profile is taken and validations are not
+     * instrumented at all.
+     *
+     * @param profile the profile created by
+     *                {@link JsonValidationService#createValidationProfile()},
+     *                cannot be {@code null}.
+     * @return this builder.
+     * @throws NullPointerException     if the specified {@code profile} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code profile} was not
+     *                                  created by the validation service.
+     */
+    ValidationConfig withValidationProfile(ValidationProfile profile);
+
+    /**
+     * Specifies the number of steps allowed per input character for a match of
+     * the regular expressions given by "pattern" and "patternProperties"
+     * keywords. A match exceeding the limit is reported as a problem instead of
+     * being regarded as matched or not matched. By default, 10000 steps are
+     * allowed per character.
+     *
+     * @param stepsPerChar the number of steps allowed per input character, must
+     *                     be positive.
+     * @return this builder.
+     * @throws IllegalArgumentException if the specified {@code stepsPerChar} is
+     *                                  not positive.
+     */
+    ValidationConfig withRegexStepLimit(long stepsPerChar);
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.api;
+
+import jakarta.json.JsonObject;
+
+/**
+ * A profile of validations, which aggregates the activity of the keywords per
+ * schema location.
+ *
+ * <p>
+ * For each pair of a schema location and a keyword, the profile counts the
+ * evaluators created, the parser events they processed and the
+ * {@link Evaluator.Result#FALSE} results they returned. The time spent in the
+ * evaluators is measured on a sample of the events. The measured time includes
+ * the time spent in the evaluators of the subschemas. Instances of this type
+ * are thread-safe and can be shared by multiple validators.
+ * </p>
+ *
+ * <p>
+ * No profile is taken by default. It must be specified explicitly by
+ * {@link ValidationConfig#withValidationProfile(ValidationProfile)}.
+ * </p>
+ *
+ * @author leadpony
+ * @see JsonValidationService#createValidationProfile()
+ */
+public interface ValidationProfile {
+
+    /**
+     * Returns the aggregated statistics as a JSON object. The keys of the object
+     * identify the root schemas of the validations, each of which is the
+     * absolute {@code $id} of the root schema, or the index of the root schema
+     * in the order profiled if it has no such identifier or shares it with
+     * another root schema. The value for each root schema is an object whose
+     * keys are the JSON pointers of the schemas, relative to the root schema.
+     * The value for each schema is an object whose keys are the keyword names
+     * and whose values have the following properties:
+     * <ul>
+     * <li>{@code "evaluators"}: the number of the evaluators created.</li>
+     * <li>{@code "events"}: the number of the parser events processed.</li>
+     * <li>{@code "failures"}: the number of the false results.</li>
+     * <li>{@code "sampledEvents"}: the number of the events whose evaluation
+     * was timed.</li>
+     * <li>{@code "sampledNanos"}: the total time spent on the timed events in
+     * nanoseconds.</li>
+     * </ul>
+     *
+     * @return the JSON object representing this profile, never be {@code null}.
+     */
+    JsonObject toJson();
+
+    /**
+     * Removes all statistics taken so far.
+     */
+    void clear();
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.api;
+
+/**
+ * A bounded cache of the results of validating whole JSON documents.
+ *
+ * <p>
+ * The cache memoizes the problems found in a document for each pair of the
+ * JSON schema and the digest of the document. The digest is computed from the
+ * bytes of the document, or from the canonical form of the JSON value. When the
+ * cache is full, the least recently used result is evicted. Instances of this
+ * type are thread-safe and can be shared by multiple threads.
+ * </p>
+ *
+ * <p>
+ * The digests are keyed by a secret random key generated for each cache, so
+ * documents colliding with others cannot be crafted in advance. However, the
+ * identity of the documents is not checked beyond their digests.
+ * </p>
+ *
+ * @author leadpony
+ * @see JsonValidationService#createValidationResultCache(int)
+ */
+public interface ValidationResultCache {
+
+    /**
+     * Returns the maximum number of results in this cache.
+     *
+     * @return the maximum number of results.
+     */
+    int capacity();
+
+    /**
+     * Returns the number of results currently in this cache.
+     *
+     * @return the number of results.
+     */
+    int size();
+
+    /**
+     * Returns the number of lookups which found the cached result.
+     *
+     * @return the number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which did not find the cached result.
+     *
+     * @return the number of misses.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of the hits to all lookups.
+     *
+     * @return the hit ratio between 0.0 and 1.0, or 0.0 if no lookup was done.
+     */
+    double getHitRatio();
+
+    /**
+     * Removes all cached results and resets the statistics.
+     */
+    void clear();
+}
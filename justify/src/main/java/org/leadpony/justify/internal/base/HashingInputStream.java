@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.base;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link InputStream} type which passes all bytes read through a hasher.
+ *
+ * <p>
+ * Closing this stream leaves the underlying stream open, as the underlying
+ * stream is owned by the caller.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class HashingInputStream extends FilterInputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SipHasher hasher;
+
+    /**
+     * Constructs this stream.
+     *
+     * @param in     the underlying input stream.
+     * @param hasher the hasher to update with the bytes read.
+     */
+    public HashingInputStream(InputStream in, SipHasher hasher) {
+        super(in);
+        this.hasher = hasher;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            hasher.update(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = super.read(b, off, len);
+        if (result > 0) {
+            hasher.update(b, off, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int result = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (result < 0) {
+                break;
+            }
+            skipped += result;
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+        // Leaves the underlying stream open.
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Reads the remaining bytes to the end of the stream, passing them through
+     * the hasher.
+     *
+     * @throws IOException if an I/O error occurred.
+     */
+    public void drain() throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (read(buffer, 0, buffer.length) >= 0) {
+        }
+    }
+}
@@ -76,6 +76,7 @@ public enum Message implements BaseMessage {
     INSTANCE_PROBLEM_NOT_MAXLENGTH,
     INSTANCE_PROBLEM_NOT_MINLENGTH,
     INSTANCE_PROBLEM_NOT_PATTERN,
+    INSTANCE_PROBLEM_PATTERN_STEP_LIMIT,
 
     INSTANCE_PROBLEM_MAXITEMS,
     INSTANCE_PROBLEM_MINITEMS,
@@ -116,6 +117,7 @@ public enum Message implements BaseMessage {
     INSTANCE_PROBLEM_NOT_CONTENTENCODING,
     INSTANCE_PROBLEM_CONTENTMEDIATYPE,
     INSTANCE_PROBLEM_NOT_CONTENTMEDIATYPE,
+    INSTANCE_PROBLEM_CONTENTSCHEMA,
 
     INSTANCE_PROBLEM_NOT_FOUND,
     INSTANCE_PROBLEM_UNKNOWN,
@@ -137,6 +139,7 @@ public enum Message implements BaseMessage {
 
     PARSER_ILLEGAL_STATE,
     PARSER_UNEXPECTED_EOI,
+    PARSER_UNEXPECTED_CHAR,
 
     /* Problem messages for JSON reader */
 
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.base;
+
+/**
+ * An incremental hasher computing the 128-bit variant of SipHash-2-4.
+ *
+ * <p>
+ * The hash is keyed by a secret 128-bit key, which makes it hard to craft
+ * colliding inputs without knowing the key.
+ * </p>
+ *
+ * @author leadpony
+ * @see <a href="https://www.aumasson.jp/siphash/siphash.pdf">"SipHash: a fast
+ *      short-input PRF"</a>
+ */
+public final class SipHasher {
+
+    private long v0;
+    private long v1;
+    private long v2;
+    private long v3;
+
+    // The bytes not yet compressed, in little-endian order.
+    private long tail;
+    private int tailLength;
+    private long length;
+
+    /**
+     * Constructs this hasher.
+     *
+     * @param k0 the lower half of the key.
+     * @param k1 the upper half of the key.
+     */
+    public SipHasher(long k0, long k1) {
+        this.v0 = k0 ^ 0x736f6d6570736575L;
+        this.v1 = k1 ^ 0x646f72616e646f6dL ^ 0xeeL;
+        this.v2 = k0 ^ 0x6c7967656e657261L;
+        this.v3 = k1 ^ 0x7465646279746573L;
+    }
+
+    /**
+     * Updates the hash with a byte.
+     *
+     * @param b the byte to add, only the lowest 8 bits are used.
+     * @return this hasher.
+     */
+    public SipHasher update(int b) {
+        tail |= (b & 0xffL) << (tailLength << 3);
+        length++;
+        if (++tailLength == 8) {
+            compress(tail);
+            tail = 0;
+            tailLength = 0;
+        }
+        return this;
+    }
+
+    /**
+     * Updates the hash with a part of a byte array.
+     *
+     * @param b   the byte array.
+     * @param off the start offset in the array.
+     * @param len the number of bytes to add.
+     * @return this hasher.
+     */
+    public SipHasher update(byte[] b, int off, int len) {
+        final int end = off + len;
+        int i = off;
+        while (tailLength != 0 && i < end) {
+            update(b[i++]);
+        }
+        for (; i + 8 <= end; i += 8) {
+            compress((b[i] & 0xffL)
+                    | (b[i + 1] & 0xffL) << 8
+                    | (b[i + 2] & 0xffL) << 16
+                    | (b[i + 3] & 0xffL) << 24
+                    | (b[i + 4] & 0xffL) << 32
+                    | (b[i + 5] & 0xffL) << 40
+                    | (b[i + 6] & 0xffL) << 48
+                    | (b[i + 7] & 0xffL) << 56);
+            length += 8;
+        }
+        while (i < end) {
+            update(b[i++]);
+        }
+        return this;
+    }
+
+    /**
+     * Updates the hash with the characters of a string, preceded by its length.
+     *
+     * @param s the string to add.
+     * @return this hasher.
+     */
+    public SipHasher update(CharSequence s) {
+        final int len = s.length();
+        updateInt(len);
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            update(c);
+            update(c >>> 8);
+        }
+        return this;
+    }
+
+    /**
+     * Updates the hash with an integer in little-endian order.
+     *
+     * @param value the integer to add.
+     * @return this hasher.
+     */
+    public SipHasher updateInt(int value) {
+        for (int i = 0; i < 4; i++) {
+            update(value >>> (i << 3));
+        }
+        return this;
+    }
+
+    /**
+     * Completes the computation and returns the 128-bit hash. This hasher must
+     * not be used any more after calling this method.
+     *
+     * @return the array of two longs, which are the lower and upper halves of
+     *         the hash.
+     */
+    public long[] digest() {
+        compress(tail | (length & 0xffL) << 56);
+        v2 ^= 0xeeL;
+        rounds(4);
+        long h0 = v0 ^ v1 ^ v2 ^ v3;
+        v1 ^= 0xddL;
+        rounds(4);
+        long h1 = v0 ^ v1 ^ v2 ^ v3;
+        return new long[] {h0, h1};
+    }
+
+    private void compress(long m) {
+        v3 ^= m;
+        rounds(2);
+        v0 ^= m;
+    }
+
+    private void rounds(int count) {
+        for (int i = 0; i < count; i++) {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13);
+            v1 ^= v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16);
+            v3 ^= v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21);
+            v3 ^= v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17);
+            v1 ^= v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.spi.ValidationMetricsListener;
+
+/**
+ * Dispatcher of the metrics to the listeners provided through SPI.
+ *
+ * <p>
+ * Callers must check {@link #ENABLED} before measuring anything, so that no
+ * overhead is incurred when no listener is provided.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class ValidationMetrics {
+
+    private static final List<ValidationMetricsListener> LISTENERS = loadListeners();
+
+    /**
+     * Whether any listener is provided or not.
+     */
+    public static final boolean ENABLED = !LISTENERS.isEmpty();
+
+    private ValidationMetrics() {
+    }
+
+    /**
+     * Notifies the listeners that a schema was read.
+     *
+     * @param schema the schema read, can be {@code null}.
+     * @param nanos  the time spent in nanoseconds.
+     * @see ValidationMetricsListener#schemaRead(JsonSchema, long)
+     */
+    public static void schemaRead(JsonSchema schema, long nanos) {
+        for (ValidationMetricsListener listener : LISTENERS) {
+            listener.schemaRead(schema, nanos);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a reference was resolved.
+     *
+     * @param targetId the identifier of the referenced schema.
+     * @param resolved {@code true} if the referenced schema was found.
+     * @param nanos    the time spent in nanoseconds.
+     * @see ValidationMetricsListener#referenceResolved(URI, boolean, long)
+     */
+    public static void referenceResolved(URI targetId, boolean resolved, long nanos) {
+        for (ValidationMetricsListener listener : LISTENERS) {
+            listener.referenceResolved(targetId, resolved, nanos);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a document was validated.
+     *
+     * @param schema   the schema against which the document was validated.
+     * @param events   the number of the parser events.
+     * @param offset   the offset of the input at the end of the document.
+     * @param problems the number of the problems found.
+     * @param nanos    the time spent in nanoseconds.
+     * @see ValidationMetricsListener#documentValidated(JsonSchema, long, long, int,
+     *      long)
+     */
+    public static void documentValidated(JsonSchema schema, long events, long offset, int problems, long nanos) {
+        for (ValidationMetricsListener listener : LISTENERS) {
+            listener.documentValidated(schema, events, offset, problems, nanos);
+        }
+    }
+
+    private static List<ValidationMetricsListener> loadListeners() {
+        List<ValidationMetricsListener> listeners = new ArrayList<>();
+        for (ValidationMetricsListener listener : ServiceLoader.load(ValidationMetricsListener.class)) {
+            listeners.add(listener);
+        }
+        return Collections.unmodifiableList(listeners);
+    }
+}
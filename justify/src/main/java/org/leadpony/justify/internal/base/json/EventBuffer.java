@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * A buffer recording parser events of a JSON value, which can be replayed later
+ * as a JSON parser.
+ *
+ * <p>
+ * Each event is recorded as a code with an optional slot for the string or the
+ * number, and the location. The buffer can be cleared and reused.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class EventBuffer {
+
+    private static final Event[] EVENTS = Event.values();
+    // The code of integral numbers.
+    private static final byte INTEGRAL_NUMBER = (byte) EVENTS.length;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int LOCATION_SLOTS = 3;
+
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private long[] locations = new long[INITIAL_CAPACITY * LOCATION_SLOTS];
+    private int size;
+    private String pointer;
+
+    /**
+     * Clears this buffer for the value at the specified location.
+     *
+     * @param pointer the JSON pointer of the value to be recorded.
+     * @return this buffer.
+     */
+    public EventBuffer reset(String pointer) {
+        Arrays.fill(values, 0, size, null);
+        this.size = 0;
+        this.pointer = pointer;
+        return this;
+    }
+
+    /**
+     * Returns the JSON pointer of the recorded value.
+     *
+     * @return the JSON pointer of the recorded value.
+     */
+    public String getPointer() {
+        return pointer;
+    }
+
+    /**
+     * Returns the number of recorded events.
+     *
+     * @return the number of recorded events.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Records the current event of the parser.
+     *
+     * @param event  the event to record.
+     * @param parser the parser which produced the event.
+     */
+    public void record(Event event, JsonParser parser) {
+        if (size == codes.length) {
+            grow();
+        }
+        byte code = (byte) event.ordinal();
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            values[size] = parser.getString();
+            break;
+        case VALUE_NUMBER:
+            values[size] = parser.getString();
+            if (parser.isIntegralNumber()) {
+                code = INTEGRAL_NUMBER;
+            }
+            break;
+        default:
+            break;
+        }
+        codes[size] = code;
+        JsonLocation location = parser.getLocation();
+        int offset = size * LOCATION_SLOTS;
+        locations[offset] = location.getLineNumber();
+        locations[offset + 1] = location.getColumnNumber();
+        locations[offset + 2] = location.getStreamOffset();
+        size++;
+    }
+
+    /**
+     * Creates a parser which produces the recorded events.
+     *
+     * @param jsonProvider the JSON provider for creating values.
+     * @return newly created parser.
+     */
+    public JsonParser createParser(JsonProvider jsonProvider) {
+        return new Replayer(jsonProvider);
+    }
+
+    private static Event toEvent(byte code) {
+        return (code == INTEGRAL_NUMBER) ? Event.VALUE_NUMBER : EVENTS[code];
+    }
+
+    private void grow() {
+        int newCapacity = codes.length * 2;
+        codes = Arrays.copyOf(codes, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        locations = Arrays.copyOf(locations, newCapacity * LOCATION_SLOTS);
+    }
+
+    /**
+     * A parser replaying the recorded events.
+     *
+     * @author leadpony
+     */
+    private final class Replayer implements JsonParser {
+
+        private final JsonProvider jsonProvider;
+        private int index = -1;
+
+        Replayer(JsonProvider jsonProvider) {
+            this.jsonProvider = jsonProvider;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < size;
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return toEvent(codes[++index]);
+        }
+
+        @Override
+        public String getString() {
+            String value = values[index];
+            if (value == null) {
+                throw new IllegalStateException();
+            }
+            return value;
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            return codes[index] == INTEGRAL_NUMBER;
+        }
+
+        @Override
+        public int getInt() {
+            return getBigDecimal().intValue();
+        }
+
+        @Override
+        public long getLong() {
+            return getBigDecimal().longValue();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            return new BigDecimal(getString());
+        }
+
+        @Override
+        public JsonValue getValue() {
+            switch (toEvent(codes[index])) {
+            case KEY_NAME:
+            case VALUE_STRING:
+                return jsonProvider.createValue(getString());
+            case VALUE_NUMBER:
+                return jsonProvider.createValue(getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            case VALUE_NULL:
+                return JsonValue.NULL;
+            default:
+                throw new IllegalStateException();
+            }
+        }
+
+        @Override
+        public JsonLocation getLocation() {
+            int offset = index * LOCATION_SLOTS;
+            return new SimpleJsonLocation(locations[offset], locations[offset + 1], locations[offset + 2]);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -46,6 +46,12 @@ public class JsonProviderDecorator extends JsonProvider {
 
     private final JsonProvider real;
 
+    // Factories with the default configuration, created lazily.
+    private volatile JsonGeneratorFactory defaultGeneratorFactory;
+    private volatile JsonParserFactory defaultParserFactory;
+    private volatile JsonReaderFactory defaultReaderFactory;
+    private volatile JsonWriterFactory defaultWriterFactory;
+
     /**
      * Constructs this object.
      *
@@ -77,12 +83,12 @@ public class JsonProviderDecorator extends JsonProvider {
 
     @Override
     public JsonGenerator createGenerator(Writer writer) {
-        return createGeneratorFactory(null).createGenerator(writer);
+        return getDefaultGeneratorFactory().createGenerator(writer);
     }
 
     @Override
     public JsonGenerator createGenerator(OutputStream out) {
-        return createGeneratorFactory(null).createGenerator(out);
+        return getDefaultGeneratorFactory().createGenerator(out);
     }
 
     @Override
@@ -97,12 +103,12 @@ public class JsonProviderDecorator extends JsonProvider {
 
     @Override
     public JsonParser createParser(Reader reader) {
-        return createParserFactory(null).createParser(reader);
+        return getDefaultParserFactory().createParser(reader);
     }
 
     @Override
     public JsonParser createParser(InputStream in) {
-        return createParserFactory(null).createParser(in);
+        return getDefaultParserFactory().createParser(in);
     }
 
     @Override
@@ -112,12 +118,12 @@ public class JsonProviderDecorator extends JsonProvider {
 
     @Override
     public JsonReader createReader(Reader reader) {
-        return createReaderFactory(null).createReader(reader);
+        return getDefaultReaderFactory().createReader(reader);
     }
 
     @Override
     public JsonReader createReader(InputStream in) {
-        return createReaderFactory(null).createReader(in);
+        return getDefaultReaderFactory().createReader(in);
     }
 
     @Override
@@ -127,16 +133,76 @@ public class JsonProviderDecorator extends JsonProvider {
 
     @Override
     public JsonWriter createWriter(Writer writer) {
-        return createWriterFactory(null).createWriter(writer);
+        return getDefaultWriterFactory().createWriter(writer);
     }
 
     @Override
     public JsonWriter createWriter(OutputStream out) {
-        return createWriterFactory(null).createWriter(out);
+        return getDefaultWriterFactory().createWriter(out);
     }
 
     @Override
     public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
         return real.createWriterFactory(config);
     }
+
+    /**
+     * Returns the generator factory with the default configuration. The factory is
+     * created by {@link #createGeneratorFactory(Map)} only once and reused afterwards.
+     *
+     * @return the generator factory with the default configuration.
+     */
+    protected final JsonGeneratorFactory getDefaultGeneratorFactory() {
+        JsonGeneratorFactory factory = this.defaultGeneratorFactory;
+        if (factory == null) {
+            factory = createGeneratorFactory(null);
+            this.defaultGeneratorFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the parser factory with the default configuration. The factory is
+     * created by {@link #createParserFactory(Map)} only once and reused afterwards.
+     *
+     * @return the parser factory with the default configuration.
+     */
+    protected final JsonParserFactory getDefaultParserFactory() {
+        JsonParserFactory factory = this.defaultParserFactory;
+        if (factory == null) {
+            factory = createParserFactory(null);
+            this.defaultParserFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the reader factory with the default configuration. The factory is
+     * created by {@link #createReaderFactory(Map)} only once and reused afterwards.
+     *
+     * @return the reader factory with the default configuration.
+     */
+    protected final JsonReaderFactory getDefaultReaderFactory() {
+        JsonReaderFactory factory = this.defaultReaderFactory;
+        if (factory == null) {
+            factory = createReaderFactory(null);
+            this.defaultReaderFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the writer factory with the default configuration. The factory is
+     * created by {@link #createWriterFactory(Map)} only once and reused afterwards.
+     *
+     * @return the writer factory with the default configuration.
+     */
+    protected final JsonWriterFactory getDefaultWriterFactory() {
+        JsonWriterFactory factory = this.defaultWriterFactory;
+        if (factory == null) {
+            factory = createWriterFactory(null);
+            this.defaultWriterFactory = factory;
+        }
+        return factory;
+    }
 }
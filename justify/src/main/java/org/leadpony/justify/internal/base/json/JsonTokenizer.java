@@ -0,0 +1,685 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.leadpony.justify.internal.base.Message;
+
+/**
+ * An incremental tokenizer of JSON documents encoded in UTF-8.
+ *
+ * <p>
+ * The input is supplied in chunks by {@link #feed(ByteBuffer)}, and
+ * {@link #nextEvent()} returns {@code null} instead of blocking when the
+ * current chunk is exhausted. All of the state is held in this object between
+ * chunks, so the memory required is bounded by the nesting depth and the length
+ * of the longest token rather than by the size of the document.
+ * </p>
+ * <p>
+ * A string without any escape sequence which is found entirely in a chunk is
+ * kept as a slice of the chunk, and decoded only when {@link #getString()} is
+ * called. The slice is valid until the next event is requested.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonTokenizer {
+
+    private static final ByteBuffer EMPTY_INPUT = ByteBuffer.allocate(0);
+
+    private static final Event[] VALUE_EVENTS = {
+            Event.START_ARRAY, Event.START_OBJECT, Event.VALUE_STRING, Event.VALUE_NUMBER,
+            Event.VALUE_TRUE, Event.VALUE_FALSE, Event.VALUE_NULL
+    };
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    // Syntactic states between tokens.
+    private static final int VALUE = 0;
+    private static final int FIRST_ITEM = 1;
+    private static final int FIRST_KEY = 2;
+    private static final int KEY = 3;
+    private static final int COLON = 4;
+    private static final int NEXT = 5;
+    private static final int DONE = 6;
+
+    // Lexical states within a token.
+    private static final int NONE = 0;
+    private static final int STRING = 1;
+    private static final int ESCAPE = 2;
+    private static final int UNICODE = 3;
+    private static final int NUMBER = 4;
+    private static final int LITERAL = 5;
+
+    // States within a number.
+    private static final int NUMBER_START = 0;
+    private static final int NUMBER_MINUS = 1;
+    private static final int NUMBER_ZERO = 2;
+    private static final int NUMBER_INT = 3;
+    private static final int NUMBER_DOT = 4;
+    private static final int NUMBER_FRAC = 5;
+    private static final int NUMBER_E = 6;
+    private static final int NUMBER_SIGN = 7;
+    private static final int NUMBER_EXP = 8;
+
+    private static final int INITIAL_DEPTH = 16;
+    private static final int HEX_DIGITS = 4;
+
+    private ByteBuffer input = EMPTY_INPUT;
+    private boolean endOfInput;
+
+    private byte[] scopes = new byte[INITIAL_DEPTH];
+    private int depth;
+    private int syntax = VALUE;
+
+    private int lexical = NONE;
+    private boolean key;
+    private final StringBuilder text = new StringBuilder();
+    private String string;
+    // The string token kept as a slice of the input.
+    private boolean sliced;
+    private int sliceStart;
+    private int sliceEnd;
+    // The position where the UTF-8 sequence being decoded started.
+    private int sequenceStart;
+    // The remaining continuation bytes of the UTF-8 sequence being decoded.
+    private int pendingBytes;
+    private int codePoint;
+    private int hexDigits;
+    private int numberState;
+    private boolean integral;
+    private byte[] literal;
+    private int literalIndex;
+    private Event literalEvent;
+
+    private long lineNumber = 1;
+    private long columnNumber = 1;
+    private long streamOffset;
+
+    /**
+     * Supplies the next chunk of the input.
+     *
+     * <p>
+     * The chunk is consumed by the subsequent calls of {@link #nextEvent()} and
+     * must not be modified until it is exhausted.
+     * </p>
+     *
+     * @param chunk the bytes to be tokenized.
+     * @throws IllegalStateException if the previous chunk is not exhausted yet or
+     *                               the end of input was already signaled.
+     */
+    public void feed(ByteBuffer chunk) {
+        if (input.hasRemaining() || endOfInput) {
+            throw new IllegalStateException();
+        }
+        this.input = chunk;
+    }
+
+    /**
+     * Signals that no more input will be supplied.
+     */
+    public void end() {
+        this.endOfInput = true;
+    }
+
+    /**
+     * Checks if a whole JSON value was tokenized.
+     *
+     * @return {@code true} if a whole JSON value was tokenized.
+     */
+    public boolean isCompleted() {
+        return syntax == DONE;
+    }
+
+    /**
+     * Returns the next event found in the input supplied so far.
+     *
+     * @return the next event, or {@code null} if more input is required or the
+     *         end of input was reached.
+     * @throws JsonParsingException if the input is not a valid JSON document.
+     */
+    public Event nextEvent() {
+        for (;;) {
+            if (lexical != NONE) {
+                Event event = continueToken();
+                if (event != null) {
+                    return event;
+                } else if (lexical == NONE) {
+                    continue;
+                } else if (!endOfInput) {
+                    return null;
+                } else if (lexical == NUMBER && isNumberComplete()) {
+                    return endNumber();
+                }
+                throw newUnexpectedEndException();
+            }
+            if (!input.hasRemaining()) {
+                if (endOfInput && syntax != DONE) {
+                    throw newUnexpectedEndException();
+                }
+                return null;
+            }
+            int b = input.get(input.position()) & 0xff;
+            if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                consume();
+                continue;
+            }
+            Event event = startToken(b);
+            if (event != null) {
+                return event;
+            }
+        }
+    }
+
+    /**
+     * Returns the key name or the value of the current event as a string.
+     *
+     * @return the string value.
+     */
+    public String getString() {
+        if (string == null) {
+            string = sliced ? decodeSlice() : text.toString();
+        }
+        return string;
+    }
+
+    /**
+     * Checks if the current number is integral, that is, without any fraction or
+     * exponent part.
+     *
+     * @return {@code true} if the current number is integral.
+     */
+    public boolean isIntegralNumber() {
+        return integral;
+    }
+
+    /**
+     * Returns the current number.
+     *
+     * @return the current number.
+     */
+    public BigDecimal getBigDecimal() {
+        return new BigDecimal(getString());
+    }
+
+    /**
+     * Returns the location just after the last consumed byte.
+     *
+     * @return the location in the input.
+     */
+    public JsonLocation getLocation() {
+        return new SimpleJsonLocation(lineNumber, columnNumber, streamOffset);
+    }
+
+    private int consume() {
+        int b = input.get() & 0xff;
+        streamOffset++;
+        if (b == '\n') {
+            lineNumber++;
+            columnNumber = 1;
+        } else if ((b & 0xc0) != 0x80) {
+            columnNumber++;
+        }
+        return b;
+    }
+
+    private Event startToken(int b) {
+        switch (syntax) {
+        case FIRST_ITEM:
+            if (b == ']') {
+                return endContainer(Event.END_ARRAY);
+            }
+            return startValue(b);
+        case VALUE:
+            return startValue(b);
+        case FIRST_KEY:
+            if (b == '}') {
+                return endContainer(Event.END_OBJECT);
+            }
+            return startKey(b);
+        case KEY:
+            return startKey(b);
+        case COLON:
+            if (b != ':') {
+                throw newUnexpectedCharException(b);
+            }
+            consume();
+            syntax = VALUE;
+            return null;
+        case NEXT:
+            byte scope = scopes[depth - 1];
+            if (b == ',') {
+                consume();
+                syntax = (scope == '{') ? KEY : VALUE;
+                return null;
+            } else if (b == ']' && scope == '[') {
+                return endContainer(Event.END_ARRAY);
+            } else if (b == '}' && scope == '{') {
+                return endContainer(Event.END_OBJECT);
+            }
+            throw newUnexpectedCharException(b);
+        default:
+            throw newUnexpectedCharException(b);
+        }
+    }
+
+    private Event startValue(int b) {
+        switch (b) {
+        case '[':
+            return startContainer('[', Event.START_ARRAY);
+        case '{':
+            return startContainer('{', Event.START_OBJECT);
+        case '"':
+            consume();
+            startString(false);
+            return null;
+        case 't':
+            startLiteral(TRUE, Event.VALUE_TRUE);
+            return null;
+        case 'f':
+            startLiteral(FALSE, Event.VALUE_FALSE);
+            return null;
+        case 'n':
+            startLiteral(NULL, Event.VALUE_NULL);
+            return null;
+        default:
+            if (b == '-' || (b >= '0' && b <= '9')) {
+                resetText();
+                lexical = NUMBER;
+                numberState = NUMBER_START;
+                integral = true;
+                return null;
+            }
+            throw newUnexpectedCharException(b);
+        }
+    }
+
+    private Event startKey(int b) {
+        if (b != '"') {
+            throw newUnexpectedCharException(b);
+        }
+        consume();
+        startString(true);
+        return null;
+    }
+
+    private Event startContainer(char scope, Event event) {
+        consume();
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+        scopes[depth++] = (byte) scope;
+        syntax = (scope == '[') ? FIRST_ITEM : FIRST_KEY;
+        return event;
+    }
+
+    private Event endContainer(Event event) {
+        consume();
+        --depth;
+        return endValue(event);
+    }
+
+    private Event endValue(Event event) {
+        syntax = (depth == 0) ? DONE : NEXT;
+        return event;
+    }
+
+    private void startString(boolean key) {
+        resetText();
+        this.key = key;
+        this.lexical = STRING;
+        this.sliced = true;
+        this.sliceStart = input.position();
+    }
+
+    private void startLiteral(byte[] literal, Event event) {
+        this.literal = literal;
+        this.literalIndex = 0;
+        this.literalEvent = event;
+        this.lexical = LITERAL;
+    }
+
+    private void resetText() {
+        text.setLength(0);
+        string = null;
+        sliced = false;
+    }
+
+    /**
+     * Stops keeping the current string as a slice, and decodes the bytes read so
+     * far into the text.
+     *
+     * @param end the end of the bytes to decode, exclusive.
+     */
+    private void spill(int end) {
+        sliced = false;
+        text.append(decode(sliceStart, end));
+    }
+
+    private String decodeSlice() {
+        return decode(sliceStart, sliceEnd);
+    }
+
+    private String decode(int start, int end) {
+        if (input.hasArray()) {
+            return new String(input.array(), input.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[end - start];
+        ByteBuffer slice = input.duplicate();
+        slice.position(start);
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Event continueToken() {
+        switch (lexical) {
+        case STRING:
+        case ESCAPE:
+        case UNICODE:
+            return continueString();
+        case NUMBER:
+            return continueNumber();
+        case LITERAL:
+            return continueLiteral();
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    private Event continueString() {
+        final ByteBuffer input = this.input;
+        while (input.hasRemaining()) {
+            if (lexical == ESCAPE) {
+                readEscape(consume());
+                continue;
+            } else if (lexical == UNICODE) {
+                readHexDigit(consume());
+                continue;
+            }
+            int b = consume();
+            if (pendingBytes > 0) {
+                readContinuationByte(b);
+            } else if (b == '"') {
+                lexical = NONE;
+                sliceEnd = input.position() - 1;
+                if (key) {
+                    syntax = COLON;
+                    return Event.KEY_NAME;
+                }
+                return endValue(Event.VALUE_STRING);
+            } else if (b == '\\') {
+                if (sliced) {
+                    spill(input.position() - 1);
+                }
+                lexical = ESCAPE;
+            } else if (b < 0x20) {
+                throw newUnexpectedCharException(b);
+            } else if (b < 0x80) {
+                if (!sliced) {
+                    text.append((char) b);
+                }
+            } else {
+                sequenceStart = input.position() - 1;
+                readLeadingByte(b);
+            }
+        }
+        if (sliced) {
+            spill(pendingBytes > 0 ? sequenceStart : input.position());
+        }
+        return null;
+    }
+
+    private void readLeadingByte(int b) {
+        if (b >= 0xc2 && b <= 0xdf) {
+            pendingBytes = 1;
+            codePoint = b & 0x1f;
+        } else if (b >= 0xe0 && b <= 0xef) {
+            pendingBytes = 2;
+            codePoint = b & 0x0f;
+        } else if (b >= 0xf0 && b <= 0xf4) {
+            pendingBytes = 3;
+            codePoint = b & 0x07;
+        } else {
+            throw newUnexpectedCharException(b);
+        }
+    }
+
+    private void readContinuationByte(int b) {
+        if ((b & 0xc0) != 0x80) {
+            throw newUnexpectedCharException(b);
+        }
+        codePoint = (codePoint << 6) | (b & 0x3f);
+        if (--pendingBytes == 0) {
+            if (!Character.isValidCodePoint(codePoint)) {
+                throw newUnexpectedCharException(b);
+            }
+            if (!sliced) {
+                text.appendCodePoint(codePoint);
+            }
+        }
+    }
+
+    private void readEscape(int b) {
+        lexical = STRING;
+        switch (b) {
+        case '"':
+        case '\\':
+        case '/':
+            text.append((char) b);
+            break;
+        case 'b':
+            text.append('\b');
+            break;
+        case 'f':
+            text.append('\f');
+            break;
+        case 'n':
+            text.append('\n');
+            break;
+        case 'r':
+            text.append('\r');
+            break;
+        case 't':
+            text.append('\t');
+            break;
+        case 'u':
+            lexical = UNICODE;
+            hexDigits = 0;
+            codePoint = 0;
+            break;
+        default:
+            throw newUnexpectedCharException(b);
+        }
+    }
+
+    private void readHexDigit(int b) {
+        int value = Character.digit(b, 16);
+        if (value < 0) {
+            throw newUnexpectedCharException(b);
+        }
+        codePoint = (codePoint << 4) | value;
+        if (++hexDigits == HEX_DIGITS) {
+            text.append((char) codePoint);
+            lexical = STRING;
+        }
+    }
+
+    private Event continueNumber() {
+        final ByteBuffer input = this.input;
+        while (input.hasRemaining()) {
+            int b = input.get(input.position()) & 0xff;
+            int next = nextNumberState(b);
+            if (next < 0) {
+                if (isNumberComplete()) {
+                    return endNumber();
+                }
+                throw newUnexpectedCharException(b);
+            }
+            consume();
+            text.append((char) b);
+            numberState = next;
+        }
+        return null;
+    }
+
+    private int nextNumberState(int b) {
+        boolean digit = b >= '0' && b <= '9';
+        switch (numberState) {
+        case NUMBER_START:
+            if (b == '-') {
+                return NUMBER_MINUS;
+            }
+            // fall through
+        case NUMBER_MINUS:
+            if (b == '0') {
+                return NUMBER_ZERO;
+            }
+            return digit ? NUMBER_INT : -1;
+        case NUMBER_INT:
+            if (digit) {
+                return NUMBER_INT;
+            }
+            // fall through
+        case NUMBER_ZERO:
+            if (b == '.') {
+                integral = false;
+                return NUMBER_DOT;
+            }
+            return startExponent(b);
+        case NUMBER_DOT:
+            return digit ? NUMBER_FRAC : -1;
+        case NUMBER_FRAC:
+            return digit ? NUMBER_FRAC : startExponent(b);
+        case NUMBER_E:
+            if (b == '+' || b == '-') {
+                return NUMBER_SIGN;
+            }
+            // fall through
+        case NUMBER_SIGN:
+        case NUMBER_EXP:
+            return digit ? NUMBER_EXP : -1;
+        default:
+            return -1;
+        }
+    }
+
+    private int startExponent(int b) {
+        if (b == 'e' || b == 'E') {
+            integral = false;
+            return NUMBER_E;
+        }
+        return -1;
+    }
+
+    private boolean isNumberComplete() {
+        switch (numberState) {
+        case NUMBER_ZERO:
+        case NUMBER_INT:
+        case NUMBER_FRAC:
+        case NUMBER_EXP:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private Event endNumber() {
+        lexical = NONE;
+        return endValue(Event.VALUE_NUMBER);
+    }
+
+    private Event continueLiteral() {
+        final ByteBuffer input = this.input;
+        while (input.hasRemaining()) {
+            int b = input.get(input.position()) & 0xff;
+            if (b != literal[literalIndex]) {
+                throw newUnexpectedCharException(b);
+            }
+            consume();
+            if (++literalIndex == literal.length) {
+                lexical = NONE;
+                return endValue(literalEvent);
+            }
+        }
+        return null;
+    }
+
+    private JsonParsingException newUnexpectedCharException(int b) {
+        Map<String, Object> args = new HashMap<>();
+        if (b > 0x20 && b < 0x7f) {
+            args.put("char", "'" + (char) b + "'");
+        } else {
+            args.put("char", String.format("0x%02X", b));
+        }
+        return new JsonParsingException(Message.PARSER_UNEXPECTED_CHAR.format(args), getLocation());
+    }
+
+    private JsonParsingException newUnexpectedEndException() {
+        Map<String, Object> args = new HashMap<>();
+        args.put("expected", Arrays.asList(expectedEvents()));
+        return new JsonParsingException(Message.PARSER_UNEXPECTED_EOI.format(args), getLocation());
+    }
+
+    private Event[] expectedEvents() {
+        switch (lexical) {
+        case STRING:
+        case ESCAPE:
+        case UNICODE:
+            return new Event[] {key ? Event.KEY_NAME : Event.VALUE_STRING};
+        case NUMBER:
+            return new Event[] {Event.VALUE_NUMBER};
+        case LITERAL:
+            return new Event[] {literalEvent};
+        default:
+            break;
+        }
+        switch (syntax) {
+        case FIRST_ITEM:
+            return withEvent(VALUE_EVENTS, Event.END_ARRAY);
+        case FIRST_KEY:
+            return new Event[] {Event.KEY_NAME, Event.END_OBJECT};
+        case KEY:
+            return new Event[] {Event.KEY_NAME};
+        case NEXT:
+            if (scopes[depth - 1] == '[') {
+                return withEvent(VALUE_EVENTS, Event.END_ARRAY);
+            }
+            return new Event[] {Event.KEY_NAME, Event.END_OBJECT};
+        default:
+            return VALUE_EVENTS;
+        }
+    }
+
+    private static Event[] withEvent(Event[] events, Event event) {
+        Event[] result = Arrays.copyOf(events, events.length + 1);
+        result[events.length] = event;
+        return result;
+    }
+}
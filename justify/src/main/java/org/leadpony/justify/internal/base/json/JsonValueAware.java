@@ -0,0 +1,36 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import jakarta.json.JsonValue;
+
+/**
+ * A type which is aware of the in-memory JSON value being parsed.
+ *
+ * @author leadpony
+ */
+public interface JsonValueAware {
+
+    /**
+     * Returns the JSON value which starts at the current event, without advancing
+     * the position.
+     *
+     * @return the JSON value which starts at the current event, or {@code null} if
+     *         the current event does not start any value.
+     */
+    JsonValue getCurrentValue();
+}
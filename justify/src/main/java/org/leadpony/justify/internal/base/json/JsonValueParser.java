@@ -36,7 +36,7 @@ import jakarta.json.stream.JsonLocation;
  *
  * @author leadpony
  */
-public final class JsonValueParser extends AbstractJsonParser {
+public final class JsonValueParser extends AbstractJsonParser implements JsonValueAware {
 
     private static final Scope GLOBAL_SCOPE = new GlobalScope();
     private Scope scope;
@@ -174,6 +174,20 @@ public final class JsonValueParser extends AbstractJsonParser {
         // Does nothing
     }
 
+    /* As a JsonValueAware */
+
+    @Override
+    public JsonValue getCurrentValue() {
+        Event event = getCurrentEvent();
+        if (event == null
+                || event == Event.KEY_NAME
+                || event == Event.END_ARRAY
+                || event == Event.END_OBJECT) {
+            return null;
+        }
+        return scope.getValue();
+    }
+
     /* As a AbstractJsonParser */
 
     @Override
@@ -275,6 +289,14 @@ public final class JsonValueParser extends AbstractJsonParser {
             this.currentValue = null;
         }
 
+        ArrayScope(JsonArray array, Scope outerScope) {
+            super(outerScope);
+            this.items = array;
+            this.length = array.size();
+            this.state = ArrayState.ITEM;
+            this.currentValue = array;
+        }
+
         @Override
         public Event getEvent(JsonValueParser parser) {
             return state.process(parser, this);
@@ -372,6 +394,13 @@ public final class JsonValueParser extends AbstractJsonParser {
             this.currentValue = null;
         }
 
+        ObjectScope(JsonObject object, Scope outerScope) {
+            super(outerScope);
+            this.iterator = object.entrySet().iterator();
+            this.state = ObjectState.KEY;
+            this.currentValue = object;
+        }
+
         @Override
         public Event getEvent(JsonValueParser parser) {
             return state.process(parser, this);
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Utility methods operating on in-memory JSON values.
+ *
+ * @author leadpony
+ */
+public final class JsonValues {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private JsonValues() {
+    }
+
+    /**
+     * Returns the in-memory JSON value which starts at the current event of the
+     * specified parser.
+     *
+     * @param parser the parser which may be aware of the in-memory value.
+     * @return the JSON value, or {@code null} if the parser does not provide it.
+     */
+    public static JsonValue currentValueOf(JsonParser parser) {
+        if (parser instanceof JsonValueAware) {
+            return ((JsonValueAware) parser).getCurrentValue();
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the two JSON values are equal. Numbers are compared by their
+     * numerical values, that is, 1.0 is equal to 1.
+     *
+     * @param x the first value to compare.
+     * @param y the second value to compare.
+     * @return {@code true} if the two values are equal.
+     */
+    public static boolean equals(JsonValue x, JsonValue y) {
+        if (x == y) {
+            return true;
+        }
+        if (x.getValueType() != y.getValueType()) {
+            return false;
+        }
+        switch (x.getValueType()) {
+        case ARRAY:
+            return equalsArray((JsonArray) x, (JsonArray) y);
+        case OBJECT:
+            return equalsObject((JsonObject) x, (JsonObject) y);
+        case NUMBER:
+            return ((JsonNumber) x).bigDecimalValue().compareTo(((JsonNumber) y).bigDecimalValue()) == 0;
+        default:
+            return x.equals(y);
+        }
+    }
+
+    /**
+     * Returns the hash code of the JSON value, which is consistent with
+     * {@link #equals(JsonValue, JsonValue)}.
+     *
+     * @param value the JSON value.
+     * @return the hash code of the value.
+     */
+    public static int hashCode(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+            int arrayHash = 1;
+            for (JsonValue item : (JsonArray) value) {
+                arrayHash = HASH_MULTIPLIER * arrayHash + hashCode(item);
+            }
+            return arrayHash;
+        case OBJECT:
+            int objectHash = 0;
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                objectHash += entry.getKey().hashCode() ^ hashCode(entry.getValue());
+            }
+            return objectHash;
+        case NUMBER:
+            return ((JsonNumber) value).bigDecimalValue().stripTrailingZeros().hashCode();
+        default:
+            return value.hashCode();
+        }
+    }
+
+    private static boolean equalsArray(List<JsonValue> x, List<JsonValue> y) {
+        if (x.size() != y.size()) {
+            return false;
+        }
+        Iterator<JsonValue> it = y.iterator();
+        for (JsonValue item : x) {
+            if (!equals(item, it.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsObject(Map<String, JsonValue> x, Map<String, JsonValue> y) {
+        if (x.size() != y.size()) {
+            return false;
+        }
+        for (Map.Entry<String, JsonValue> entry : x.entrySet()) {
+            JsonValue other = y.get(entry.getKey());
+            if (other == null || !equals(entry.getValue(), other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
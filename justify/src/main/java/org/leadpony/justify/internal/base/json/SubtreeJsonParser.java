@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.base.json;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A JSON parser which reads only a single value out of the underlying parser.
+ *
+ * <p>
+ * The value starts at the event on which the underlying parser is positioned
+ * when this parser is constructed, and this parser has no more events once the
+ * value ended. The underlying parser is left open.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class SubtreeJsonParser extends JsonParserDecorator {
+
+    private Event pendingEvent;
+    private int depth;
+
+    /**
+     * Constructs this parser.
+     *
+     * @param parser       the underlying JSON parser, positioned at the first
+     *                     event of the value.
+     * @param firstEvent   the first event of the value.
+     * @param jsonProvider the JSON provider.
+     */
+    public SubtreeJsonParser(JsonParser parser, Event firstEvent, JsonProvider jsonProvider) {
+        super(parser, jsonProvider);
+        this.pendingEvent = firstEvent;
+    }
+
+    /**
+     * Advances the specified parser to the value at the location given by a JSON
+     * pointer, skipping the values before it.
+     *
+     * @param parser  the parser which has not been started yet.
+     * @param pointer the JSON pointer of the value to find.
+     * @return the first event of the value found, or {@code null} if the document
+     *         does not contain the value.
+     * @throws jakarta.json.JsonException if the JSON pointer is invalid.
+     */
+    public static Event seek(JsonParser parser, String pointer) {
+        JsonPointerTokenizer tokenizer = new JsonPointerTokenizer(pointer);
+        if (!parser.hasNext()) {
+            return null;
+        }
+        Event event = parser.next();
+        while (event != null && tokenizer.hasNext()) {
+            String token = tokenizer.next();
+            if (event == Event.START_OBJECT) {
+                event = seekProperty(parser, token);
+            } else if (event == Event.START_ARRAY) {
+                event = seekItem(parser, token);
+            } else {
+                event = null;
+            }
+        }
+        return event;
+    }
+
+    /* JsonParser */
+
+    @Override
+    public boolean hasNext() {
+        return pendingEvent != null || depth > 0;
+    }
+
+    @Override
+    public void close() {
+        // Leaves the underlying parser open.
+    }
+
+    /* AbstractJsonParser */
+
+    @Override
+    protected Event fetchNextEvent() {
+        Event event = pendingEvent;
+        if (event != null) {
+            pendingEvent = null;
+        } else {
+            event = super.fetchNextEvent();
+        }
+        switch (event) {
+        case START_ARRAY:
+        case START_OBJECT:
+            depth++;
+            break;
+        case END_ARRAY:
+        case END_OBJECT:
+            depth--;
+            break;
+        default:
+            break;
+        }
+        return event;
+    }
+
+    @Override
+    protected boolean isInCollection() {
+        Event event = getCurrentEvent();
+        return depth > 0 || event == Event.END_ARRAY || event == Event.END_OBJECT;
+    }
+
+    private static Event seekProperty(JsonParser parser, String name) {
+        while (parser.hasNext()) {
+            if (parser.next() != Event.KEY_NAME) {
+                break;
+            }
+            boolean found = parser.getString().equals(name);
+            Event event = parser.next();
+            if (found) {
+                return event;
+            }
+            skipValue(parser, event);
+        }
+        return null;
+    }
+
+    private static Event seekItem(JsonParser parser, String token) {
+        final int index = parseIndex(token);
+        if (index < 0) {
+            return null;
+        }
+        for (int i = 0; parser.hasNext(); i++) {
+            Event event = parser.next();
+            if (event == Event.END_ARRAY) {
+                break;
+            } else if (i == index) {
+                return event;
+            }
+            skipValue(parser, event);
+        }
+        return null;
+    }
+
+    private static void skipValue(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+
+    /**
+     * Parses an array index in a JSON pointer.
+     *
+     * @param token the reference token.
+     * @return the index, or -1 if the token is not a valid index.
+     */
+    private static int parseIndex(String token) {
+        if (token.isEmpty() || (token.length() > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.base.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+
+/**
+ * A JSON parser which reads JSON documents encoded in UTF-8 with the built-in
+ * tokenizer.
+ *
+ * <p>
+ * The input is a byte stream read in blocks. Strings and numbers are decoded
+ * only when their values are requested.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class Utf8JsonParser extends AbstractStreamJsonParser {
+
+    private static final int BLOCK_SIZE = 8192;
+
+    private final JsonTokenizer tokenizer = new JsonTokenizer();
+    private final InputStream in;
+    private final byte[] block;
+    private int depth;
+
+    /**
+     * Constructs this parser from a byte stream.
+     *
+     * @param in           the byte stream from which the JSON document is read.
+     * @param jsonProvider the JSON provider.
+     */
+    public Utf8JsonParser(InputStream in, JsonProvider jsonProvider) {
+        super(jsonProvider);
+        this.in = in;
+        this.block = new byte[BLOCK_SIZE];
+    }
+
+    /**
+     * Detects whether the byte stream is encoded in UTF-8 from its first bytes,
+     * in the way described in RFC 4627. The byte order mark of UTF-8 is skipped
+     * if found. The other bytes read are pushed back to the stream.
+     *
+     * @param in the byte stream positioned at the beginning of the document,
+     *           which can push back at least 4 bytes.
+     * @return {@code true} if the stream is encoded in UTF-8, {@code false} if
+     *         it is encoded in UTF-16 or UTF-32.
+     * @throws JsonException if an I/O error occurs.
+     */
+    public static boolean detectUtf8(PushbackInputStream in) {
+        try {
+            byte[] head = new byte[4];
+            int length = 0;
+            int read;
+            while (length < head.length && (read = in.read(head, length, head.length - length)) >= 0) {
+                length += read;
+            }
+            boolean utf8 = true;
+            int offset = 0;
+            if (length >= 3 && head[0] == (byte) 0xEF && head[1] == (byte) 0xBB && head[2] == (byte) 0xBF) {
+                offset = 3;
+            } else if (length >= 2) {
+                // JSON text starts with two ASCII characters, or with a byte order mark.
+                utf8 = head[0] != 0 && head[1] != 0
+                        && !(head[0] == (byte) 0xFE && head[1] == (byte) 0xFF)
+                        && !(head[0] == (byte) 0xFF && head[1] == (byte) 0xFE);
+            }
+            in.unread(head, offset, length - offset);
+            return utf8;
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!tokenizer.isCompleted()) {
+            return true;
+        }
+        // Checks that nothing but white spaces follows the value.
+        do {
+            tokenizer.nextEvent();
+        } while (fill());
+        return false;
+    }
+
+    @Override
+    public String getString() {
+        return tokenizer.getString();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return tokenizer.isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+        return getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong() {
+        return getBigDecimal().longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        return tokenizer.getBigDecimal();
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return tokenizer.getLocation();
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    /* As a AbstractJsonParser */
+
+    @Override
+    protected boolean isInCollection() {
+        return depth > 0 || ParserEvents.isEndOfContainer(getCurrentEvent());
+    }
+
+    /* As a AbstractStreamJsonParser */
+
+    @Override
+    public JsonValue getJsonNumber() {
+        return getJsonProvider().createValue(getBigDecimal());
+    }
+
+    @Override
+    protected Event fetchNextEvent() {
+        Event event;
+        while ((event = tokenizer.nextEvent()) == null) {
+            if (!fill()) {
+                throw new NoSuchElementException();
+            }
+        }
+        if (ParserEvents.isStartOfContainer(event)) {
+            ++depth;
+        } else if (ParserEvents.isEndOfContainer(event)) {
+            --depth;
+        }
+        return event;
+    }
+
+    /**
+     * Supplies the tokenizer with the next block of the input.
+     *
+     * @return {@code true} if the tokenizer may produce more events.
+     */
+    private boolean fill() {
+        try {
+            int length = in.read(block);
+            if (length < 0) {
+                tokenizer.end();
+                return !tokenizer.isCompleted();
+            }
+            tokenizer.feed(ByteBuffer.wrap(block, 0, length));
+            return true;
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+}
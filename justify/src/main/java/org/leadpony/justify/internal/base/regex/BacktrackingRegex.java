@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.regex.Pattern;
+
+import org.leadpony.justify.spi.RegexEngine.MatchResult;
+
+/**
+ * Regular expression evaluated by the backtracking engine of
+ * {@link java.util.regex}.
+ *
+ * <p>
+ * The number of steps is measured by the number of characters read from the
+ * input by the engine.
+ * </p>
+ *
+ * @author leadpony
+ */
+class BacktrackingRegex extends Ecma262Regex {
+
+    private final Pattern pattern;
+
+    BacktrackingRegex(String source, Pattern pattern) {
+        super(source);
+        this.pattern = pattern;
+    }
+
+    @Override
+    public MatchResult matchWithin(String input, long maxSteps) {
+        try {
+            boolean found = pattern.matcher(new CountingCharSequence(input, maxSteps)).find();
+            return found ? MatchResult.MATCHED : MatchResult.NOT_MATCHED;
+        } catch (StepLimitExceededException e) {
+            return MatchResult.STEP_LIMIT_EXCEEDED;
+        }
+    }
+
+    /**
+     * Character sequence counting the characters read.
+     *
+     * @author leadpony
+     */
+    private static final class CountingCharSequence implements CharSequence {
+
+        private final CharSequence sequence;
+        private long remaining;
+
+        CountingCharSequence(CharSequence sequence, long maxSteps) {
+            this.sequence = sequence;
+            this.remaining = maxSteps;
+        }
+
+        @Override
+        public int length() {
+            return sequence.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remaining < 0) {
+                throw StepLimitExceededException.INSTANCE;
+            }
+            return sequence.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return sequence.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return sequence.toString();
+        }
+    }
+
+    /**
+     * Exception thrown when a match exceeded the maximum number of steps.
+     *
+     * @author leadpony
+     */
+    @SuppressWarnings("serial")
+    private static final class StepLimitExceededException extends RuntimeException {
+
+        static final StepLimitExceededException INSTANCE = new StepLimitExceededException();
+
+        private StepLimitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.leadpony.justify.spi.RegexEngine;
+import org.leadpony.justify.spi.RegexEngine.CompiledRegex;
+import org.leadpony.justify.spi.RegexEngine.MatchResult;
+
+/**
+ * Compiled regular expression written in the dialect of ECMA 262.
+ *
+ * <p>
+ * Regular expressions are evaluated by one of the following engines, in order
+ * of preference:
+ * </p>
+ * <ol>
+ * <li>an engine provided through {@link RegexEngine} SPI, if any,</li>
+ * <li>the built-in engine running in linear time, if the expression uses only
+ * regular constructs,</li>
+ * <li>the backtracking engine of {@link java.util.regex} for the remaining
+ * expressions, e.g. the ones using backreferences or lookarounds.</li>
+ * </ol>
+ *
+ * <p>
+ * Each match is bounded by the number of steps proportional to the length of
+ * the input. A match exceeding the limit is reported by
+ * {@link RegexStepLimitException}.
+ * </p>
+ *
+ * @author leadpony
+ */
+public abstract class Ecma262Regex implements CompiledRegex {
+
+    /**
+     * The default number of steps allowed per input character.
+     */
+    public static final long DEFAULT_STEPS_PER_CHAR = 10000;
+
+    private final String source;
+
+    /**
+     * Compiles the given regular expression.
+     *
+     * @param regex the expression to be compiled.
+     * @return the compiled regular expression.
+     * @throws PatternSyntaxException if the syntax of the given expression is
+     *                                invalid.
+     */
+    public static Ecma262Regex compile(String regex) {
+        // Syntax is always checked by the standard library.
+        Pattern pattern = Ecma262Pattern.compile(regex);
+        RegexEngine engine = EngineHolder.ENGINE;
+        if (engine != null) {
+            try {
+                return new ProvidedRegex(regex, engine.compile(regex));
+            } catch (IllegalArgumentException e) {
+                // Falls back to the built-in engines.
+            }
+        }
+        Ecma262Regex linear = LinearRegexCompiler.compile(regex);
+        if (linear != null) {
+            return linear;
+        }
+        return new BacktrackingRegex(regex, pattern);
+    }
+
+    /**
+     * Constructs this regular expression.
+     *
+     * @param source the source of this regular expression.
+     */
+    protected Ecma262Regex(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Checks whether this regular expression matches any part of the input,
+     * allowing the given number of steps per input character.
+     *
+     * @param input        the input string to test.
+     * @param stepsPerChar the number of steps allowed per input character.
+     * @return {@code true} if this regular expression matches the input,
+     *         {@code false} otherwise.
+     * @throws RegexStepLimitException if the match exceeded the number of steps.
+     */
+    public boolean findWithStepsPerChar(String input, long stepsPerChar) {
+        MatchResult result = matchWithin(input, maxStepsFor(input, stepsPerChar));
+        if (result == MatchResult.STEP_LIMIT_EXCEEDED) {
+            throw new RegexStepLimitException(this);
+        }
+        return result == MatchResult.MATCHED;
+    }
+
+    /**
+     * Returns the source of this regular expression.
+     *
+     * @return the source of this regular expression.
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    static long maxStepsFor(CharSequence input, long stepsPerChar) {
+        long chars = input.length() + 1L;
+        if (stepsPerChar > Long.MAX_VALUE / chars) {
+            return Long.MAX_VALUE;
+        }
+        return stepsPerChar * chars;
+    }
+
+    /**
+     * Holder of the engine provided through SPI.
+     *
+     * @author leadpony
+     */
+    private static final class EngineHolder {
+
+        static final RegexEngine ENGINE = loadEngine();
+
+        private static RegexEngine loadEngine() {
+            Iterator<RegexEngine> it = ServiceLoader.load(RegexEngine.class).iterator();
+            return it.hasNext() ? it.next() : null;
+        }
+    }
+
+    /**
+     * Regular expression evaluated by the engine provided through SPI.
+     *
+     * @author leadpony
+     */
+    private static final class ProvidedRegex extends Ecma262Regex {
+
+        private final CompiledRegex compiled;
+
+        ProvidedRegex(String source, CompiledRegex compiled) {
+            super(source);
+            this.compiled = compiled;
+        }
+
+        @Override
+        public MatchResult matchWithin(String input, long maxSteps) {
+            return compiled.matchWithin(input, maxSteps);
+        }
+    }
+}
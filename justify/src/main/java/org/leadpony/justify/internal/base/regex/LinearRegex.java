@@ -0,0 +1,258 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.function.IntPredicate;
+
+import org.leadpony.justify.spi.RegexEngine.MatchResult;
+
+/**
+ * Regular expression evaluated in linear time.
+ *
+ * <p>
+ * The expression is compiled into a program of nondeterministic finite
+ * automaton, which is simulated for all states in parallel without any
+ * backtracking, as described by Ken Thompson and Rob Pike.
+ * </p>
+ *
+ * @author leadpony
+ */
+class LinearRegex extends Ecma262Regex {
+
+    static final int CHAR = 0;
+    static final int ANY = 1;
+    static final int CLASS = 2;
+    static final int SPLIT = 3;
+    static final int JUMP = 4;
+    static final int BEGIN = 5;
+    static final int END = 6;
+    static final int MATCH = 7;
+
+    private final int[] ops;
+    private final int[] args;
+    private final int[] args2;
+    private final CharClass[] classes;
+    private final boolean anchored;
+
+    /**
+     * Constructs this regular expression.
+     *
+     * @param source   the source of this regular expression.
+     * @param ops      the operation codes of the instructions.
+     * @param args     the first arguments of the instructions.
+     * @param args2    the second arguments of the instructions.
+     * @param classes  the character classes referenced by the instructions.
+     * @param anchored {@code true} if the match must start at the beginning of
+     *                 the input.
+     */
+    LinearRegex(String source, int[] ops, int[] args, int[] args2, CharClass[] classes, boolean anchored) {
+        super(source);
+        this.ops = ops;
+        this.args = args;
+        this.args2 = args2;
+        this.classes = classes;
+        this.anchored = anchored;
+    }
+
+    @Override
+    public MatchResult matchWithin(String input, long maxSteps) {
+        final int end = input.length();
+        Simulation simulation = new Simulation(end);
+        ThreadList current = new ThreadList(ops.length);
+        ThreadList next = new ThreadList(ops.length);
+        long steps = 0;
+        int pos = 0;
+        for (;;) {
+            if ((pos == 0 || !anchored) && simulation.addThread(current, 0, pos)) {
+                return MatchResult.MATCHED;
+            }
+            if (pos == end || (current.size == 0 && anchored)) {
+                return MatchResult.NOT_MATCHED;
+            }
+            final int c = input.codePointAt(pos);
+            final int nextPos = pos + Character.charCount(c);
+            simulation.generation++;
+            next.size = 0;
+            for (int i = 0; i < current.size; i++) {
+                int pc = current.pcs[i];
+                if (accepts(pc, c) && simulation.addThread(next, pc + 1, nextPos)) {
+                    return MatchResult.MATCHED;
+                }
+            }
+            steps += current.size + 1;
+            if (steps > maxSteps) {
+                return MatchResult.STEP_LIMIT_EXCEEDED;
+            }
+            ThreadList swapped = current;
+            current = next;
+            next = swapped;
+            pos = nextPos;
+        }
+    }
+
+    private boolean accepts(int pc, int c) {
+        switch (ops[pc]) {
+        case CHAR:
+            return args[pc] == c;
+        case ANY:
+            return !isLineTerminator(c);
+        case CLASS:
+            return classes[args[pc]].test(c);
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the character is a line terminator which does not match the dot
+     * in {@link java.util.regex.Pattern}.
+     *
+     * @param c the code point to check.
+     * @return {@code true} if the character is a line terminator.
+     */
+    static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * List of threads waiting for the next character.
+     *
+     * @author leadpony
+     */
+    private static final class ThreadList {
+
+        final int[] pcs;
+        int size;
+
+        ThreadList(int capacity) {
+            this.pcs = new int[capacity];
+        }
+    }
+
+    /**
+     * State of a single simulation.
+     *
+     * @author leadpony
+     */
+    private final class Simulation {
+
+        private final int end;
+        private final int[] marks;
+        private final int[] stack;
+        int generation = 1;
+
+        Simulation(int end) {
+            this.end = end;
+            this.marks = new int[ops.length];
+            this.stack = new int[ops.length];
+        }
+
+        /**
+         * Adds the thread and all threads reachable without consuming any
+         * characters.
+         *
+         * @param list  the list of threads.
+         * @param start the first instruction of the thread.
+         * @param pos   the current position in the input.
+         * @return {@code true} if the match was found.
+         */
+        boolean addThread(ThreadList list, int start, int pos) {
+            if (marks[start] == generation) {
+                return false;
+            }
+            marks[start] = generation;
+            int top = 0;
+            stack[top++] = start;
+            while (top > 0) {
+                int pc = stack[--top];
+                int target = -1;
+                switch (ops[pc]) {
+                case MATCH:
+                    return true;
+                case JUMP:
+                    target = args[pc];
+                    break;
+                case SPLIT:
+                    if (marks[args2[pc]] != generation) {
+                        marks[args2[pc]] = generation;
+                        stack[top++] = args2[pc];
+                    }
+                    target = args[pc];
+                    break;
+                case BEGIN:
+                    if (pos == 0) {
+                        target = pc + 1;
+                    }
+                    break;
+                case END:
+                    if (pos == end) {
+                        target = pc + 1;
+                    }
+                    break;
+                default:
+                    list.pcs[list.size++] = pc;
+                    break;
+                }
+                if (target >= 0 && marks[target] != generation) {
+                    marks[target] = generation;
+                    stack[top++] = target;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Character class with lookup table for ASCII characters.
+     *
+     * @author leadpony
+     */
+    static final class CharClass {
+
+        private static final int ASCII_LIMIT = 128;
+
+        private final long low;
+        private final long high;
+        private final IntPredicate predicate;
+
+        CharClass(IntPredicate predicate) {
+            long low = 0;
+            long high = 0;
+            for (int c = 0; c < ASCII_LIMIT; c++) {
+                if (predicate.test(c)) {
+                    if (c < 64) {
+                        low |= 1L << c;
+                    } else {
+                        high |= 1L << (c - 64);
+                    }
+                }
+            }
+            this.low = low;
+            this.high = high;
+            this.predicate = predicate;
+        }
+
+        boolean test(int c) {
+            if (c < 64) {
+                return (low & (1L << c)) != 0;
+            } else if (c < ASCII_LIMIT) {
+                return (high & (1L << (c - 64))) != 0;
+            }
+            return predicate.test(c);
+        }
+    }
+}
@@ -0,0 +1,659 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.leadpony.justify.internal.base.regex.LinearRegex.CharClass;
+
+/**
+ * Compiler of {@link LinearRegex}.
+ *
+ * <p>
+ * This compiler accepts only the regular constructs whose meanings are the
+ * same as in {@link java.util.regex.Pattern}, that is, literals, character
+ * classes, groups, alternations, quantifiers and anchors at the beginning or
+ * the end. The other constructs including backreferences and lookarounds are
+ * not supported.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class LinearRegexCompiler {
+
+    private static final int MAX_PROGRAM_SIZE = 4096;
+    private static final int MAX_REPETITION = 1000;
+    private static final int UNBOUNDED = -1;
+    private static final int EOS = -1;
+
+    private final String regex;
+    private int index;
+
+    private int[] ops = new int[16];
+    private int[] args = new int[16];
+    private int[] args2 = new int[16];
+    private int size;
+    private final List<CharClass> classes = new ArrayList<>();
+
+    /**
+     * Compiles the regular expression.
+     *
+     * @param regex the regular expression which is syntactically valid.
+     * @return the compiled regular expression, or {@code null} if the expression
+     *         is not supported.
+     */
+    static LinearRegex compile(String regex) {
+        try {
+            return new LinearRegexCompiler(regex).compile();
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+
+    private LinearRegexCompiler(String regex) {
+        this.regex = regex;
+    }
+
+    private LinearRegex compile() {
+        Node node = alternation();
+        if (index < regex.length()) {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        node.emit(this);
+        emit(LinearRegex.MATCH, 0, 0);
+        return new LinearRegex(regex,
+                Arrays.copyOf(ops, size),
+                Arrays.copyOf(args, size),
+                Arrays.copyOf(args2, size),
+                classes.toArray(new CharClass[classes.size()]),
+                node.startsWithBegin());
+    }
+
+    /* Parsing */
+
+    private Node alternation() {
+        Node first = sequence();
+        if (peek() != '|') {
+            return first;
+        }
+        List<Node> alternatives = new ArrayList<>();
+        alternatives.add(first);
+        while (peek() == '|') {
+            next();
+            alternatives.add(sequence());
+        }
+        return new Alternation(alternatives);
+    }
+
+    private Node sequence() {
+        List<Node> items = new ArrayList<>();
+        int c = peek();
+        while (c != EOS && c != '|' && c != ')') {
+            items.add(quantified());
+            c = peek();
+        }
+        return new Sequence(items);
+    }
+
+    private Node quantified() {
+        int c = peek();
+        final boolean assertion = c == '^' || c == '$';
+        Node atom = atom();
+        c = peek();
+        if (!isQuantifier(c)) {
+            return atom;
+        }
+        if (assertion) {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        next();
+        int min = 0;
+        int max = UNBOUNDED;
+        if (c == '+') {
+            min = 1;
+        } else if (c == '?') {
+            max = 1;
+        } else if (c == '{') {
+            min = number();
+            max = min;
+            if (peek() == ',') {
+                next();
+                max = (peek() == '}') ? UNBOUNDED : number();
+            }
+            if (next() != '}' || (max != UNBOUNDED && max < min)) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+        }
+        // Laziness does not matter because only the existence of a match is tested.
+        if (peek() == '?') {
+            next();
+        } else if (peek() == '+') {
+            // Possessive quantifier.
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        if (isQuantifier(peek())) {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        return new Repetition(atom, min, max);
+    }
+
+    private Node atom() {
+        int c = next();
+        switch (c) {
+        case '(':
+            if (peek() == '?') {
+                next();
+                if (next() != ':') {
+                    throw UnsupportedRegexException.INSTANCE;
+                }
+            }
+            Node group = alternation();
+            if (next() != ')') {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            return group;
+        case '[':
+            return characterClass();
+        case '.':
+            return Instruction.ANY;
+        case '^':
+            return Instruction.BEGIN;
+        case '$':
+            // Only the last one is translated into the end of input.
+            if (index < regex.length()) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            return Instruction.END;
+        case '\\':
+            c = next();
+            if (isClassEscape(c)) {
+                return new ClassNode(classEscape(c));
+            }
+            return new Literal(literalEscape(c));
+        case EOS:
+        case '*':
+        case '+':
+        case '?':
+        case '{':
+        case '|':
+        case ')':
+            throw UnsupportedRegexException.INSTANCE;
+        default:
+            return new Literal(c);
+        }
+    }
+
+    private Node characterClass() {
+        boolean negated = false;
+        if (peek() == '^') {
+            next();
+            negated = true;
+        }
+        if (peek() == ']') {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        List<int[]> ranges = new ArrayList<>();
+        List<IntPredicate> escapes = new ArrayList<>();
+        for (;;) {
+            int c = next();
+            if (c == ']') {
+                break;
+            } else if (c == EOS || c == '[' || (c == '&' && peek() == '&')) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            int low = c;
+            if (c == '\\') {
+                c = next();
+                if (isClassEscape(c)) {
+                    // Whitespace classes are nested classes after translation.
+                    if ((negated && (c == 's' || c == 'S')) || isRangeAhead()) {
+                        throw UnsupportedRegexException.INSTANCE;
+                    }
+                    escapes.add(classEscape(c));
+                    continue;
+                }
+                low = literalEscape(c);
+            }
+            int high = low;
+            if (isRangeAhead()) {
+                next();
+                c = next();
+                if (c == '\\') {
+                    c = next();
+                    if (isClassEscape(c)) {
+                        throw UnsupportedRegexException.INSTANCE;
+                    }
+                    high = literalEscape(c);
+                } else if (c == '[' || c == EOS) {
+                    throw UnsupportedRegexException.INSTANCE;
+                } else {
+                    high = c;
+                }
+                if (low == '-' || high < low || isRangeAhead()) {
+                    throw UnsupportedRegexException.INSTANCE;
+                }
+            }
+            ranges.add(new int[] {low, high});
+        }
+        IntPredicate predicate = buildClassPredicate(ranges, escapes);
+        return new ClassNode(negated ? predicate.negate() : predicate);
+    }
+
+    private boolean isRangeAhead() {
+        if (peek() != '-' || index + 1 >= regex.length()) {
+            return false;
+        }
+        return regex.charAt(index + 1) != ']';
+    }
+
+    private int number() {
+        int value = 0;
+        int digits = 0;
+        while (isDigit(peek())) {
+            value = value * 10 + (next() - '0');
+            if (value > MAX_REPETITION) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            digits++;
+        }
+        if (digits == 0) {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        return value;
+    }
+
+    private int literalEscape(int c) {
+        switch (c) {
+        case 't':
+            return '\t';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        case 'f':
+            return '\f';
+        case 'a':
+            return '\u0007';
+        case 'e':
+            return '\u001b';
+        case 'x':
+            return hexDigits(2);
+        case 'u':
+            int value = hexDigits(4);
+            if (Character.isSurrogate((char) value)) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            return value;
+        default:
+            // Escaped non-alphanumeric characters are literals.
+            if (c == EOS || c >= 0x80 || Character.isLetterOrDigit(c)) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            return c;
+        }
+    }
+
+    private int hexDigits(int digits) {
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(next(), 16);
+            if (digit < 0) {
+                throw UnsupportedRegexException.INSTANCE;
+            }
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private int peek() {
+        if (index >= regex.length()) {
+            return EOS;
+        }
+        return regex.codePointAt(index);
+    }
+
+    private int next() {
+        if (index >= regex.length()) {
+            return EOS;
+        }
+        int c = regex.codePointAt(index);
+        index += Character.charCount(c);
+        return c;
+    }
+
+    private static boolean isQuantifier(int c) {
+        return c == '*' || c == '+' || c == '?' || c == '{';
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isClassEscape(int c) {
+        switch (c) {
+        case 'd':
+        case 'D':
+        case 'w':
+        case 'W':
+        case 's':
+        case 'S':
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private static IntPredicate classEscape(int c) {
+        switch (c) {
+        case 'd':
+            return LinearRegexCompiler::isDigit;
+        case 'D':
+            return x -> !isDigit(x);
+        case 'w':
+            return LinearRegexCompiler::isWordCharacter;
+        case 'W':
+            return x -> !isWordCharacter(x);
+        case 's':
+            return LinearRegexCompiler::isWhitespace;
+        default:
+            return x -> !isWhitespace(x);
+        }
+    }
+
+    private static boolean isWordCharacter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_';
+    }
+
+    /**
+     * Checks if the character is a whitespace or a line terminator, as translated
+     * by {@link Ecma262Pattern}.
+     */
+    private static boolean isWhitespace(int c) {
+        switch (c) {
+        case '\t':
+        case '\n':
+        case '\u000b':
+        case '\f':
+        case '\r':
+        case ' ':
+        case '\u00a0':
+        case '\u1680':
+        case '\u180e':
+        case '\u200b':
+        case '\u2028':
+        case '\u2029':
+        case '\u202f':
+        case '\u205f':
+        case '\u3000':
+        case '\ufeff':
+            return true;
+        default:
+            return c >= '\u2000' && c <= '\u200a';
+        }
+    }
+
+    private static IntPredicate buildClassPredicate(List<int[]> ranges, List<IntPredicate> escapes) {
+        final int[][] rangeArray = ranges.toArray(new int[ranges.size()][]);
+        final IntPredicate[] escapeArray = escapes.toArray(new IntPredicate[escapes.size()]);
+        return c -> {
+            for (int[] range : rangeArray) {
+                if (c >= range[0] && c <= range[1]) {
+                    return true;
+                }
+            }
+            for (IntPredicate escape : escapeArray) {
+                if (escape.test(c)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /* Code generation */
+
+    private int emit(int op, int arg, int arg2) {
+        if (size >= MAX_PROGRAM_SIZE) {
+            throw UnsupportedRegexException.INSTANCE;
+        }
+        if (size == ops.length) {
+            int newLength = size * 2;
+            ops = Arrays.copyOf(ops, newLength);
+            args = Arrays.copyOf(args, newLength);
+            args2 = Arrays.copyOf(args2, newLength);
+        }
+        ops[size] = op;
+        args[size] = arg;
+        args2[size] = arg2;
+        return size++;
+    }
+
+    private void patch(int pc, int arg, int arg2) {
+        args[pc] = arg;
+        args2[pc] = arg2;
+    }
+
+    /**
+     * Node of the syntax tree.
+     *
+     * @author leadpony
+     */
+    private interface Node {
+
+        void emit(LinearRegexCompiler compiler);
+
+        default boolean startsWithBegin() {
+            return false;
+        }
+    }
+
+    /**
+     * Nodes emitting single instruction without arguments.
+     *
+     * @author leadpony
+     */
+    private enum Instruction implements Node {
+        ANY(LinearRegex.ANY),
+        BEGIN(LinearRegex.BEGIN),
+        END(LinearRegex.END);
+
+        private final int op;
+
+        Instruction(int op) {
+            this.op = op;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            compiler.emit(op, 0, 0);
+        }
+
+        @Override
+        public boolean startsWithBegin() {
+            return this == BEGIN;
+        }
+    }
+
+    /**
+     * Literal character.
+     *
+     * @author leadpony
+     */
+    private static final class Literal implements Node {
+
+        private final int codePoint;
+
+        Literal(int codePoint) {
+            this.codePoint = codePoint;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            compiler.emit(LinearRegex.CHAR, codePoint, 0);
+        }
+    }
+
+    /**
+     * Character class.
+     *
+     * @author leadpony
+     */
+    private static final class ClassNode implements Node {
+
+        private final CharClass charClass;
+
+        ClassNode(IntPredicate predicate) {
+            this.charClass = new CharClass(predicate);
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            int classIndex = compiler.classes.indexOf(charClass);
+            if (classIndex < 0) {
+                classIndex = compiler.classes.size();
+                compiler.classes.add(charClass);
+            }
+            compiler.emit(LinearRegex.CLASS, classIndex, 0);
+        }
+    }
+
+    /**
+     * Sequence of nodes.
+     *
+     * @author leadpony
+     */
+    private static final class Sequence implements Node {
+
+        private final List<Node> items;
+
+        Sequence(List<Node> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            for (Node item : items) {
+                item.emit(compiler);
+            }
+        }
+
+        @Override
+        public boolean startsWithBegin() {
+            return !items.isEmpty() && items.get(0).startsWithBegin();
+        }
+    }
+
+    /**
+     * Alternation of nodes.
+     *
+     * @author leadpony
+     */
+    private static final class Alternation implements Node {
+
+        private final List<Node> alternatives;
+
+        Alternation(List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            final int last = alternatives.size() - 1;
+            int[] jumps = new int[last];
+            for (int i = 0; i < last; i++) {
+                int split = compiler.emit(LinearRegex.SPLIT, 0, 0);
+                alternatives.get(i).emit(compiler);
+                jumps[i] = compiler.emit(LinearRegex.JUMP, 0, 0);
+                compiler.patch(split, split + 1, compiler.size);
+            }
+            alternatives.get(last).emit(compiler);
+            for (int jump : jumps) {
+                compiler.patch(jump, compiler.size, 0);
+            }
+        }
+
+        @Override
+        public boolean startsWithBegin() {
+            for (Node alternative : alternatives) {
+                if (!alternative.startsWithBegin()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Repetition of a node.
+     *
+     * @author leadpony
+     */
+    private static final class Repetition implements Node {
+
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        Repetition(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public void emit(LinearRegexCompiler compiler) {
+            for (int i = 0; i < min; i++) {
+                node.emit(compiler);
+            }
+            if (max == UNBOUNDED) {
+                int split = compiler.emit(LinearRegex.SPLIT, 0, 0);
+                node.emit(compiler);
+                compiler.emit(LinearRegex.JUMP, split, 0);
+                compiler.patch(split, split + 1, compiler.size);
+            } else {
+                for (int i = min; i < max; i++) {
+                    int split = compiler.emit(LinearRegex.SPLIT, 0, 0);
+                    node.emit(compiler);
+                    compiler.patch(split, split + 1, compiler.size);
+                }
+            }
+        }
+
+        @Override
+        public boolean startsWithBegin() {
+            return min > 0 && node.startsWithBegin();
+        }
+    }
+
+    /**
+     * Exception thrown when the regular expression is not supported.
+     *
+     * @author leadpony
+     */
+    @SuppressWarnings("serial")
+    private static final class UnsupportedRegexException extends RuntimeException {
+
+        static final UnsupportedRegexException INSTANCE = new UnsupportedRegexException();
+
+        private UnsupportedRegexException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+/**
+ * Exception thrown when a match of regular expression exceeded the maximum
+ * number of steps.
+ *
+ * @author leadpony
+ */
+@SuppressWarnings("serial")
+public class RegexStepLimitException extends RuntimeException {
+
+    private final transient Ecma262Regex regex;
+
+    /**
+     * Constructs this exception.
+     *
+     * @param regex the regular expression which exceeded the limit.
+     */
+    public RegexStepLimitException(Ecma262Regex regex) {
+        super(null, null, false, false);
+        this.regex = regex;
+    }
+
+    /**
+     * Returns the regular expression which exceeded the limit.
+     *
+     * @return the regular expression.
+     */
+    public Ecma262Regex getRegex() {
+        return regex;
+    }
+}
@@ -55,12 +55,23 @@ public enum IdnProperty {
     UNASSIGNED;
 
     /**
-     * Calculates the property of the specified character.
+     * Returns the property of the specified character.
      *
      * @param codePoint the code point of the character.
-     * @return the IDN property calculated.
+     * @return the IDN property of the character.
      */
     public static IdnProperty of(int codePoint) {
+        return IdnPropertyTable.lookup(codePoint);
+    }
+
+    /**
+     * Calculates the property of the specified character from the Unicode
+     * character properties.
+     *
+     * @param codePoint the code point of the character.
+     * @return the IDN property calculated.
+     */
+    static IdnProperty compute(int codePoint) {
         IdnProperty property = asExceptional(codePoint);
         if (property != null) {
             return property;
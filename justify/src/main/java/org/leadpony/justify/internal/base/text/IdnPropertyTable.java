@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.text;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Two-level lookup table of {@link IdnProperty} covering all Unicode code
+ * points.
+ *
+ * <p>
+ * The code space is divided into blocks of 256 code points. The first level
+ * maps the upper bits of a code point to a block and the second level holds the
+ * ordinal of the property of each code point in the block. Each block is
+ * computed on its first access, and the blocks whose code points share a single
+ * property are replaced with a shared block, so most of the code space costs
+ * nothing beyond its first-level entry.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class IdnPropertyTable {
+
+    private static final int BLOCK_BITS = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final int NUMBER_OF_BLOCKS = (Character.MAX_CODE_POINT + 1) >> BLOCK_BITS;
+
+    private static final IdnProperty[] PROPERTIES = IdnProperty.values();
+    private static final byte[][] UNIFORM_BLOCKS = createUniformBlocks();
+
+    private static final AtomicReferenceArray<byte[]> BLOCKS = new AtomicReferenceArray<>(NUMBER_OF_BLOCKS);
+
+    private IdnPropertyTable() {
+    }
+
+    /**
+     * Looks up the property of the specified code point.
+     *
+     * @param codePoint the code point of the character.
+     * @return the IDN property of the character.
+     */
+    static IdnProperty lookup(int codePoint) {
+        if (codePoint < 0 || codePoint > Character.MAX_CODE_POINT) {
+            return IdnProperty.compute(codePoint);
+        }
+        final int index = codePoint >>> BLOCK_BITS;
+        byte[] block = BLOCKS.get(index);
+        if (block == null) {
+            block = computeBlock(index);
+            BLOCKS.set(index, block);
+        }
+        return PROPERTIES[block[codePoint & BLOCK_MASK]];
+    }
+
+    private static byte[] computeBlock(int index) {
+        final int first = index << BLOCK_BITS;
+        byte[] block = new byte[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            block[i] = (byte) IdnProperty.compute(first + i).ordinal();
+        }
+        for (byte[] uniform : UNIFORM_BLOCKS) {
+            if (Arrays.equals(block, uniform)) {
+                return uniform;
+            }
+        }
+        return block;
+    }
+
+    private static byte[][] createUniformBlocks() {
+        byte[][] blocks = new byte[PROPERTIES.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            byte[] block = new byte[BLOCK_SIZE];
+            Arrays.fill(block, (byte) i);
+            blocks[i] = block;
+        }
+        return blocks;
+    }
+}
@@ -18,9 +18,11 @@ package org.leadpony.justify.internal.evaluator;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.internal.base.json.JsonValues;
 import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
+import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonLocation;
 
 /**
@@ -51,6 +53,16 @@ public abstract class AbstractKeywordBasedEvaluator extends AbstractEvaluator {
         return keyword;
     }
 
+    /**
+     * Returns the in-memory value which starts at the current event, if the
+     * instance is given as a JSON value rather than a stream.
+     *
+     * @return the current value, or {@code null} if it is not available.
+     */
+    protected final JsonValue getCurrentValue() {
+        return JsonValues.currentValueOf(getParser());
+    }
+
     protected ProblemBuilder newProblemBuilder() {
         EvaluatorContext context = getContext();
         JsonLocation location = getParser().getLocation();
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * Evaluator context which may reuse the results of the keywords tested against
+ * string values.
+ *
+ * @author leadpony
+ */
+public interface CachingEvaluatorContext extends EvaluatorContext {
+
+    /**
+     * Tests the string value with the predicate of the keyword.
+     *
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param predicate the predicate to be called if the result is not cached.
+     * @return the result of the test.
+     */
+    default boolean testString(Keyword keyword, String value, Predicate<String> predicate) {
+        return predicate.test(value);
+    }
+
+    /**
+     * Tests the string value with the predicate of the keyword which requires
+     * this context.
+     *
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param predicate the predicate to be called with this context if the result
+     *                  is not cached.
+     * @return the result of the test.
+     */
+    default boolean testString(Keyword keyword, String value,
+            BiPredicate<String, EvaluatorContext> predicate) {
+        return predicate.test(value, this);
+    }
+
+    /**
+     * Tests the string value with the predicate of the keyword, using the cache
+     * of the context if available.
+     *
+     * @param context   the evaluator context.
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param predicate the predicate to be called if the result is not cached.
+     * @return the result of the test.
+     */
+    static boolean testString(EvaluatorContext context, Keyword keyword, String value,
+            Predicate<String> predicate) {
+        if (context instanceof CachingEvaluatorContext) {
+            return ((CachingEvaluatorContext) context).testString(keyword, value, predicate);
+        }
+        return predicate.test(value);
+    }
+
+    /**
+     * Tests the string value with the predicate of the keyword which requires the
+     * context, using the cache of the context if available. The predicate is
+     * expected to be allocated once per keyword rather than per call.
+     *
+     * @param context   the evaluator context.
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param predicate the predicate to be called with the context if the result
+     *                  is not cached.
+     * @return the result of the test.
+     */
+    static boolean testString(EvaluatorContext context, Keyword keyword, String value,
+            BiPredicate<String, EvaluatorContext> predicate) {
+        if (context instanceof CachingEvaluatorContext) {
+            return ((CachingEvaluatorContext) context).testString(keyword, value, predicate);
+        }
+        return predicate.test(value, context);
+    }
+}
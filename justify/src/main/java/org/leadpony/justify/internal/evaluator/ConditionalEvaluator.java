@@ -20,21 +20,30 @@ import jakarta.json.stream.JsonParser.Event;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.EventBuffer;
 import org.leadpony.justify.internal.problem.DeferredProblemDispatcher;
 
 /**
  * Combination evaluator of if/then/else.
+ * <p>
+ * When the instance is a container and the context can replay events, the
+ * events are recorded until the "if" subschema is decided, and then only the
+ * selected branch is evaluated by replaying the recorded events. Otherwise, or
+ * when the recorded events exceed {@link ReplayableEvaluatorContext#MAX_RECORDED_EVENTS},
+ * both branches are evaluated speculatively.
+ * </p>
  *
  * @author leadpony
  */
 public final class ConditionalEvaluator extends AbstractEvaluator {
 
-    private Evaluator ifEvaluator;
+    private final Evaluator ifEvaluator;
     private Evaluator thenEvaluator;
     private Evaluator elseEvaluator;
 
@@ -42,61 +51,83 @@ public final class ConditionalEvaluator extends AbstractEvaluator {
     private Result thenResult;
     private Result elseResult;
 
+    private Function<Evaluator, Evaluator> thenFactory;
+    private Function<Evaluator, Evaluator> elseFactory;
+    private EventBuffer buffer;
+    private boolean selective;
+
     private Map<Evaluator, ProblemDispatcher> dispatchers;
 
     public static Evaluator of(JsonSchema ifSchema, JsonSchema thenSchema, JsonSchema elseSchema,
             Evaluator parent, InstanceType type) {
-
-        ConditionalEvaluator self = new ConditionalEvaluator(parent);
-
-        Evaluator ifEvaluator = ifSchema.createEvaluator(self, type);
-
-        Evaluator thenEvaluator = thenSchema != null
-                ? thenSchema.createEvaluator(self, type)
-                : Evaluator.ALWAYS_TRUE;
-
-        Evaluator elseEvaluator = elseSchema != null
-                ? elseSchema.createEvaluator(self, type)
-                : Evaluator.ALWAYS_TRUE;
-
-        self.withChildren(ifEvaluator, thenEvaluator, elseEvaluator);
-        return self;
+        return new ConditionalEvaluator(parent, type,
+                self -> ifSchema.createEvaluator(self, type),
+                self -> thenSchema != null
+                    ? thenSchema.createEvaluator(self, type)
+                    : Evaluator.ALWAYS_TRUE,
+                self -> elseSchema != null
+                    ? elseSchema.createEvaluator(self, type)
+                    : Evaluator.ALWAYS_TRUE);
     }
 
     public static Evaluator ofNegated(JsonSchema ifSchema, JsonSchema thenSchema, JsonSchema elseSchema,
             Evaluator parent, InstanceType type) {
-
-        ConditionalEvaluator self = new ConditionalEvaluator(parent);
-
-        Evaluator ifEvaluator = ifSchema.createEvaluator(self, type);
-
-        Evaluator thenEvaluator = thenSchema != null
-                ? thenSchema.createNegatedEvaluator(self, type)
-                : ifSchema.createNegatedEvaluator(self, type);
-
-        Evaluator elseEvaluator = elseSchema != null
-                ? elseSchema.createNegatedEvaluator(self, type)
-                : ifSchema.createEvaluator(self, type);
-
-        self.withChildren(ifEvaluator, thenEvaluator, elseEvaluator);
-        return self;
+        return new ConditionalEvaluator(parent, type,
+                self -> ifSchema.createEvaluator(self, type),
+                self -> thenSchema != null
+                    ? thenSchema.createNegatedEvaluator(self, type)
+                    : ifSchema.createNegatedEvaluator(self, type),
+                self -> elseSchema != null
+                    ? elseSchema.createNegatedEvaluator(self, type)
+                    : ifSchema.createEvaluator(self, type));
     }
 
-    private ConditionalEvaluator(Evaluator parent) {
+    private ConditionalEvaluator(Evaluator parent, InstanceType type,
+            Function<Evaluator, Evaluator> ifFactory,
+            Function<Evaluator, Evaluator> thenFactory,
+            Function<Evaluator, Evaluator> elseFactory) {
         super(parent);
         this.ifResult = Result.PENDING;
         this.thenResult = Result.PENDING;
         this.elseResult = Result.PENDING;
+        this.ifEvaluator = ifFactory.apply(this);
+        if (type.isContainer() && ReplayableEvaluatorContext.canReplay(getContext())) {
+            this.thenFactory = thenFactory;
+            this.elseFactory = elseFactory;
+            this.selective = true;
+        } else {
+            this.thenEvaluator = thenFactory.apply(this);
+            this.elseEvaluator = elseFactory.apply(this);
+        }
     }
 
-    private void withChildren(Evaluator ifEvaluator, Evaluator thenEvaluator, Evaluator elseEvaluator) {
-        this.ifEvaluator = ifEvaluator;
-        this.thenEvaluator = thenEvaluator;
-        this.elseEvaluator = elseEvaluator;
+    @Override
+    public Result evaluate(Event event, int depth) {
+        if (selective) {
+            return evaluateSelectively(event, depth);
+        }
+        return evaluateSpeculatively(event, depth);
     }
 
     @Override
-    public Result evaluate(Event event, int depth) {
+    public ProblemDispatcher getDispatcherForChild(Evaluator evaluator) {
+        if (dispatchers == null) {
+            dispatchers = new HashMap<>();
+        }
+
+        ProblemDispatcher dispatcher = dispatchers.get(evaluator);
+        if (dispatcher == null) {
+            if (evaluator == ifEvaluator) {
+                dispatcher = ProblemDispatcher.SILENT;
+            } else {
+                dispatcher = DeferredProblemDispatcher.empty();
+            }
+            dispatchers.put(evaluator, dispatcher);
+        }
+        return dispatcher;
+    }
+
+    private Result evaluateSpeculatively(Event event, int depth) {
         ifResult = updateEvaluation(ifResult, ifEvaluator, event, depth);
         if (ifResult == Result.TRUE) {
             thenResult = updateEvaluation(thenResult, thenEvaluator, event, depth);
@@ -115,22 +146,84 @@ public final class ConditionalEvaluator extends AbstractEvaluator {
         return Result.PENDING;
     }
 
-    @Override
-    public ProblemDispatcher getDispatcherForChild(Evaluator evaluator) {
-        if (dispatchers == null) {
-            dispatchers = new HashMap<>();
+    /**
+     * Evaluates the "if" subschema while recording the events, and evaluates the
+     * selected branch only after the "if" subschema is decided.
+     */
+    private Result evaluateSelectively(Event event, int depth) {
+        ReplayableEvaluatorContext context = (ReplayableEvaluatorContext) getContext();
+        if (ifResult == Result.PENDING) {
+            if (buffer == null) {
+                buffer = context.acquireEventBuffer();
+            }
+            buffer.record(event, getParser());
+            ifResult = ifEvaluator.evaluate(event, depth);
+            if (ifResult == Result.PENDING) {
+                if (buffer.size() > ReplayableEvaluatorContext.MAX_RECORDED_EVENTS) {
+                    thenEvaluator = thenFactory.apply(this);
+                    elseEvaluator = elseFactory.apply(this);
+                    selective = false;
+                    context.replay(buffer, (e, d) -> {
+                        thenResult = updateEvaluation(thenResult, thenEvaluator, e, d);
+                        elseResult = updateEvaluation(elseResult, elseEvaluator, e, d);
+                        return true;
+                    });
+                    releaseBuffer(context);
+                }
+                return Result.PENDING;
+            }
+            return startBranch(context);
         }
+        return evaluateBranch(event, depth);
+    }
 
-        ProblemDispatcher dispatcher = dispatchers.get(evaluator);
-        if (dispatcher == null) {
-            if (evaluator == ifEvaluator) {
-                dispatcher = ProblemDispatcher.SILENT;
-            } else {
-                dispatcher = DeferredProblemDispatcher.empty();
+    private Result startBranch(ReplayableEvaluatorContext context) {
+        final boolean selectsThen = ifResult == Result.TRUE;
+        final Function<Evaluator, Evaluator> factory = selectsThen ? thenFactory : elseFactory;
+        context.replay(buffer, (event, depth) -> {
+            if (selectsThen) {
+                if (thenEvaluator == null) {
+                    thenEvaluator = factory.apply(this);
+                }
+            } else if (elseEvaluator == null) {
+                elseEvaluator = factory.apply(this);
             }
-            dispatchers.put(evaluator, dispatcher);
+            return evaluateBranch(event, depth) == Result.PENDING;
+        });
+        releaseBuffer(context);
+        if (selectsThen) {
+            return thenResult == Result.PENDING ? thenResult : finalizeEvaluation(thenResult, thenEvaluator);
+        } else {
+            return elseResult == Result.PENDING ? elseResult : finalizeEvaluation(elseResult, elseEvaluator);
         }
-        return dispatcher;
+    }
+
+    /**
+     * Evaluates the branch selected by the "if" subschema. The problems are
+     * dispatched by the caller of {@link #startBranch(ReplayableEvaluatorContext)}
+     * if the branch is decided while replaying.
+     */
+    private Result evaluateBranch(Event event, int depth) {
+        if (ifResult == Result.TRUE) {
+            thenResult = updateEvaluation(thenResult, thenEvaluator, event, depth);
+            if (thenResult != Result.PENDING && buffer == null) {
+                return finalizeEvaluation(thenResult, thenEvaluator);
+            }
+            return thenResult;
+        } else {
+            elseResult = updateEvaluation(elseResult, elseEvaluator, event, depth);
+            if (elseResult != Result.PENDING && buffer == null) {
+                return finalizeEvaluation(elseResult, elseEvaluator);
+            }
+            return elseResult;
+        }
+    }
+
+    private void releaseBuffer(ReplayableEvaluatorContext context) {
+        context.releaseEventBuffer(buffer);
+        buffer = null;
+        thenFactory = null;
+        elseFactory = null;
     }
 
     private Result updateEvaluation(Result result, Evaluator evaluator, Event event, int depth) {
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.evaluator;
 
 import java.util.Iterator;
+import java.util.function.Function;
 
 import jakarta.json.stream.JsonParser.Event;
 
@@ -25,12 +26,15 @@ import org.leadpony.justify.api.Evaluator;
 /**
  * @author leadpony
  */
-class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
+class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator implements SelectiveEvaluator {
 
     private static final long serialVersionUID = 1L;
 
     private final Event closingEvent;
     private Result finalResult = Result.TRUE;
+    // The combined interest of the operands, or negative if not computed yet.
+    private int eventMask;
+    private int maxDepth = -1;
 
     ConjunctiveEvaluator(Evaluator parent, Event closingEvent) {
         super(parent);
@@ -46,17 +50,49 @@ class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
         return Result.PENDING;
     }
 
+    @Override
+    public int getEventMask() {
+        if (maxDepth < 0) {
+            computeInterest();
+        }
+        return eventMask;
+    }
+
+    @Override
+    public int getMaxDepth() {
+        if (maxDepth < 0) {
+            computeInterest();
+        }
+        return maxDepth;
+    }
+
+    @Override
+    public void append(Function<Evaluator, Evaluator> mapper) {
+        super.append(mapper);
+        this.maxDepth = -1;
+    }
+
     protected Result invokeOperandEvaluators(Event event, int depth) {
         Iterator<Evaluator> it = iterator();
         while (it.hasNext()) {
-            Result result = it.next().evaluate(event, depth);
+            Evaluator operand = it.next();
+            if (!SelectiveEvaluator.accepts(operand, event, depth)) {
+                continue;
+            }
+            Result result = operand.evaluate(event, depth);
             if (result != Result.PENDING) {
                 if (result == Result.FALSE) {
                     finalResult = Result.FALSE;
                 }
                 it.remove();
+                this.maxDepth = -1;
             }
         }
         return Result.PENDING;
     }
+
+    private void computeInterest() {
+        this.eventMask = SelectiveEvaluator.eventMaskOf(this) | SelectiveEvaluator.maskOf(closingEvent);
+        this.maxDepth = SelectiveEvaluator.maxDepthOf(this);
+    }
 }
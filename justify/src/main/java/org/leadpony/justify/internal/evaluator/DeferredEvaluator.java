@@ -54,6 +54,14 @@ public class DeferredEvaluator implements Evaluator, ProblemDispatcher {
         this.evaluator = evaluator;
     }
 
+    /**
+     * Resets this evaluator to be reused for another evaluator.
+     */
+    void reset() {
+        this.evaluator = null;
+        this.problemBranch = null;
+    }
+
     @Override
     public Result evaluate(Event event, int depth) {
         return evaluator.evaluate(event, depth);
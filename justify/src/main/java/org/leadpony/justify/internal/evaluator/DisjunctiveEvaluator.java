@@ -37,7 +37,7 @@ class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
 
     @Override
     public Result evaluate(Event event, int depth) {
-        if (invokeOperandEvaluators(event, depth) == Result.TRUE) {
+        if (isSatisfied() || invokeOperandEvaluators(event, depth) == Result.TRUE) {
             return Result.TRUE;
         }
         if (depth == 0 && event == closingEvent) {
@@ -58,6 +58,7 @@ class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
                     addBadEvaluator(current);
                 }
                 it.remove();
+                recycle(current);
             }
         }
         return Result.PENDING;
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the evaluators created by a keyword of a schema.
+ * Instances of this type are thread-safe.
+ *
+ * @author leadpony
+ */
+public final class KeywordStatistics {
+
+    private final LongAdder evaluators = new LongAdder();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder sampledEvents = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+
+    /**
+     * Records that an evaluator was created.
+     */
+    public void countEvaluator() {
+        evaluators.increment();
+    }
+
+    /**
+     * Records that an event was processed.
+     *
+     * @param failed {@code true} if the evaluator returned the false result.
+     */
+    public void countEvent(boolean failed) {
+        events.increment();
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Records the time spent on an event.
+     *
+     * @param nanos the elapsed time in nanoseconds.
+     */
+    public void addSample(long nanos) {
+        sampledEvents.increment();
+        sampledNanos.add(nanos);
+    }
+
+    /**
+     * Returns the number of the evaluators created.
+     *
+     * @return the number of the evaluators.
+     */
+    public long getEvaluators() {
+        return evaluators.sum();
+    }
+
+    /**
+     * Returns the number of the events processed.
+     *
+     * @return the number of the events.
+     */
+    public long getEvents() {
+        return events.sum();
+    }
+
+    /**
+     * Returns the number of the false results.
+     *
+     * @return the number of the false results.
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the number of the events whose evaluation was timed.
+     *
+     * @return the number of the sampled events.
+     */
+    public long getSampledEvents() {
+        return sampledEvents.sum();
+    }
+
+    /**
+     * Returns the total time spent on the sampled events.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getSampledNanos() {
+        return sampledNanos.sum();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+
+/**
+ * A decorator of {@link Evaluator} which records the activity of the decorated
+ * evaluator into {@link KeywordStatistics}.
+ *
+ * <p>
+ * Only one of every {@link #SAMPLING_INTERVAL} events is timed, starting from
+ * the first one, in order to keep the overhead of the clock small.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class ProfilingEvaluator implements SelectiveEvaluator {
+
+    /**
+     * The interval of the events to be timed, which must be a power of two.
+     */
+    public static final int SAMPLING_INTERVAL = 16;
+
+    private final Evaluator real;
+    private final KeywordStatistics statistics;
+    private int events;
+
+    public ProfilingEvaluator(Evaluator evaluator, KeywordStatistics statistics) {
+        this.real = evaluator;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth) {
+        Result result;
+        if ((events++ & (SAMPLING_INTERVAL - 1)) == 0) {
+            long start = System.nanoTime();
+            result = real.evaluate(event, depth);
+            statistics.addSample(System.nanoTime() - start);
+        } else {
+            result = real.evaluate(event, depth);
+        }
+        statistics.countEvent(result == Result.FALSE);
+        return result;
+    }
+
+    @Override
+    public boolean isAlwaysFalse() {
+        return real.isAlwaysFalse();
+    }
+
+    @Override
+    public Evaluator getParent() {
+        return real.getParent();
+    }
+
+    @Override
+    public int getEventMask() {
+        if (real instanceof SelectiveEvaluator) {
+            return ((SelectiveEvaluator) real).getEventMask();
+        }
+        return ALL_EVENTS;
+    }
+
+    @Override
+    public int getMaxDepth() {
+        if (real instanceof SelectiveEvaluator) {
+            return ((SelectiveEvaluator) real).getMaxDepth();
+        }
+        return UNLIMITED_DEPTH;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * Evaluator context which may record the activity of the keywords.
+ *
+ * @author leadpony
+ */
+public interface ProfilingEvaluatorContext extends EvaluatorContext {
+
+    /**
+     * Returns the statistics for the keyword of the schema.
+     *
+     * @param schema  the schema owning the keyword.
+     * @param keyword the keyword to profile.
+     * @return the statistics, or {@code null} if this context does not profile.
+     */
+    default KeywordStatistics getKeywordStatistics(JsonSchema schema, Keyword keyword) {
+        return null;
+    }
+
+    /**
+     * Decorates the evaluator created by the keyword if the context of the parent
+     * profiles the validation. Otherwise the evaluator is returned as it is.
+     *
+     * @param evaluator the evaluator created by the keyword.
+     * @param parent    the parent of the evaluator, which is based on the schema
+     *                  owning the keyword.
+     * @param keyword   the keyword which created the evaluator.
+     * @return the decorated evaluator or the original one.
+     */
+    static Evaluator profile(Evaluator evaluator, Evaluator parent, Keyword keyword) {
+        KeywordStatistics statistics = statisticsOf(parent.getContext(), parent.getSchema(), keyword);
+        if (statistics != null) {
+            statistics.countEvaluator();
+            if (evaluator != Evaluator.ALWAYS_TRUE) {
+                return new ProfilingEvaluator(evaluator, statistics);
+            }
+        }
+        return evaluator;
+    }
+
+    /**
+     * Returns the statistics for the keyword of the schema if the context
+     * profiles the validation.
+     *
+     * @param context the context of the validation.
+     * @param schema  the schema owning the keyword.
+     * @param keyword the keyword to profile.
+     * @return the statistics, or {@code null} if the context does not profile.
+     */
+    static KeywordStatistics statisticsOf(EvaluatorContext context, JsonSchema schema, Keyword keyword) {
+        if (context instanceof ProfilingEvaluatorContext) {
+            return ((ProfilingEvaluatorContext) context).getKeywordStatistics(schema, keyword);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
+
+/**
+ * Evaluator context which bounds the matches of regular expressions.
+ *
+ * @author leadpony
+ */
+public interface RegexEvaluatorContext extends EvaluatorContext {
+
+    /**
+     * Returns the number of steps allowed per input character for a match of
+     * regular expression.
+     *
+     * @return the number of steps allowed per input character.
+     */
+    default long getRegexStepLimit() {
+        return Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
+    }
+
+    /**
+     * Returns the number of steps allowed per input character for a match of
+     * regular expression in the specified context.
+     *
+     * @param context the evaluator context.
+     * @return the number of steps allowed per input character.
+     */
+    static long getRegexStepLimit(EvaluatorContext context) {
+        if (context instanceof RegexEvaluatorContext) {
+            return ((RegexEvaluatorContext) context).getRegexStepLimit();
+        }
+        return Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.internal.base.json.EventBuffer;
+
+/**
+ * Evaluator context which can replay the recorded events to the evaluators
+ * created after the events were consumed.
+ *
+ * @author leadpony
+ */
+public interface ReplayableEvaluatorContext extends EvaluatorContext {
+
+    /**
+     * The maximum number of events to be recorded in a buffer. Evaluators should
+     * fall back to the speculative evaluation beyond this limit.
+     */
+    int MAX_RECORDED_EVENTS = 1024;
+
+    /**
+     * Checks if this context can replay events.
+     *
+     * @return {@code true} if this context can replay events.
+     */
+    boolean canReplay();
+
+    /**
+     * Returns an empty buffer for recording the events of the current value.
+     *
+     * @return the empty buffer.
+     */
+    EventBuffer acquireEventBuffer();
+
+    /**
+     * Returns the buffer no longer used to this context for later reuse.
+     *
+     * @param buffer the buffer to return.
+     */
+    void releaseEventBuffer(EventBuffer buffer);
+
+    /**
+     * Replays the recorded events. While the events are replayed, the parser and
+     * the JSON pointer provided by this context reflect the replayed event.
+     *
+     * @param buffer  the buffer containing the events.
+     * @param handler the handler of the replayed events.
+     */
+    void replay(EventBuffer buffer, ReplayHandler handler);
+
+    /**
+     * Checks if the specified context can replay events.
+     *
+     * @param context the evaluator context to check.
+     * @return {@code true} if the context can replay events.
+     */
+    static boolean canReplay(EvaluatorContext context) {
+        return context instanceof ReplayableEvaluatorContext
+                && ((ReplayableEvaluatorContext) context).canReplay();
+    }
+
+    /**
+     * A handler of the replayed events.
+     *
+     * @author leadpony
+     */
+    @FunctionalInterface
+    interface ReplayHandler {
+
+        /**
+         * Handles the replayed event.
+         *
+         * @param event the replayed event.
+         * @param depth the depth of the event relative to the recorded value.
+         * @return {@code true} to continue replaying, {@code false} to stop.
+         */
+        boolean handleEvent(Event event, int depth);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.Optional;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.JsonSchema;
+
+/**
+ * An evaluator which opens a dynamic scope for the schema it evaluates.
+ * <p>
+ * Each scope remembers the outermost schema in the dynamic scope which is the
+ * target of "$recursiveRef", once it was resolved. As the scopes are linked
+ * through the parents of the evaluators, the scope of an evaluator is shared
+ * by all of its descendants and it is resolved at most once.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface ScopingEvaluator extends Evaluator {
+
+    /**
+     * Returns the outermost schema in the dynamic scope which is the target of
+     * recursive references.
+     *
+     * @return the resolved schema, {@link Optional#empty()} if no schema is the
+     *         target, or {@code null} if not resolved yet.
+     */
+    Optional<JsonSchema> getRecursiveAnchor();
+
+    /**
+     * Assigns the outermost schema in the dynamic scope which is the target of
+     * recursive references.
+     *
+     * @param anchor the resolved schema, or {@link Optional#empty()} if no schema
+     *               is the target.
+     */
+    void setRecursiveAnchor(Optional<JsonSchema> anchor);
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.evaluator;
+
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+
+/**
+ * An evaluator which declares the events it is interested in. Combining
+ * evaluators do not pass the other events to this evaluator.
+ * <p>
+ * The interest is expressed as a set of event kinds and a maximum depth
+ * relative to the value being evaluated. Receiving events outside the interest
+ * must not affect the result, since the events may still be passed.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface SelectiveEvaluator extends Evaluator {
+
+    /**
+     * The mask of all events.
+     */
+    int ALL_EVENTS = (1 << Event.values().length) - 1;
+
+    /**
+     * The depth which is not limited.
+     */
+    int UNLIMITED_DEPTH = Integer.MAX_VALUE;
+
+    /**
+     * Returns the mask of the events this evaluator is interested in.
+     *
+     * @return the mask of the events.
+     * @see #maskOf(Event...)
+     */
+    default int getEventMask() {
+        return ALL_EVENTS;
+    }
+
+    /**
+     * Returns the maximum relative depth of the events this evaluator is
+     * interested in.
+     *
+     * @return the maximum depth, inclusive.
+     */
+    default int getMaxDepth() {
+        return UNLIMITED_DEPTH;
+    }
+
+    /**
+     * Returns the mask of the specified events.
+     *
+     * @param events the events to include.
+     * @return the mask of the events.
+     */
+    static int maskOf(Event... events) {
+        int mask = 0;
+        for (Event event : events) {
+            mask |= 1 << event.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the union of the event masks of the specified evaluators.
+     *
+     * @param evaluators the evaluators to combine.
+     * @return the combined mask.
+     */
+    static int eventMaskOf(Iterable<? extends Evaluator> evaluators) {
+        int mask = 0;
+        for (Evaluator evaluator : evaluators) {
+            if (!(evaluator instanceof SelectiveEvaluator)) {
+                return ALL_EVENTS;
+            }
+            mask |= ((SelectiveEvaluator) evaluator).getEventMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the largest maximum depth of the specified evaluators.
+     *
+     * @param evaluators the evaluators to combine.
+     * @return the combined maximum depth.
+     */
+    static int maxDepthOf(Iterable<? extends Evaluator> evaluators) {
+        int maxDepth = 0;
+        for (Evaluator evaluator : evaluators) {
+            if (!(evaluator instanceof SelectiveEvaluator)) {
+                return UNLIMITED_DEPTH;
+            }
+            maxDepth = Math.max(maxDepth, ((SelectiveEvaluator) evaluator).getMaxDepth());
+        }
+        return maxDepth;
+    }
+
+    /**
+     * Checks if the specified evaluator is interested in the event.
+     *
+     * @param evaluator the evaluator to check.
+     * @param event     the event to pass.
+     * @param depth     the depth of the event.
+     * @return {@code true} if the evaluator is interested in the event.
+     */
+    static boolean accepts(Evaluator evaluator, Event event, int depth) {
+        if (evaluator instanceof SelectiveEvaluator) {
+            SelectiveEvaluator selective = (SelectiveEvaluator) evaluator;
+            return depth <= selective.getMaxDepth()
+                    && (selective.getEventMask() & (1 << event.ordinal())) != 0;
+        }
+        return true;
+    }
+}
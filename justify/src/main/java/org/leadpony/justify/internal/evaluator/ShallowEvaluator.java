@@ -26,12 +26,24 @@ import org.leadpony.justify.api.keyword.Keyword;
  *
  * @author leadpony
  */
-public abstract class ShallowEvaluator extends AbstractKeywordBasedEvaluator {
+public abstract class ShallowEvaluator extends AbstractKeywordBasedEvaluator implements SelectiveEvaluator {
+
+    /**
+     * The mask of the events required to check the property names. The start of
+     * the object is included for the instance given as an in-memory value.
+     */
+    protected static final int PROPERTY_EVENTS = SelectiveEvaluator.maskOf(
+            Event.START_OBJECT, Event.KEY_NAME, Event.END_OBJECT);
 
     protected ShallowEvaluator(Evaluator parent, Keyword keyword) {
         super(parent, keyword);
     }
 
+    @Override
+    public int getMaxDepth() {
+        return 1;
+    }
+
     @Override
     public final Result evaluate(Event event, int depth) {
         if (depth > 1) {
@@ -40,6 +40,10 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
 
     private final List<DeferredEvaluator> operands = new ArrayList<>();
     private List<ProblemBranch> problemBranches;
+    // true if any of the operands is always true.
+    private boolean satisfied;
+    // The operand not in use, which will be reused by the next operand.
+    private DeferredEvaluator spare;
 
     SimpleDisjunctiveEvaluator(Evaluator parent, Keyword keyword) {
         super(parent, keyword);
@@ -47,6 +51,9 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
 
     @Override
     public Result evaluate(Event event, int depth) {
+        if (satisfied) {
+            return Result.TRUE;
+        }
         for (DeferredEvaluator operand : operands) {
             Result result = operand.evaluate(event, depth);
             if (result == Result.TRUE) {
@@ -60,8 +67,21 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
 
     @Override
     public void append(Function<Evaluator, Evaluator> mapper) {
-        DeferredEvaluator deferred = new DeferredEvaluator(this);
+        if (satisfied) {
+            return;
+        }
+        DeferredEvaluator deferred = this.spare;
+        if (deferred != null) {
+            this.spare = null;
+        } else {
+            deferred = new DeferredEvaluator(this);
+        }
         Evaluator child = mapper.apply(deferred);
+        if (child == Evaluator.ALWAYS_TRUE) {
+            this.satisfied = true;
+            this.spare = deferred;
+            return;
+        }
         deferred.setEvaluator(child);
         this.operands.add(deferred);
     }
@@ -78,6 +98,28 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
         problemBranches.add(evaluator.problems());
     }
 
+    /**
+     * Checks whether this evaluator has an operand which is always true.
+     *
+     * @return {@code true} if this evaluator is satisfied by any operand.
+     */
+    protected boolean isSatisfied() {
+        return satisfied;
+    }
+
+    /**
+     * Recycles the operand which was removed after its evaluation completed.
+     * The problems found by the operand must have been taken beforehand.
+     *
+     * @param operand the operand to recycle.
+     */
+    protected void recycle(DeferredEvaluator operand) {
+        if (this.spare == null) {
+            operand.reset();
+            this.spare = operand;
+        }
+    }
+
     protected Result dispatchProblems() {
         if (problemBranches == null) {
             dispatchDefaultProblem();
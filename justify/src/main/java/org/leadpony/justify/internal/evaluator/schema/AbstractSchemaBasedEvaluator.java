@@ -15,12 +15,17 @@
  */
 package org.leadpony.justify.internal.evaluator.schema;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
+import org.leadpony.justify.internal.evaluator.ScopingEvaluator;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 import jakarta.json.stream.JsonLocation;
@@ -30,11 +35,12 @@ import jakarta.json.stream.JsonLocation;
  *
  * @author leadpony
  */
-abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator {
+abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator implements ScopingEvaluator {
 
     private final JsonSchema schema;
     private EvaluatorContext context;
     private ProblemDispatcher dispatcher;
+    private Optional<JsonSchema> recursiveAnchor;
 
     protected AbstractSchemaBasedEvaluator(Evaluator parent, JsonSchema schema) {
         super(parent);
@@ -62,10 +68,9 @@ abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator {
 
     @Override
     public ProblemDispatcher getDispatcher() {
-        if (dispatcher != null) {
-            return dispatcher;
+        if (dispatcher == null) {
+            resolveDispatchers();
         }
-        dispatcher = super.getDispatcher();
         return dispatcher;
     }
 
@@ -78,6 +83,48 @@ abstract class AbstractSchemaBasedEvaluator extends AbstractEvaluator {
         return true;
     }
 
+    @Override
+    public final Optional<JsonSchema> getRecursiveAnchor() {
+        return recursiveAnchor;
+    }
+
+    @Override
+    public final void setRecursiveAnchor(Optional<JsonSchema> anchor) {
+        this.recursiveAnchor = anchor;
+    }
+
+    /**
+     * Resolves the dispatchers of this evaluator and of the ancestors not resolved
+     * yet, starting from the topmost one. Each lookup then stops at the nearest
+     * resolved ancestor, so the call stack does not grow with the depth of the
+     * evaluators.
+     */
+    private void resolveDispatchers() {
+        Deque<AbstractSchemaBasedEvaluator> unresolved = new ArrayDeque<>();
+        Evaluator current = this;
+        while (current != null) {
+            if (current instanceof AbstractSchemaBasedEvaluator) {
+                AbstractSchemaBasedEvaluator evaluator = (AbstractSchemaBasedEvaluator) current;
+                if (evaluator.dispatcher != null) {
+                    break;
+                }
+                unresolved.push(evaluator);
+            } else if (current instanceof ProblemDispatcher) {
+                // This ancestor handles the problems of its descendants by itself.
+                break;
+            }
+            current = current.getParent();
+        }
+        while (!unresolved.isEmpty()) {
+            AbstractSchemaBasedEvaluator evaluator = unresolved.pop();
+            evaluator.dispatcher = evaluator.findDispatcher();
+        }
+    }
+
+    private ProblemDispatcher findDispatcher() {
+        return super.getDispatcher();
+    }
+
     protected final ProblemBuilder createProblemBuilder() {
         EvaluatorContext context = getContext();
         JsonLocation location = context.getParser().getLocation();
@@ -15,10 +15,13 @@
  */
 package org.leadpony.justify.internal.evaluator.schema;
 
+import static org.leadpony.justify.internal.evaluator.ProfilingEvaluatorContext.profile;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.leadpony.justify.api.Evaluator;
@@ -29,6 +32,7 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.keyword.EvaluationKeyword;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.DeferredEvaluator;
+import org.leadpony.justify.internal.evaluator.SelectiveEvaluator;
 import org.leadpony.justify.internal.evaluator.UnsupportedTypeEvaluator;
 import org.leadpony.justify.internal.problem.ProblemBranch;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -53,6 +57,31 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
         return self;
     }
 
+    /**
+     * Creates an evaluator for the keywords of which one has already failed the
+     * test of the value. The keywords preceding the failed one are assumed to
+     * have passed their tests. The evaluator reporting the failure is not
+     * profiled, as the test itself was recorded by the caller.
+     *
+     * @param failure   the function creating the evaluator reporting the failure.
+     * @param remaining the keywords following the failed one, not tested yet.
+     * @param parent    the parent evaluator.
+     * @param schema    the schema containing the keywords.
+     * @param type      the type of the value.
+     * @return newly created evaluator.
+     */
+    public static Evaluator ofFailed(Function<Evaluator, Evaluator> failure,
+            Collection<EvaluationKeyword> remaining,
+            Evaluator parent,
+            JsonSchema schema,
+            InstanceType type) {
+
+        ComplexSchemaBasedEvaluator self = createEvaluator(parent, schema, type);
+        self.children.add(failure.apply(self));
+        self.addChildren(remaining, type);
+        return self;
+    }
+
     public static Evaluator ofNegated(Collection<EvaluationKeyword> keywords,
             Evaluator parent,
             JsonSchema schema,
@@ -105,7 +134,7 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
 
     protected void addChild(EvaluationKeyword keyword, InstanceType type) {
         if (keyword.supportsType(type)) {
-            Evaluator child = keyword.createEvaluator(this, type);
+            Evaluator child = profile(keyword.createEvaluator(this, type), this, keyword);
             if (child != Evaluator.ALWAYS_TRUE) {
                 this.children.add(child);
             }
@@ -130,10 +159,14 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
         }
     }
 
-    private static final class CollectionTypeEvaluator extends ComplexSchemaBasedEvaluator {
+    private static final class CollectionTypeEvaluator extends ComplexSchemaBasedEvaluator
+            implements SelectiveEvaluator {
 
         private final Event closingEvent;
         private Result result = Result.TRUE;
+        // The combined interest of the children, or negative if not computed yet.
+        private int eventMask;
+        private int maxDepth = -1;
 
         private CollectionTypeEvaluator(Evaluator parent, JsonSchema schema, Event closingEvent) {
             super(parent, schema);
@@ -155,13 +188,38 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
             return Result.PENDING;
         }
 
+        @Override
+        public int getEventMask() {
+            if (maxDepth < 0) {
+                computeInterest();
+            }
+            return eventMask;
+        }
+
+        @Override
+        public int getMaxDepth() {
+            if (maxDepth < 0) {
+                computeInterest();
+            }
+            return maxDepth;
+        }
+
+        private void computeInterest() {
+            this.eventMask = SelectiveEvaluator.eventMaskOf(children) | SelectiveEvaluator.maskOf(closingEvent);
+            this.maxDepth = SelectiveEvaluator.maxDepthOf(children);
+        }
+
         private void invokeChildren(Event event, int depth) {
             Iterator<Evaluator> it = this.children.iterator();
             while (it.hasNext()) {
                 Evaluator child = it.next();
+                if (!SelectiveEvaluator.accepts(child, event, depth)) {
+                    continue;
+                }
                 Result result = child.evaluate(event, depth);
                 if (result != Result.PENDING) {
                     it.remove();
+                    this.maxDepth = -1;
                     if (result == Result.FALSE) {
                         this.result = Result.FALSE;
                     }
@@ -243,7 +301,7 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
         protected void addChild(EvaluationKeyword keyword, InstanceType type) {
             Evaluator child;
             if (keyword.supportsType(type)) {
-                child = keyword.createNegatedEvaluator(this, type);
+                child = profile(keyword.createNegatedEvaluator(this, type), this, keyword);
             } else {
                 child = new UnsupportedTypeEvaluator(this, keyword, type);
             }
@@ -287,7 +345,7 @@ public abstract class ComplexSchemaBasedEvaluator extends AbstractSchemaBasedEva
             DeferredEvaluator deferred = new DeferredEvaluator(this);
             Evaluator evaluator;
             if (keyword.supportsType(type)) {
-                evaluator = keyword.createNegatedEvaluator(deferred, type);
+                evaluator = profile(keyword.createNegatedEvaluator(deferred, type), this, keyword);
             } else {
                 evaluator = new UnsupportedTypeEvaluator(deferred, keyword, type);
             }
@@ -15,6 +15,10 @@
  */
 package org.leadpony.justify.internal.evaluator.schema;
 
+import static org.leadpony.justify.internal.evaluator.ProfilingEvaluatorContext.profile;
+
+import java.util.function.Function;
+
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
@@ -33,19 +37,41 @@ public final class SimpleSchemaBasedEvaluator extends AbstractSchemaBasedEvaluat
             InstanceType type) {
         if (keyword.supportsType(type)) {
             SimpleSchemaBasedEvaluator self = new SimpleSchemaBasedEvaluator(parent, schema);
-            self.child = keyword.createEvaluator(self, type);
+            Evaluator child = profile(keyword.createEvaluator(self, type), self, keyword);
+            if (child == Evaluator.ALWAYS_TRUE) {
+                return child;
+            }
+            self.child = child;
             return self;
         } else {
             return Evaluator.ALWAYS_TRUE;
         }
     }
 
+    /**
+     * Creates an evaluator for the keyword which has already failed the test of the
+     * value. The evaluator reporting the failure is not profiled, as the test
+     * itself was recorded by the caller.
+     *
+     * @param failure the function creating the evaluator reporting the failure.
+     * @param parent  the parent evaluator.
+     * @param schema  the schema containing the keyword.
+     * @return newly created evaluator.
+     */
+    public static Evaluator ofFailed(Function<Evaluator, Evaluator> failure,
+            Evaluator parent,
+            JsonSchema schema) {
+        SimpleSchemaBasedEvaluator self = new SimpleSchemaBasedEvaluator(parent, schema);
+        self.child = failure.apply(self);
+        return self;
+    }
+
     public static Evaluator ofNegated(EvaluationKeyword keyword, Evaluator parent,
             JsonSchema schema,
             InstanceType type) {
         SimpleSchemaBasedEvaluator self = new SimpleSchemaBasedEvaluator(parent, schema);
         if (keyword.supportsType(type)) {
-            self.child = keyword.createNegatedEvaluator(self, type);
+            self.child = profile(keyword.createNegatedEvaluator(self, type), self, keyword);
         } else {
             self.child = new UnsupportedTypeEvaluator(self, keyword, type);
         }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword;
+
+import java.util.function.Consumer;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.ApplicatorKeyword;
+
+/**
+ * An applicator keyword which selects the subschemas to be applied to each
+ * child of the instance only by the name or the index of the child.
+ *
+ * @author leadpony
+ */
+public interface ChildApplicatorKeyword extends ApplicatorKeyword {
+
+    /**
+     * Finds the subschemas to be applied to the specified child of the instance.
+     *
+     * @param token    the name of the property, or the index of the item in the
+     *                 array, as a token of JSON pointer.
+     * @param consumer the consumer of the subschemas found.
+     */
+    void findChildSchemas(String token, Consumer<JsonSchema> consumer);
+}
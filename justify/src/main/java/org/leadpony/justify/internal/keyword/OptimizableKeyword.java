@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword;
+
+import java.util.function.Predicate;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * A keyword which can simplify its evaluation once all of its subschemas are
+ * known.
+ *
+ * <p>
+ * The optimization must not change the result of the evaluation or the
+ * problems to be reported.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface OptimizableKeyword extends Keyword {
+
+    /**
+     * Optimizes this keyword. This method is called after all of the subschemas
+     * of this keyword were optimized, and may be called more than once if this
+     * keyword is shared by multiple schemas.
+     *
+     * <p>
+     * The keyword may be already in use by other threads when this method is
+     * called again. Implementations must keep the result of the first call and
+     * publish it safely, for example through a single volatile field referring
+     * to an immutable state.
+     * </p>
+     *
+     * @param alwaysTrue the predicate telling whether a subschema is known to be
+     *                   valid against any instance.
+     */
+    void optimize(Predicate<JsonSchema> alwaysTrue);
+
+    /**
+     * Checks whether this keyword is known to be satisfied by any instance after
+     * the optimization.
+     *
+     * @return {@code true} if this keyword is always satisfied.
+     */
+    boolean isAlwaysTrue();
+}
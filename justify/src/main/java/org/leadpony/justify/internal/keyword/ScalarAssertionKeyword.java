@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.keyword;
+
+import java.util.function.Function;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.keyword.EvaluationKeyword;
+
+/**
+ * An evaluation keyword which can test a scalar value without creating any
+ * evaluator. Evaluators are still created to report problems when the test
+ * fails, but the value is never tested again.
+ *
+ * <p>
+ * Note that reading the value itself may allocate, e.g. numeric keywords
+ * receive the value as {@link java.math.BigDecimal} from the parser.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface ScalarAssertionKeyword extends EvaluationKeyword {
+
+    /**
+     * Tests the scalar value at the current position of the parser.
+     *
+     * @param context the context providing the parser.
+     * @param type    the type of the value, which is supported by this keyword.
+     * @return {@code null} if the value is valid, otherwise the function which
+     *         creates the evaluator reporting the problem found, given the
+     *         parent evaluator.
+     */
+    Function<Evaluator, Evaluator> test(EvaluatorContext context, InstanceType type);
+}
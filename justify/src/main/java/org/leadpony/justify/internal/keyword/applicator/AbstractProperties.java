@@ -28,8 +28,12 @@ import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
+import org.leadpony.justify.internal.base.regex.RegexStepLimitException;
 import org.leadpony.justify.internal.evaluator.AbstractConjunctivePropertiesEvaluator;
 import org.leadpony.justify.internal.evaluator.AbstractDisjunctivePropertiesEvaluator;
+import org.leadpony.justify.internal.evaluator.RegexEvaluatorContext;
+import org.leadpony.justify.internal.keyword.ChildApplicatorKeyword;
 import org.leadpony.justify.internal.keyword.JsonSchemaMap;
 
 /**
@@ -39,7 +43,8 @@ import org.leadpony.justify.internal.keyword.JsonSchemaMap;
  *
  * @author leadpony
  */
-public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyword {
+public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyword
+        implements ChildApplicatorKeyword {
 
     protected final Map<K, JsonSchema> propertyMap;
     private final JsonSchemaMap schemaMap;
@@ -80,6 +85,18 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
         return schemaMap.findSchema(jsonPointer);
     }
 
+    @Override
+    public void findChildSchemas(String token, Consumer<JsonSchema> consumer) {
+        try {
+            if (!findSubschemas(token, Ecma262Regex.DEFAULT_STEPS_PER_CHAR, consumer)) {
+                consumer.accept(defaultSchema);
+            }
+        } catch (RegexStepLimitException e) {
+            // Leaves the property to be validated along with the parent.
+            consumer.accept(JsonSchema.FALSE);
+        }
+    }
+
     protected final AdditionalProperties getAdditionalProperties(Map<String, Keyword> siblings) {
         if (siblings.containsKey("additionalProperties")) {
             return (AdditionalProperties) siblings.get("additionalProperties");
@@ -87,7 +104,18 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
         return null;
     }
 
-    protected abstract boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer);
+    /**
+     * Finds the subschemas to be applied to the property.
+     *
+     * @param keyName   the name of the property.
+     * @param stepLimit the number of steps allowed per character for matching
+     *                  the name against patterns.
+     * @param consumer  the consumer of the subschemas found.
+     * @return {@code true} if any subschema was found.
+     * @throws RegexStepLimitException if the name could not be matched against a
+     *                                 pattern within the step limit.
+     */
+    protected abstract boolean findSubschemas(String keyName, long stepLimit, Consumer<JsonSchema> consumer);
 
     /**
      * An evaluator of this keyword.
@@ -111,8 +139,16 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
                 currentKeyName = parser.getString();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
-                    accept(defaultSchema);
+                long stepLimit = RegexEvaluatorContext.getRegexStepLimit(getContext());
+                try {
+                    if (!findSubschemas(currentKeyName, stepLimit, this)) {
+                        accept(defaultSchema);
+                    }
+                } catch (RegexStepLimitException e) {
+                    Ecma262Regex pattern = e.getRegex();
+                    String keyName = currentKeyName;
+                    append(parent -> new PatternStepLimitEvaluator(parent, AbstractProperties.this,
+                            keyName, pattern, stepLimit));
                 }
             }
         }
@@ -153,8 +189,16 @@ public abstract class AbstractProperties<K> extends AbstractObjectApplicatorKeyw
                 currentKeyName = parser.getString();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
-                    accept(defaultSchema);
+                long stepLimit = RegexEvaluatorContext.getRegexStepLimit(getContext());
+                try {
+                    if (!findSubschemas(currentKeyName, stepLimit, this)) {
+                        accept(defaultSchema);
+                    }
+                } catch (RegexStepLimitException e) {
+                    Ecma262Regex pattern = e.getRegex();
+                    String keyName = currentKeyName;
+                    append(parent -> new PatternStepLimitEvaluator(parent, AbstractProperties.this,
+                            keyName, pattern, stepLimit));
                 }
             }
         }
@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.keyword.applicator;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
@@ -34,6 +35,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.evaluator.AbstractConjunctivePropertiesEvaluator;
 import org.leadpony.justify.internal.evaluator.AbstractDisjunctivePropertiesEvaluator;
+import org.leadpony.justify.internal.keyword.ChildApplicatorKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 
 /**
@@ -45,7 +47,7 @@ import org.leadpony.justify.internal.keyword.KeywordTypes;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public final class AdditionalProperties extends UnaryApplicator {
+public final class AdditionalProperties extends UnaryApplicator implements ChildApplicatorKeyword {
 
     static final KeywordType TYPE = KeywordTypes.mappingSchema("additionalProperties",
             AdditionalProperties::of);
@@ -132,6 +134,11 @@ public final class AdditionalProperties extends UnaryApplicator {
         return ApplicableLocation.CHILD;
     }
 
+    @Override
+    public void findChildSchemas(String token, Consumer<JsonSchema> consumer) {
+        consumer.accept(getSubschema());
+    }
+
     /**
      * Create an evaluator which evaluates the subschema for all properties in the
      * object.
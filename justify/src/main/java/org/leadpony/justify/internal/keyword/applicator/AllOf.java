@@ -16,7 +16,12 @@
 
 package org.leadpony.justify.internal.keyword.applicator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import jakarta.json.JsonValue;
 
@@ -24,12 +29,14 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
+import org.leadpony.justify.internal.keyword.OptimizableKeyword;
 
 /**
  * Boolean logic specified with "allOf" validation keyword.
@@ -40,7 +47,7 @@ import org.leadpony.justify.internal.keyword.KeywordTypes;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class AllOf extends NaryBooleanLogic {
+public class AllOf extends NaryBooleanLogic implements OptimizableKeyword {
 
     public static final KeywordType TYPE = KeywordTypes.mappingSchemaList("allOf", AllOf::new);
 
@@ -48,15 +55,29 @@ public class AllOf extends NaryBooleanLogic {
         super(json, subschemas);
     }
 
+    // The subschemas to evaluate, or null if this keyword is not optimized.
+    // The list is immutable once assigned, and is read by any thread sharing this keyword.
+    private volatile List<JsonSchema> effectiveSubschemas;
+
     @Override
     public KeywordType getType() {
         return TYPE;
     }
 
     @Override
-    public LogicalEvaluator createEvaluator(Evaluator parent, InstanceType type) {
+    public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
+        Iterable<JsonSchema> subschemas = getDistinctSubschemas();
+        final List<JsonSchema> effective = this.effectiveSubschemas;
+        if (effective != null) {
+            if (effective.isEmpty()) {
+                return Evaluator.ALWAYS_TRUE;
+            } else if (effective.size() == 1) {
+                return effective.get(0).createEvaluator(parent, type);
+            }
+            subschemas = effective;
+        }
         LogicalEvaluator evaluator = Evaluators.conjunctive(parent, type);
-        for (JsonSchema subschema : getDistinctSubschemas()) {
+        for (JsonSchema subschema : subschemas) {
             evaluator.append(p -> subschema.createEvaluator(p, type));
         }
         return evaluator;
@@ -70,4 +91,58 @@ public class AllOf extends NaryBooleanLogic {
         }
         return evaluator;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The subschemas known to be always true are dropped, and the subschemas
+     * having only "allOf" are replaced with their own subschemas.
+     * </p>
+     */
+    @Override
+    public void optimize(Predicate<JsonSchema> alwaysTrue) {
+        // Subschemas shared by multiple schemas may be already optimized.
+        if (effectiveSubschemas != null) {
+            return;
+        }
+        List<JsonSchema> effective = new ArrayList<>();
+        for (JsonSchema subschema : getDistinctSubschemas()) {
+            if (alwaysTrue.test(subschema)) {
+                continue;
+            }
+            AllOf nested = findSoleAllOf(subschema);
+            List<JsonSchema> flattened = (nested != null) ? nested.effectiveSubschemas : null;
+            if (flattened != null) {
+                for (JsonSchema member : flattened) {
+                    if (!effective.contains(member)) {
+                        effective.add(member);
+                    }
+                }
+            } else if (!effective.contains(subschema)) {
+                effective.add(subschema);
+            }
+        }
+        this.effectiveSubschemas = Collections.unmodifiableList(effective);
+    }
+
+    @Override
+    public boolean isAlwaysTrue() {
+        final List<JsonSchema> effective = this.effectiveSubschemas;
+        return effective != null && effective.isEmpty();
+    }
+
+    private static AllOf findSoleAllOf(JsonSchema schema) {
+        if (schema.isBoolean()) {
+            return null;
+        }
+        Map<String, Keyword> keywords = schema.getKeywordsAsMap();
+        if (keywords.size() == 1) {
+            Keyword keyword = keywords.get("allOf");
+            if (keyword instanceof AllOf) {
+                return (AllOf) keyword;
+            }
+        }
+        return null;
+    }
 }
@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 import jakarta.json.JsonValue;
 
@@ -30,6 +31,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
+import org.leadpony.justify.internal.keyword.OptimizableKeyword;
 
 /**
  * Boolean logic specified with "anyOf" validation keyword.
@@ -40,7 +42,7 @@ import org.leadpony.justify.internal.keyword.KeywordTypes;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class AnyOf extends NaryBooleanLogic {
+public class AnyOf extends NaryBooleanLogic implements OptimizableKeyword {
 
     public static final KeywordType TYPE = KeywordTypes.mappingSchemaList("anyOf", AnyOf::new);
 
@@ -48,13 +50,31 @@ public class AnyOf extends NaryBooleanLogic {
         super(json, subschemas);
     }
 
+    /**
+     * The subschemas known to be always true.
+     */
+    private enum AlwaysTrueSubschemas {
+        NONE,
+        SOME,
+        ALL
+    }
+
+    // Null if this keyword is not optimized.
+    // Assigned only once, and read by any thread sharing this keyword.
+    private volatile AlwaysTrueSubschemas alwaysTrueSubschemas;
+
     @Override
     public KeywordType getType() {
         return TYPE;
     }
 
     @Override
-    public LogicalEvaluator createEvaluator(Evaluator parent, InstanceType type) {
+    public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
+        // The other subschemas still need to be evaluated to fill default values.
+        final AlwaysTrueSubschemas found = this.alwaysTrueSubschemas;
+        if (found != null && found != AlwaysTrueSubschemas.NONE && !parent.getContext().acceptsDefaultValues()) {
+            return Evaluator.ALWAYS_TRUE;
+        }
         LogicalEvaluator evaluator = Evaluators.disjunctive(parent, this, type);
         for (JsonSchema subschema : getDistinctSubschemas()) {
             evaluator.append(p -> subschema.createEvaluator(p, type));
@@ -70,4 +90,31 @@ public class AnyOf extends NaryBooleanLogic {
         }
         return evaluator;
     }
+
+    @Override
+    public void optimize(Predicate<JsonSchema> alwaysTrue) {
+        // Subschemas shared by multiple schemas may be already optimized.
+        if (alwaysTrueSubschemas != null) {
+            return;
+        }
+        boolean any = false;
+        boolean all = true;
+        for (JsonSchema subschema : getDistinctSubschemas()) {
+            if (alwaysTrue.test(subschema)) {
+                any = true;
+            } else {
+                all = false;
+            }
+        }
+        if (!any) {
+            this.alwaysTrueSubschemas = AlwaysTrueSubschemas.NONE;
+        } else {
+            this.alwaysTrueSubschemas = all ? AlwaysTrueSubschemas.ALL : AlwaysTrueSubschemas.SOME;
+        }
+    }
+
+    @Override
+    public boolean isAlwaysTrue() {
+        return alwaysTrueSubschemas == AlwaysTrueSubschemas.ALL;
+    }
 }
@@ -29,10 +29,12 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.EventBuffer;
 import org.leadpony.justify.internal.base.json.JsonPointers;
 import org.leadpony.justify.internal.evaluator.AbstractPropertyDependentEvaluator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.evaluator.ReplayableEvaluatorContext;
 import org.leadpony.justify.internal.keyword.JsonSchemaMap;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 import jakarta.json.JsonValue;
@@ -166,10 +168,23 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
         }
     }
 
+    /**
+     * Evaluator of the subschema which applies only when the property is present.
+     * <p>
+     * If the context can replay events, the events are recorded until the property
+     * is found and the subschema is evaluated only after that, by replaying the
+     * recorded events. Otherwise, or when the recorded events exceed
+     * {@link ReplayableEvaluatorContext#MAX_RECORDED_EVENTS}, the subschema is
+     * evaluated speculatively.
+     * </p>
+     */
     private abstract static class AbstractDependentEvaluator extends AbstractPropertyDependentEvaluator
             implements ProblemDispatcher {
 
-        private final Evaluator internalEvaluator;
+        private final JsonSchema subschema;
+        private Evaluator internalEvaluator;
+        private boolean recording;
+        private EventBuffer buffer;
         private boolean active;
         private Result result;
         private List<Problem> problems;
@@ -177,7 +192,12 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
         protected AbstractDependentEvaluator(Evaluator parent, Keyword keyword,
                 String propertyName, JsonSchema subschema) {
             super(parent, keyword, propertyName);
-            this.internalEvaluator = createInternalEvaluator(subschema);
+            this.subschema = subschema;
+            if (ReplayableEvaluatorContext.canReplay(getContext())) {
+                this.recording = true;
+            } else {
+                this.internalEvaluator = createInternalEvaluator(subschema);
+            }
         }
 
         @Override
@@ -190,7 +210,9 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
                     }
                 }
             }
-            if (this.result == null) {
+            if (recording) {
+                recordEvent(event);
+            } else if (this.result == null) {
                 invokeInternalEvaluator(event, depth);
             }
             if (active) {
@@ -203,6 +225,7 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
                 return Result.PENDING;
             } else {
                 if (depth == 0 && event == Event.END_OBJECT) {
+                    releaseBuffer();
                     return testMissingProperty();
                 } else {
                     return Result.PENDING;
@@ -223,6 +246,35 @@ public class DependentSchemas extends AbstractObjectApplicatorKeyword {
             problems.add(problem);
         }
 
+        private void recordEvent(Event event) {
+            if (buffer == null) {
+                buffer = getReplayableContext().acquireEventBuffer();
+            }
+            buffer.record(event, getParser());
+            if (active || buffer.size() > ReplayableEvaluatorContext.MAX_RECORDED_EVENTS) {
+                getReplayableContext().replay(buffer, (e, d) -> {
+                    if (internalEvaluator == null) {
+                        internalEvaluator = createInternalEvaluator(subschema);
+                    }
+                    invokeInternalEvaluator(e, d);
+                    return this.result == null;
+                });
+                releaseBuffer();
+            }
+        }
+
+        private void releaseBuffer() {
+            recording = false;
+            if (buffer != null) {
+                getReplayableContext().releaseEventBuffer(buffer);
+                buffer = null;
+            }
+        }
+
+        private ReplayableEvaluatorContext getReplayableContext() {
+            return (ReplayableEvaluatorContext) getContext();
+        }
+
         private void invokeInternalEvaluator(Event event, int depth) {
             Result result = internalEvaluator.evaluate(event, depth);
             if (result != Result.PENDING) {
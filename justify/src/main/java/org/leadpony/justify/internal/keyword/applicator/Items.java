@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import jakarta.json.JsonValue;
@@ -40,6 +42,7 @@ import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.evaluator.AbstractConjunctiveItemsEvaluator;
 import org.leadpony.justify.internal.evaluator.AbstractDisjunctiveItemsEvaluator;
 import org.leadpony.justify.internal.evaluator.EvaluatorDecorator;
+import org.leadpony.justify.internal.keyword.ChildApplicatorKeyword;
 import org.leadpony.justify.internal.keyword.JsonSchemaMap;
 
 /**
@@ -51,7 +54,7 @@ import org.leadpony.justify.internal.keyword.JsonSchemaMap;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public abstract class Items extends AbstractArrayApplicatorKeyword  {
+public abstract class Items extends AbstractArrayApplicatorKeyword implements ChildApplicatorKeyword {
 
     public static final KeywordType TYPE = new KeywordType() {
 
@@ -153,14 +156,23 @@ public abstract class Items extends AbstractArrayApplicatorKeyword  {
             return schemaMap.findSchema(jsonPointer);
         }
 
+        @Override
+        public void findChildSchemas(String token, Consumer<JsonSchema> consumer) {
+            consumer.accept(subschema);
+        }
+
         private Evaluator createItemsEvaluator(Evaluator parent) {
             JsonSchema subschema = this.subschema;
             return new AbstractConjunctiveItemsEvaluator(parent, this) {
+                private InstanceType itemType;
+                // Shared by all items not to allocate per item.
+                private final Function<Evaluator, Evaluator> itemMapper = p -> subschema.createEvaluator(p, itemType);
+
                 @Override
                 public void updateChildren(Event event, JsonParser parser) {
                     if (ParserEvents.isValue(event)) {
-                        InstanceType type = ParserEvents.toBroadInstanceType(event);
-                        append(p -> subschema.createEvaluator(p, type));
+                        itemType = ParserEvents.toBroadInstanceType(event);
+                        append(itemMapper);
                     }
                 }
             };
@@ -169,11 +181,15 @@ public abstract class Items extends AbstractArrayApplicatorKeyword  {
         private Evaluator createNegatedItemsEvaluator(Evaluator parent) {
             JsonSchema subschema = this.subschema;
             return new AbstractDisjunctiveItemsEvaluator(parent, this) {
+                private InstanceType itemType;
+                private final Function<Evaluator, Evaluator> itemMapper =
+                        p -> subschema.createNegatedEvaluator(p, itemType);
+
                 @Override
                 public void updateChildren(Event event, JsonParser parser) {
                     if (ParserEvents.isValue(event)) {
-                        InstanceType type = ParserEvents.toBroadInstanceType(event);
-                        append(p -> subschema.createNegatedEvaluator(p, type));
+                        itemType = ParserEvents.toBroadInstanceType(event);
+                        append(itemMapper);
                     }
                 }
             };
@@ -261,6 +277,11 @@ public abstract class Items extends AbstractArrayApplicatorKeyword  {
             return schemaMap.findSchema(jsonPointer);
         }
 
+        @Override
+        public void findChildSchemas(String token, Consumer<JsonSchema> consumer) {
+            consumer.accept(findSubschemaAt(Integer.parseInt(token)));
+        }
+
         private JsonSchema findSubschemaAt(int itemIndex) {
             if (itemIndex < subschemas.size()) {
                 return subschemas.get(itemIndex);
@@ -290,13 +311,16 @@ public abstract class Items extends AbstractArrayApplicatorKeyword  {
         private Evaluator createItemsEvaluator(Evaluator parent) {
             return new AbstractConjunctiveItemsEvaluator(parent, this) {
                 private int itemIndex;
+                private InstanceType itemType;
+                // Shared by all items not to allocate per item.
+                private final Function<Evaluator, Evaluator> itemMapper =
+                        p -> createItemEvaluator(p, itemIndex, findSubschemaAt(itemIndex), itemType);
 
                 @Override
                 public void updateChildren(Event event, JsonParser parser) {
                     if (ParserEvents.isValue(event)) {
-                        InstanceType type = ParserEvents.toBroadInstanceType(event);
-                        JsonSchema subschema = findSubschemaAt(itemIndex);
-                        append(p -> createItemEvaluator(p, itemIndex, subschema, type));
+                        itemType = ParserEvents.toBroadInstanceType(event);
+                        append(itemMapper);
                         ++itemIndex;
                     }
                 }
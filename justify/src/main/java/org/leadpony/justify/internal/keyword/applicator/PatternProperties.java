@@ -19,8 +19,6 @@ package org.leadpony.justify.internal.keyword.applicator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.json.JsonValue;
@@ -33,6 +31,7 @@ import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
 
 /**
  * @author leadpony
@@ -41,7 +40,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class PatternProperties extends AbstractProperties<Pattern> {
+public class PatternProperties extends AbstractProperties<Ecma262Regex> {
 
     public static final KeywordType TYPE = new KeywordType() {
 
@@ -55,11 +54,11 @@ public class PatternProperties extends AbstractProperties<Pattern> {
             if (jsonValue.getValueType() != ValueType.OBJECT) {
                 throw new InvalidKeywordException("Must be an object");
             }
-            Map<Pattern, JsonSchema> schemas = new LinkedHashMap<>();
+            Map<Ecma262Regex, JsonSchema> schemas = new LinkedHashMap<>();
             try {
                 for (Map.Entry<String, JsonValue> entry : jsonValue.asJsonObject().entrySet()) {
                     String name = entry.getKey();
-                    Pattern pattern = Pattern.compile(name);
+                    Ecma262Regex pattern = Ecma262Regex.compile(name);
                     JsonSchema schema = schemaParser.parseSubschema(entry.getValue(), name);
                     schemas.put(pattern, schema);
                 }
@@ -72,11 +71,11 @@ public class PatternProperties extends AbstractProperties<Pattern> {
 
     private final Properties properties;
 
-    public PatternProperties(JsonValue json, Map<Pattern, JsonSchema> propertyMap) {
+    public PatternProperties(JsonValue json, Map<Ecma262Regex, JsonSchema> propertyMap) {
         this(json, propertyMap, null, null);
     }
 
-    public PatternProperties(JsonValue json, Map<Pattern, JsonSchema> propertyMap,
+    public PatternProperties(JsonValue json, Map<Ecma262Regex, JsonSchema> propertyMap,
             Properties properties,
             AdditionalProperties additionalProperties) {
         super(json, propertyMap, additionalProperties);
@@ -106,12 +105,11 @@ public class PatternProperties extends AbstractProperties<Pattern> {
     }
 
     @Override
-    protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
+    protected boolean findSubschemas(String keyName, long stepLimit, Consumer<JsonSchema> consumer) {
         boolean found = false;
-        for (Pattern pattern : propertyMap.keySet()) {
-            Matcher m = pattern.matcher(keyName);
-            if (m.find()) {
-                consumer.accept(propertyMap.get(pattern));
+        for (Map.Entry<Ecma262Regex, JsonSchema> entry : propertyMap.entrySet()) {
+            if (entry.getKey().findWithStepsPerChar(keyName, stepLimit)) {
+                consumer.accept(entry.getValue());
                 found = true;
             }
         }
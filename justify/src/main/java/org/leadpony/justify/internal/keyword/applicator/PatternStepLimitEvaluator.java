@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
+import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
+
+/**
+ * Evaluator reporting the property name which could not be matched against a
+ * pattern within the step limit.
+ *
+ * @author leadpony
+ */
+class PatternStepLimitEvaluator extends AbstractKeywordBasedEvaluator {
+
+    private final String keyName;
+    private final Ecma262Regex pattern;
+    private final long stepLimit;
+
+    PatternStepLimitEvaluator(Evaluator parent, Keyword keyword, String keyName,
+            Ecma262Regex pattern, long stepLimit) {
+        super(parent, keyword);
+        this.keyName = keyName;
+        this.pattern = pattern;
+        this.stepLimit = stepLimit;
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth) {
+        Problem p = newProblemBuilder()
+                .withMessage(Message.INSTANCE_PROBLEM_PATTERN_STEP_LIMIT)
+                .withParameter("subject", "key")
+                .withParameter("localizedSubject", Message.STRING_KEY)
+                .withParameter("actual", keyName)
+                .withParameter("pattern", pattern.toString())
+                .withParameter("limit", stepLimit)
+                .build();
+        getDispatcher().dispatchProblem(p);
+        return Result.FALSE;
+    }
+}
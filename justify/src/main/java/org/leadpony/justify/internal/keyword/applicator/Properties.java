@@ -102,14 +102,14 @@ public class Properties extends AbstractProperties<String> {
     }
 
     @Override
-    protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
+    protected boolean findSubschemas(String keyName, long stepLimit, Consumer<JsonSchema> consumer) {
         boolean found = false;
         if (propertyMap.containsKey(keyName)) {
             consumer.accept(propertyMap.get(keyName));
             found = true;
         }
         if (patternProperties != null) {
-            if (patternProperties.findSubschemas(keyName, consumer)) {
+            if (patternProperties.findSubschemas(keyName, stepLimit, consumer)) {
                 found = true;
             }
         }
@@ -21,6 +21,7 @@ import jakarta.json.stream.JsonParser.Event;
 
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
@@ -84,11 +85,15 @@ public class SimpleContains extends UnaryApplicator {
     protected final Evaluator createSimpleItemsEvaluator(Evaluator parent) {
         final JsonSchema subschema = getSubschema();
         return new AbstractDisjunctiveItemsEvaluator(parent, this) {
+            private InstanceType itemType;
+            // Shared by all items not to allocate per item.
+            private final Function<Evaluator, Evaluator> itemMapper = p -> subschema.createEvaluator(p, itemType);
+
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (ParserEvents.isValue(event)) {
-                    InstanceType type = ParserEvents.toBroadInstanceType(event);
-                    append(p -> subschema.createEvaluator(p, type));
+                    itemType = ParserEvents.toBroadInstanceType(event);
+                    append(itemMapper);
                 }
             }
 
@@ -17,6 +17,8 @@ package org.leadpony.justify.internal.keyword.content;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Base64.Decoder;
 
 import org.leadpony.justify.internal.base.text.AsciiCode;
@@ -75,7 +77,95 @@ final class Base64 implements ContentEncodingScheme {
         return getDecoder().decode(src);
     }
 
+    @Override
+    public InputStream decodeAsStream(String src) {
+        requireNonNull(src, "src");
+        if ((src.length() % 4) != 0) {
+            throw new IllegalArgumentException();
+        }
+        return getDecoder().wrap(new AsciiInputStream(src));
+    }
+
     private static Decoder getDecoder() {
         return java.util.Base64.getDecoder();
     }
+
+    /**
+     * An input stream reading the characters of a string as ASCII bytes.
+     *
+     * <p>
+     * The characters are checked in the same way as {@link Base64#canDecode}
+     * while they are read, so that the string does not need to be scanned
+     * before the decoding.
+     * </p>
+     */
+    private static final class AsciiInputStream extends InputStream {
+
+        private final String src;
+        private int index;
+        private boolean padded;
+
+        AsciiInputStream(String src) {
+            this.src = src;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (index < src.length()) {
+                return toByte(src.charAt(index++));
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final int remaining = src.length() - index;
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int count = Math.min(len, remaining);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) toByte(src.charAt(index++));
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return src.length() - index;
+        }
+
+        private int toByte(char c) throws IOException {
+            if (c == '=') {
+                // The decoder stops reading at the padding.
+                if (!padded && !isPaddingToEnd()) {
+                    throw newIllegalCharacterException();
+                }
+                padded = true;
+            } else if (!AsciiCode.isAlphanumeric(c) && c != '+' && c != '/') {
+                throw newIllegalCharacterException();
+            }
+            return c;
+        }
+
+        private boolean isPaddingToEnd() {
+            final int length = src.length();
+            if (length - index > 2) {
+                return false;
+            }
+            for (int i = index; i < length; i++) {
+                if (src.charAt(i) != '=') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private IOException newIllegalCharacterException() {
+            return new IOException("Illegal base64 character at " + (index - 1));
+        }
+    }
 }
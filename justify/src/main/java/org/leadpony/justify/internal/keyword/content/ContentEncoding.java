@@ -21,12 +21,14 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
 import jakarta.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
@@ -38,6 +40,7 @@ import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.spi.ContentEncodingScheme;
@@ -107,6 +110,9 @@ public class ContentEncoding extends AbstractAssertionKeyword {
     static final ContentEncodingType TYPE = new ContentEncodingType(Base64.INSTANCE);
 
     private final ContentEncodingScheme scheme;
+    private final Predicate<String> decodable;
+    // The sibling "contentMediaType" decodes the content in place of this keyword.
+    private final boolean delegated;
 
     /**
      * Constructs this encoding.
@@ -115,9 +121,15 @@ public class ContentEncoding extends AbstractAssertionKeyword {
      * @param scheme the scheme of this encoding.
      */
     public ContentEncoding(JsonValue json, ContentEncodingScheme scheme) {
+        this(json, scheme, false);
+    }
+
+    private ContentEncoding(JsonValue json, ContentEncodingScheme scheme, boolean delegated) {
         super(json);
         assert scheme != null;
         this.scheme = scheme;
+        this.decodable = scheme::canDecode;
+        this.delegated = delegated;
     }
 
     @Override
@@ -125,6 +137,20 @@ public class ContentEncoding extends AbstractAssertionKeyword {
         return TYPE;
     }
 
+    @Override
+    public Keyword withKeywords(Map<String, Keyword> siblings) {
+        // The content is decoded only once, by the sibling which reports the problems of both keywords.
+        if (!delegated && siblings.get("contentMediaType") instanceof ContentMediaType) {
+            return new ContentEncoding(getValueAsJson(), scheme, true);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean canEvaluate() {
+        return !delegated;
+    }
+
     @Override
     public boolean supportsType(InstanceType type) {
         return type == InstanceType.STRING;
@@ -137,22 +163,15 @@ public class ContentEncoding extends AbstractAssertionKeyword {
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        if (test(parent.getContext().getParser().getString())) {
+        if (test(parent.getContext())) {
             return Evaluator.ALWAYS_TRUE;
         }
-        return new ContentEncodingEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                Problem p = newProblemBuilder().withMessage(Message.INSTANCE_PROBLEM_CONTENTENCODING).build();
-                getDispatcher().dispatchProblem(p);
-                return Result.FALSE;
-            }
-        };
+        return createFailingEvaluator(parent);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        if (!test(parent.getContext().getParser().getString())) {
+        if (!test(parent.getContext())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new ContentEncodingEvaluator(parent, this) {
@@ -165,8 +184,26 @@ public class ContentEncoding extends AbstractAssertionKeyword {
         };
     }
 
-    private boolean test(String src) {
-        return scheme.canDecode(src);
+    private boolean test(EvaluatorContext context) {
+        String src = context.getParser().getString();
+        return CachingEvaluatorContext.testString(context, this, src, decodable);
+    }
+
+    /**
+     * Creates an evaluator reporting that the string cannot be decoded.
+     *
+     * @param parent the parent evaluator.
+     * @return newly created evaluator.
+     */
+    Evaluator createFailingEvaluator(Evaluator parent) {
+        return new ContentEncodingEvaluator(parent, this) {
+            @Override
+            public Result evaluate(Event event, int depth) {
+                Problem p = newProblemBuilder().withMessage(Message.INSTANCE_PROBLEM_CONTENTENCODING).build();
+                getDispatcher().dispatchProblem(p);
+                return Result.FALSE;
+            }
+        };
     }
 
     /**
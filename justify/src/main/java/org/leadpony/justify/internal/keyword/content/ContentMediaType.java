@@ -15,12 +15,16 @@
  */
 package org.leadpony.justify.internal.keyword.content;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiPredicate;
 
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
@@ -30,6 +34,7 @@ import jakarta.json.stream.JsonParser.Event;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
@@ -41,9 +46,9 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.MediaType;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
-import org.leadpony.justify.spi.ContentEncodingScheme;
 import org.leadpony.justify.spi.ContentMimeType;
 
 /**
@@ -94,6 +99,9 @@ public class ContentMediaType extends AbstractAssertionKeyword {
             try {
                 MediaType mediaType = MediaType.valueOf(name);
                 ContentMimeType mimeType = mimeTypes.get(mediaType.mimeType());
+                if (mimeType == null) {
+                    mimeType = JsonMimeType.ofSuffixed(mediaType.mimeType());
+                }
                 if (mimeType != null) {
                     return new ContentMediaType(jsonValue, mimeType, mediaType.parameters());
                 } else {
@@ -117,7 +125,10 @@ public class ContentMediaType extends AbstractAssertionKeyword {
 
     private final ContentMimeType mimeType;
     private final Map<String, String> parameters;
-    private ContentEncodingScheme encodingScheme;
+    private final ContentEncoding encoding;
+    private final JsonSchema contentSchema;
+    private final BiPredicate<String, EvaluatorContext> predicate =
+            (value, context) -> testValue(value, context) == Outcome.VALID;
 
     /**
      * Constructs this media type.
@@ -127,15 +138,28 @@ public class ContentMediaType extends AbstractAssertionKeyword {
      * @param parameters additional parameters of this media type.
      */
     public ContentMediaType(JsonValue json, ContentMimeType mimeType, Map<String, String> parameters) {
-        this(json, mimeType, parameters, null);
+        this(json, mimeType, parameters, null, null);
     }
 
+    /**
+     * Constructs this media type.
+     *
+     * @param json           the original JSON value.
+     * @param mimeType       the type/subtype part of this media type.
+     * @param parameters     additional parameters of this media type.
+     * @param encoding       the sibling keyword specifying the encoding of the
+     *                       content, can be {@code null}. The content is
+     *                       decoded by this keyword in place of the sibling.
+     * @param contentSchema  the schema of the decoded content, can be
+     *                       {@code null}.
+     */
     public ContentMediaType(JsonValue json, ContentMimeType mimeType, Map<String, String> parameters,
-            ContentEncodingScheme encodingScheme) {
+            ContentEncoding encoding, JsonSchema contentSchema) {
         super(json);
         this.mimeType = mimeType;
         this.parameters = parameters;
-        this.encodingScheme = encodingScheme;
+        this.encoding = encoding;
+        this.contentSchema = contentSchema;
     }
 
     @Override
@@ -145,18 +169,26 @@ public class ContentMediaType extends AbstractAssertionKeyword {
 
     @Override
     public Keyword withKeywords(Map<String, Keyword> siblings) {
-        if (siblings.containsKey("contentEncoding")) {
-            Keyword keyword = siblings.get("contentEncoding");
-            if (keyword instanceof ContentEncoding) {
-                ContentEncodingScheme encodingScheme = ((ContentEncoding) keyword).scheme();
-                return new ContentMediaType(
-                        getValueAsJson(),
-                        this.mimeType,
-                        this.parameters,
-                        encodingScheme);
-            }
+        ContentEncoding encoding = null;
+        JsonSchema contentSchema = null;
+        Keyword keyword = siblings.get("contentEncoding");
+        if (keyword instanceof ContentEncoding) {
+            encoding = (ContentEncoding) keyword;
         }
-        return this;
+        // The content schema is applicable only to JSON documents.
+        keyword = siblings.get("contentSchema");
+        if (keyword instanceof ContentSchema && mimeType instanceof JsonMimeType) {
+            contentSchema = ((ContentSchema) keyword).getSubschema();
+        }
+        if (encoding == null && contentSchema == null) {
+            return this;
+        }
+        return new ContentMediaType(
+                getValueAsJson(),
+                this.mimeType,
+                this.parameters,
+                encoding,
+                contentSchema);
     }
 
     @Override
@@ -178,13 +210,20 @@ public class ContentMediaType extends AbstractAssertionKeyword {
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
         String value = context.getParser().getString();
-        if (testValue(value, context, true)) {
+        if (CachingEvaluatorContext.testString(context, this, value, predicate)) {
             return Evaluator.ALWAYS_TRUE;
         }
+        // Only the invalid values are decoded again, to find which keyword failed.
+        if (encoding != null && testValue(value, context) == Outcome.UNDECODABLE) {
+            return encoding.createFailingEvaluator(parent);
+        }
+        final Message message = (contentSchema != null)
+                ? Message.INSTANCE_PROBLEM_CONTENTSCHEMA
+                : Message.INSTANCE_PROBLEM_CONTENTMEDIATYPE;
         return new FalseContentEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
-                Problem p = newProblemBuilder().withMessage(Message.INSTANCE_PROBLEM_CONTENTMEDIATYPE).build();
+                Problem p = newProblemBuilder().withMessage(message).build();
                 getDispatcher().dispatchProblem(p);
                 return Result.FALSE;
             }
@@ -195,7 +234,7 @@ public class ContentMediaType extends AbstractAssertionKeyword {
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
         String value = context.getParser().getString();
-        if (!testValue(value, context, false)) {
+        if (testValue(value, context) != Outcome.VALID) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new FalseContentEvaluator(parent, this) {
@@ -208,16 +247,37 @@ public class ContentMediaType extends AbstractAssertionKeyword {
         };
     }
 
-    private boolean testValue(String value, EvaluatorContext context, boolean defaultResult) {
-        if (encodingScheme != null) {
-            if (encodingScheme.canDecode(value)) {
-                byte[] decoded = encodingScheme.decode(value);
-                return mimeType.test(decoded, parameters, context);
-            } else {
-                return defaultResult;
+    private Outcome testValue(String value, EvaluatorContext context) {
+        boolean result;
+        if (encoding != null) {
+            // The encoded string is checked while the decoded bytes are consumed.
+            DecodingInputStream decoded;
+            try {
+                decoded = new DecodingInputStream(encoding.scheme().decodeAsStream(value));
+            } catch (IllegalArgumentException e) {
+                return Outcome.UNDECODABLE;
             }
+            try {
+                result = testDecodedValue(decoded, context);
+            } catch (IOException e) {
+                result = false;
+            }
+            if (!decoded.complete()) {
+                return Outcome.UNDECODABLE;
+            }
+        } else if (contentSchema != null) {
+            result = JsonMimeType.INSTANCE.test(value, contentSchema, context);
+        } else {
+            result = mimeType.test(value, context);
+        }
+        return result ? Outcome.VALID : Outcome.INVALID;
+    }
+
+    private boolean testDecodedValue(InputStream decoded, EvaluatorContext context) throws IOException {
+        if (contentSchema != null) {
+            return JsonMimeType.INSTANCE.test(decoded, contentSchema, context);
         } else {
-            return mimeType.test(value, context);
+            return mimeType.test(decoded, parameters, context);
         }
     }
 
@@ -234,6 +294,76 @@ public class ContentMediaType extends AbstractAssertionKeyword {
         return builder.toString();
     }
 
+    /**
+     * The outcome of testing a string value.
+     */
+    private enum Outcome {
+        VALID,
+        INVALID,
+        // The string cannot be decoded in the scheme of the sibling keyword.
+        UNDECODABLE
+    }
+
+    /**
+     * An input stream recording whether the decoding failed.
+     *
+     * <p>
+     * Closing this stream leaves the underlying stream open, so that the rest of
+     * the encoded string can be checked after the content was tested.
+     * </p>
+     */
+    private static final class DecodingInputStream extends FilterInputStream {
+
+        private boolean malformed;
+
+        DecodingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                malformed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return super.read(b, off, len);
+            } catch (IOException e) {
+                malformed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            // Leaves the underlying stream open.
+        }
+
+        /**
+         * Decodes the rest of the encoded string and closes the underlying stream.
+         *
+         * @return {@code true} if the whole string was decoded successfully,
+         *         {@code false} otherwise.
+         */
+        boolean complete() {
+            byte[] buffer = new byte[256];
+            try (InputStream underlying = in) {
+                while (!malformed && read(buffer, 0, buffer.length) >= 0) {
+                    // Discards the bytes not consumed.
+                }
+            } catch (IOException e) {
+                malformed = true;
+            }
+            return !malformed;
+        }
+    }
+
     abstract class FalseContentEvaluator extends AbstractKeywordBasedEvaluator {
 
         FalseContentEvaluator(Evaluator parent, Keyword keyword) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.content;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.SpecVersion;
+import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.internal.annotation.KeywordClass;
+import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.keyword.AbstractKeyword;
+import org.leadpony.justify.internal.keyword.JsonSchemaMap;
+import org.leadpony.justify.internal.keyword.KeywordTypes;
+
+/**
+ * A content keyword representing "contentSchema".
+ *
+ * <p>
+ * This keyword does not evaluate anything by itself. The sibling
+ * "contentMediaType" validates the decoded content against this schema
+ * while parsing it.
+ * </p>
+ *
+ * @author leadpony
+ */
+@KeywordClass("contentSchema")
+@Spec(SpecVersion.DRAFT_2019_09)
+public class ContentSchema extends AbstractKeyword {
+
+    static final KeywordType TYPE = KeywordTypes.mappingSchema("contentSchema", ContentSchema::new);
+
+    private final JsonSchema subschema;
+    private final JsonSchemaMap schemaMap;
+
+    public ContentSchema(JsonSchema subschema) {
+        super(subschema.toJson());
+        this.subschema = subschema;
+        this.schemaMap = JsonSchemaMap.of(subschema);
+    }
+
+    @Override
+    public KeywordType getType() {
+        return TYPE;
+    }
+
+    @Override
+    public boolean containsSchemas() {
+        return true;
+    }
+
+    @Override
+    public Map<String, JsonSchema> getSchemasAsMap() {
+        return schemaMap;
+    }
+
+    @Override
+    public Stream<JsonSchema> getSchemasAsStream() {
+        return Stream.of(subschema);
+    }
+
+    @Override
+    public Optional<JsonSchema> findSchema(String jsonPointer) {
+        return schemaMap.findSchema(jsonPointer);
+    }
+
+    /**
+     * Returns the schema of the content.
+     *
+     * @return the schema of the content.
+     */
+    JsonSchema getSubschema() {
+        return subschema;
+    }
+}
@@ -16,6 +16,7 @@
 package org.leadpony.justify.internal.keyword.content;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -40,19 +41,22 @@ public enum ContentVocabulary implements DefaultVocabulary {
 
     DRAFT_2019_09(
             "https://json-schema.org/draft/2019-09/vocab/content",
-            "https://json-schema.org/draft/2019-09/meta/content"
+            "https://json-schema.org/draft/2019-09/meta/content",
+            ContentSchema.TYPE
             );
 
     private final URI id;
     private final URI metaschemaId;
+    private final List<KeywordType> keywordTypes;
 
     ContentVocabulary() {
         this("", "");
     }
 
-    ContentVocabulary(String id, String metaschemaId) {
+    ContentVocabulary(String id, String metaschemaId, KeywordType... keywordTypes) {
         this.id = URI.create(id);
         this.metaschemaId = URI.create(metaschemaId);
+        this.keywordTypes = Arrays.asList(keywordTypes);
     }
 
     @Override
@@ -67,9 +71,11 @@ public enum ContentVocabulary implements DefaultVocabulary {
 
     @Override
     public List<KeywordType> getKeywordTypes(Map<String, Object> config, KeywordValueSetLoader valueSetLoader) {
-        return Arrays.asList(
-                createContentEncoding(valueSetLoader),
-                createContentMediaType(valueSetLoader));
+        List<KeywordType> types = new ArrayList<>();
+        types.add(createContentEncoding(valueSetLoader));
+        types.add(createContentMediaType(valueSetLoader));
+        types.addAll(keywordTypes);
+        return types;
     }
 
     @Override
@@ -16,7 +16,9 @@
 package org.leadpony.justify.internal.keyword.content;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.util.List;
 import java.util.Map;
 
 import jakarta.json.JsonException;
@@ -24,23 +26,49 @@ import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 
 import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.internal.validator.EnclosedJsonValidator;
+import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.spi.ContentMimeType;
 
 /**
- * MIME type for "applicaiton/json".
+ * MIME type for "application/json" and the types with the "+json" suffix.
  *
  * @author leadpony
  */
 final class JsonMimeType implements ContentMimeType {
 
-    static final JsonMimeType INSTANCE = new JsonMimeType();
+    static final JsonMimeType INSTANCE = new JsonMimeType("application/json");
 
-    private JsonMimeType() {
+    private static final String SUFFIX = "+json";
+
+    private final String name;
+
+    private JsonMimeType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the MIME type for the specified name if it has the "+json" suffix
+     * defined in RFC 6839.
+     *
+     * @param name the type/subtype part of the media type.
+     * @return the MIME type found, or {@code null} if the name does not have
+     *         the suffix.
+     */
+    static JsonMimeType ofSuffixed(String name) {
+        String lowerName = name.toLowerCase();
+        if (lowerName.endsWith(SUFFIX) && lowerName.indexOf('/') > 0) {
+            return new JsonMimeType(lowerName);
+        }
+        return null;
     }
 
     @Override
     public String toString() {
-        return "application/json";
+        return name;
     }
 
     @Override
@@ -55,18 +83,87 @@ final class JsonMimeType implements ContentMimeType {
 
     @Override
     public boolean test(byte[] decodedContent, Map<String, String> parameters, EvaluatorContext context) {
+        return test(new ByteArrayInputStream(decodedContent), parameters, context);
+    }
+
+    @Override
+    public boolean test(InputStream decodedContent, Map<String, String> parameters, EvaluatorContext context) {
         JsonProvider jsonProvider = context.getJsonProvider();
-        try (JsonParser parser = jsonProvider.createParser(new ByteArrayInputStream(decodedContent))) {
+        try (JsonParser parser = jsonProvider.createParser(decodedContent)) {
             return parseAllWith(parser);
         } catch (JsonException e) {
             return false;
         }
     }
 
+    /**
+     * Checks whether the content supplied by the specified stream is a JSON
+     * document valid against the specified schema. The content is parsed and
+     * validated in a single pass, which stops at the first problem found.
+     *
+     * @param decodedContent the stream supplying the decoded content.
+     * @param schema         the schema of the content.
+     * @param context        the context of the evaluators.
+     * @return {@code true} if the content is a JSON document valid against the
+     *         schema, {@code false} otherwise.
+     */
+    boolean test(InputStream decodedContent, JsonSchema schema, EvaluatorContext context) {
+        JsonProvider jsonProvider = context.getJsonProvider();
+        try (JsonParser parser = jsonProvider.createParser(decodedContent)) {
+            return validateAllWith(parser, schema, context);
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the content is a JSON document valid against the specified
+     * schema.
+     *
+     * @param content the content to check.
+     * @param schema  the schema of the content.
+     * @param context the context of the evaluators.
+     * @return {@code true} if the content is a JSON document valid against the
+     *         schema, {@code false} otherwise.
+     */
+    boolean test(String content, JsonSchema schema, EvaluatorContext context) {
+        JsonProvider jsonProvider = context.getJsonProvider();
+        try (JsonParser parser = jsonProvider.createParser(new StringReader(content))) {
+            return validateAllWith(parser, schema, context);
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
     private static boolean parseAllWith(JsonParser parser) {
         while (parser.hasNext()) {
             parser.next();
         }
         return true;
     }
+
+    private static boolean validateAllWith(JsonParser parser, JsonSchema schema, EvaluatorContext context) {
+        ValidityHolder holder = new ValidityHolder();
+        JsonValidator validator = new EnclosedJsonValidator(parser, schema, context.getJsonProvider(), context)
+                .withHandler(holder);
+        while (holder.valid && validator.hasNext()) {
+            validator.next();
+        }
+        return holder.valid;
+    }
+
+    /**
+     * A problem handler recording whether any problem was found.
+     */
+    private static final class ValidityHolder implements ProblemHandler {
+
+        private boolean valid = true;
+
+        @Override
+        public void handleProblems(List<Problem> problems) {
+            if (!problems.isEmpty()) {
+                valid = false;
+            }
+        }
+    }
 }
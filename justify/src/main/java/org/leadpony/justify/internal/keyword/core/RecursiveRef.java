@@ -15,6 +15,10 @@
  */
 package org.leadpony.justify.internal.keyword.core;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.SpecVersion;
@@ -24,6 +28,7 @@ import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.evaluator.ScopingEvaluator;
 
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
@@ -85,17 +90,42 @@ public class RecursiveRef extends Ref {
         }
     }
 
+    /**
+     * Finds the outermost schema in the dynamic scope which has
+     * "$recursiveAnchor" set to true.
+     * <p>
+     * The ancestors are visited only up to the nearest scope already resolved,
+     * and all the scopes visited are resolved at the same time. Therefore each
+     * scope is visited only once however deep the instance is.
+     * </p>
+     *
+     * @param parent        the parent evaluator.
+     * @param defaultSchema the schema to return if no schema was found.
+     * @return the found schema.
+     */
     private static JsonSchema findTargetSchemaRecursively(Evaluator parent, JsonSchema defaultSchema) {
-        JsonSchema targetSchema = defaultSchema;
+        Optional<JsonSchema> anchor = Optional.empty();
+        Deque<ScopingEvaluator> unresolved = new ArrayDeque<>();
         for (Evaluator evaluator = parent; evaluator != null; evaluator = evaluator.getParent()) {
-            if (evaluator.isBasedOnSchema()) {
-                JsonSchema schema = evaluator.getSchema();
-                if (testSchemaIsTarget(schema)) {
-                    targetSchema = schema;
+            if (evaluator instanceof ScopingEvaluator) {
+                ScopingEvaluator scope = (ScopingEvaluator) evaluator;
+                Optional<JsonSchema> resolved = scope.getRecursiveAnchor();
+                if (resolved != null) {
+                    anchor = resolved;
+                    break;
                 }
+                unresolved.push(scope);
+            }
+        }
+        // Resolves the scopes from the outermost one.
+        while (!unresolved.isEmpty()) {
+            ScopingEvaluator scope = unresolved.pop();
+            if (!anchor.isPresent() && testSchemaIsTarget(scope.getSchema())) {
+                anchor = Optional.of(scope.getSchema());
             }
+            scope.setRecursiveAnchor(anchor);
         }
-        return targetSchema;
+        return anchor.orElse(defaultSchema);
     }
 
     private static boolean testSchemaIsTarget(JsonSchema schema) {
@@ -16,17 +16,30 @@
 
 package org.leadpony.justify.internal.keyword.format;
 
-import java.util.NoSuchElementException;
-
 /**
  * Format matcher.
  *
+ * <p>
+ * This matcher scans the input by index and never throws exceptions to signal
+ * a mismatch. At the end of input {@link #next()} and {@link #peek()} return
+ * {@link #EOS}, which does not match any character. A mismatch detected deep
+ * in the productions is reported by {@link #fail()}, which stops the scanning
+ * so that all the pending productions unwind without consuming more input.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class AbstractFormatMatcher implements FormatMatcher {
 
+    /**
+     * The code point returned at the end of input.
+     */
+    protected static final int EOS = -1;
+
+    private static final int FAILED = -1;
+
     private final CharSequence input;
-    private final int length;
+    private int end;
     private int index;
 
     /**
@@ -36,7 +49,7 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
      */
     protected AbstractFormatMatcher(CharSequence input) {
         this.input = input;
-        this.length = input.length();
+        this.end = input.length();
         this.index = 0;
     }
 
@@ -49,7 +62,7 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
      */
     protected AbstractFormatMatcher(CharSequence input, int start, int end) {
         this.input = input;
-        this.length = end;
+        this.end = end;
         this.index = start;
     }
 
@@ -60,18 +73,14 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
      */
     @Override
     public boolean matches() {
-        try {
-            return test();
-        } catch (FormatMismatchException | NoSuchElementException e) {
-            return false;
-        }
+        return test() && !failed();
     }
 
     /**
      * Tests the whole input.
      *
-     * @throws NoSuchElementException if unexpected end of input is detected.
-     * @throws FormatMismatchException if the input did not match the format.
+     * @return {@code true} if the input matched, {@code false} otherwise. The
+     *         result is ignored if {@link #fail()} was called.
      */
     protected abstract boolean test();
 
@@ -107,10 +116,11 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
     /**
      * Returns {@code true} if the input has more characters.
      *
-     * @return {@code true} if the input has more characters.
+     * @return {@code true} if the input has more characters, {@code false} if
+     *         the input was consumed or the matching failed.
      */
     protected final boolean hasNext() {
-        return index < length;
+        return index < end;
     }
 
     /**
@@ -121,39 +131,37 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
      * @return {@code true} if the next character is the expected one.
      */
     protected final boolean hasNext(int expected) {
-        return hasNext() && peek() == expected;
+        return peek() == expected;
     }
 
     /**
      * Returns the next character in the input.
      * Calling this method advances the current position.
      *
-     * @return the code point of the next character.
-     * @throws NoSuchElementException if the input has no more characters.
+     * @return the code point of the next character, or {@link #EOS} if the
+     *         input has no more characters.
      */
     protected final int next() {
-        if (hasNext()) {
+        if (index < end) {
             int codePoint = codePointAt(input, index);
             index = offsetByCodePoint(input, index);
             return codePoint;
-        } else {
-            throw new NoSuchElementException();
         }
+        return EOS;
     }
 
     /**
      * Peeks the next character in the input.
      * Calling this method never change the current position.
      *
-     * @return the code point of the next character.
-     * @throws NoSuchElementException if the input has no more characters.
+     * @return the code point of the next character, or {@link #EOS} if the
+     *         input has no more characters.
      */
     protected final int peek() {
-        if (hasNext()) {
+        if (index < end) {
             return codePointAt(input, index);
-        } else {
-            throw new NoSuchElementException();
         }
+        return EOS;
     }
 
     /**
@@ -184,17 +192,27 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
      */
     @Override
     public String toString() {
-        return input.subSequence(index, length).toString();
+        return input.subSequence(index, Math.max(index, end)).toString();
+    }
+
+    /**
+     * Should be called when matching failed. After this call the input has no
+     * more characters and {@link #matches()} returns {@code false}.
+     *
+     * @return always {@code false}.
+     */
+    protected final boolean fail() {
+        this.end = FAILED;
+        return false;
     }
 
     /**
-     * Should be called when matching failed.
+     * Checks if {@link #fail()} was called.
      *
-     * @returns never return.
-     * @throws FormatMismatchException always thrown.
+     * @return {@code true} if the matching failed.
      */
-    protected static boolean fail() {
-        throw new FormatMismatchException();
+    protected final boolean failed() {
+        return end == FAILED;
     }
 
     /**
@@ -222,14 +240,4 @@ abstract class AbstractFormatMatcher implements FormatMatcher {
     protected int offsetByCodePoint(CharSequence input, int index) {
         return Character.offsetByCodePoints(input, index, 1);
     }
-
-    /**
-     * Exception thrown when matching failed.
-     *
-     * @author leadpony
-     */
-    private static class FormatMismatchException extends RuntimeException {
-
-        private static final long serialVersionUID = 1L;
-    }
 }
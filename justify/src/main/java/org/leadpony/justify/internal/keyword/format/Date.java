@@ -35,6 +35,7 @@ class Date extends AbstractFormatAttribute {
     static final Date INSTANCE = new Date();
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final int LOCAL_DATE_LENGTH = 10;
 
     @Override
     public String name() {
@@ -48,11 +49,80 @@ class Date extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        try {
-            FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
+        return test(value, 0, value.length());
+    }
+
+    /**
+     * Tests a part of the specified string.
+     *
+     * @param value the string to test.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @return {@code true} if the part is a valid date.
+     */
+    static boolean test(String value, int start, int end) {
+        if (end - start == LOCAL_DATE_LENGTH) {
+            return testLocalDate(value, start);
+        } else if (end > start && (value.charAt(start) == '+' || value.charAt(start) == '-')) {
+            // Expanded years are left to the formatter.
+            try {
+                FORMATTER.parse(value.substring(start, end));
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests a date in the form of "yyyy-MM-dd".
+     */
+    private static boolean testLocalDate(String value, int start) {
+        if (value.charAt(start + 4) != '-' || value.charAt(start + 7) != '-') {
+            return false;
+        }
+        int year = parseDigits(value, start, 4);
+        int month = parseDigits(value, start + 5, 2);
+        int day = parseDigits(value, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
             return false;
         }
+        return day <= lengthOfMonth(year, month);
+    }
+
+    /**
+     * Parses the specified number of ASCII digits.
+     *
+     * @return the parsed value, or -1 if any of the characters is not a digit.
+     */
+    static int parseDigits(CharSequence value, int start, int digits) {
+        int result = 0;
+        for (int i = start; i < start + digits; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
     }
 }
@@ -33,9 +33,6 @@ class DateTime extends AbstractFormatAttribute {
 
     static final DateTime INSTANCE = new DateTime();
 
-    private final Date date = new Date();
-    private final Time time = new Time();
-
     @Override
     public String name() {
         return "date-time";
@@ -48,10 +45,20 @@ class DateTime extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        String[] parts = value.split("T|t", 3);
-        if (parts.length != 2) {
+        final int length = value.length();
+        int separator = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == 'T' || c == 't') {
+                if (separator >= 0) {
+                    return false;
+                }
+                separator = i;
+            }
+        }
+        if (separator < 0) {
             return false;
         }
-        return date.test(parts[0]) && time.test(parts[1]);
+        return Date.test(value, 0, separator) && Time.test(value, separator + 1, length);
     }
 }
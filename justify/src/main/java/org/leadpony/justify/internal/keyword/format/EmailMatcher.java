@@ -45,104 +45,112 @@ class EmailMatcher extends AbstractFormatMatcher {
 
     @Override
     public boolean test() {
-        localPart();
-        if (next() == '@') {
-            domainPart();
-            return true;
-        } else {
-            return false;
-        }
+        return localPart() && next() == '@' && domainPart();
     }
 
-    private void localPart() {
+    private boolean localPart() {
         final int start = pos();
-        zeroOrMoreComments();
+        if (!zeroOrMoreComments()) {
+            return false;
+        }
         if (peek() == '\"') {
-            quotedString();
-        } else {
-            dotAtom();
+            if (!quotedString()) {
+                return false;
+            }
+        } else if (!dotAtom()) {
+            return false;
         }
-        zeroOrMoreComments();
-        int length = pos() - start;
-        if (length > MAX_LOCAL_PART_CHARS) {
-            fail();
+        if (!zeroOrMoreComments()) {
+            return false;
         }
+        int length = pos() - start;
+        return length <= MAX_LOCAL_PART_CHARS;
     }
 
-    private void dotAtom() {
-        atomText();
+    private boolean dotAtom() {
+        if (!atomText()) {
+            return false;
+        }
         while (peek() == '.') {
             next();
-            atomText();
+            if (!atomText()) {
+                return false;
+            }
         }
+        return true;
     }
 
-    private void atomText() {
+    private boolean atomText() {
         int length = 0;
         for (;;) {
             int c = peek();
-            if (c == '@' || c == '.' || c == '(' || isWhiteSpace(c) || c == '\r') {
+            if (c == EOS || c == '@' || c == '.' || c == '(' || isWhiteSpace(c) || c == '\r') {
                 break;
             }
             next();
             if (checkAtomLetter(c)) {
                 length++;
             } else {
-                fail();
+                return false;
             }
         }
-        if (length == 0) {
-            fail();
-        }
+        return length > 0;
     }
 
-    private void quotedString() {
+    private boolean quotedString() {
         // Skips opening quote.
         int c = next();
         while ((c = next()) != '\"') {
             if (c == '\\') {
                 if (!checkQuotedLetter(next())) {
-                    fail();
+                    return false;
                 }
             } else if (isWhiteSpace(c) || c == '\r') {
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else if (!checkQuotedLetter(c)) {
-                fail();
+                return false;
             }
         }
+        return true;
     }
 
-    private void domainPart() {
+    private boolean domainPart() {
         final int start = pos();
-        zeroOrMoreComments();
+        if (!zeroOrMoreComments()) {
+            return false;
+        }
         if (peek() == '[') {
-            domainLiteral();
-        } else {
-            hostname();
+            if (!domainLiteral()) {
+                return false;
+            }
+        } else if (!hostname()) {
+            return false;
         }
-        zeroOrMoreComments();
-        if (hasNext()) {
-            fail();
+        if (!zeroOrMoreComments() || hasNext()) {
+            return false;
         }
         int length = pos() - start;
-        if (length > HostnameMatcher.MAX_DOMAIN_CHARS) {
-            fail();
-        }
+        return length <= HostnameMatcher.MAX_DOMAIN_CHARS;
     }
 
-    private void domainLiteral() {
+    private boolean domainLiteral() {
         // Skips opening bracket.
         int c = next();
         while ((c = next()) != ']') {
             if (isWhiteSpace(c) || c == '\r') {
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else if (!checkDomainLiteralLetter(c)) {
-                fail();
+                return false;
             }
         }
+        return true;
     }
 
-    private void hostname() {
+    private boolean hostname() {
         final int start = pos();
         while (hasNext()) {
             int c = peek();
@@ -152,46 +160,50 @@ class EmailMatcher extends AbstractFormatMatcher {
                 next();
             }
         }
-        if (!checkHostname(start, pos())) {
-            fail();
-        }
+        return checkHostname(start, pos());
     }
 
     /**
      * Zero or more comments.
+     *
+     * @return {@code true} if the comments are valid.
      */
-    private void zeroOrMoreComments() {
-        foldingWhiteSpace();
-        if (hasNext() && peek() == '(') {
-            comment();
-            foldingWhiteSpace();
-            while (hasNext() && peek() == '(') {
-                comment();
-                foldingWhiteSpace();
+    private boolean zeroOrMoreComments() {
+        if (!foldingWhiteSpace()) {
+            return false;
+        }
+        while (peek() == '(') {
+            if (!comment() || !foldingWhiteSpace()) {
+                return false;
             }
         }
+        return true;
     }
 
-    private void comment() {
+    private boolean comment() {
         // Skips opening parenthesis.
         next();
         for (;;) {
             int c = peek();
             if (c == '(') {
-                comment();
+                if (!comment()) {
+                    return false;
+                }
             } else if (isWhiteSpace(c) || c == '\r') {
                 // Folding white space appears in the comment.
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else {
                 next();
                 if (c == ')') {
-                    break;
+                    return true;
                 } else if (c == '\\') {
                     if (!checkQuotedLetter(next())) {
-                        fail();
+                        return false;
                     }
                 } else if (!checkCommentLetter(c)) {
-                    fail();
+                    return false;
                 }
             }
         }
@@ -199,23 +211,26 @@ class EmailMatcher extends AbstractFormatMatcher {
 
     /**
      * Folding white space (optional).
+     *
+     * @return {@code true} if the white space is valid.
      */
-    private void foldingWhiteSpace() {
+    private boolean foldingWhiteSpace() {
         zeroOrMoreWhiteSpaces();
-        if (hasNext() && peek() == '\r') {
+        if (peek() == '\r') {
             if (next() != 'n') {
-                fail();
+                return false;
             }
             if (isWhiteSpace(next())) {
                 zeroOrMoreWhiteSpaces();
             } else {
-                fail();
+                return false;
             }
         }
+        return true;
     }
 
     private void zeroOrMoreWhiteSpaces() {
-        while (hasNext() && isWhiteSpace(peek())) {
+        while (isWhiteSpace(peek())) {
             next();
         }
     }
@@ -225,7 +240,7 @@ class EmailMatcher extends AbstractFormatMatcher {
     }
 
     protected boolean checkAtomLetter(int c) {
-        return isAlphanumeric(c) || ATOM_TEXT_CHARSET.get(c);
+        return isAlphanumeric(c) || (c >= 0 && ATOM_TEXT_CHARSET.get(c));
     }
 
     protected boolean checkDomainLiteralLetter(int c) {
@@ -25,8 +25,10 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
@@ -37,6 +39,7 @@ import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.spi.FormatAttribute;
@@ -95,10 +98,17 @@ public class Format extends AbstractAssertionKeyword implements FormatKeyword {
     static final KeywordType TYPE = new FormatType();
 
     private final FormatAttribute attribute;
+    // Predicate for the built-in attributes which can test strings directly.
+    private final Predicate<String> stringPredicate;
 
     public Format(JsonValue json, FormatAttribute attribute) {
         super(json);
         this.attribute = attribute;
+        if (attribute instanceof AbstractFormatAttribute) {
+            this.stringPredicate = ((AbstractFormatAttribute) attribute)::test;
+        } else {
+            this.stringPredicate = null;
+        }
     }
 
     @Override
@@ -123,8 +133,7 @@ public class Format extends AbstractAssertionKeyword implements FormatKeyword {
 
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        JsonValue value = parent.getContext().getParser().getValue();
-        if (test(value)) {
+        if (test(parent.getContext())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new FormatEvaluator(parent, this) {
@@ -140,8 +149,7 @@ public class Format extends AbstractAssertionKeyword implements FormatKeyword {
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        JsonValue value = parent.getContext().getParser().getValue();
-        if (!test(value)) {
+        if (!test(parent.getContext())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new FormatEvaluator(parent, this) {
@@ -160,8 +168,12 @@ public class Format extends AbstractAssertionKeyword implements FormatKeyword {
         return attribute.name();
     }
 
-    private boolean test(JsonValue value) {
-        return attribute.test(value);
+    private boolean test(EvaluatorContext context) {
+        if (stringPredicate != null) {
+            String value = context.getParser().getString();
+            return CachingEvaluatorContext.testString(context, this, value, stringPredicate);
+        }
+        return attribute.test(context.getParser().getValue());
     }
 
     abstract class FormatEvaluator extends AbstractKeywordBasedEvaluator {
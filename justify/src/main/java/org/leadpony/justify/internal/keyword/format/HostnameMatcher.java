@@ -40,23 +40,23 @@ class HostnameMatcher extends AbstractFormatMatcher {
     @Override
     public boolean test() {
         final int start = pos();
-        subdomain();
-        int length = pos() - start;
-        if (length > MAX_DOMAIN_CHARS) {
+        if (!subdomain()) {
             return false;
         }
-        return true;
+        int length = pos() - start;
+        return length <= MAX_DOMAIN_CHARS;
     }
 
-    private void subdomain() {
-        label();
+    private boolean subdomain() {
+        if (!label()) {
+            return false;
+        }
         while (hasNext()) {
-            if (next() == '.') {
-                label();
-            } else {
-                fail();
+            if (next() != '.' || !label()) {
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -65,12 +65,14 @@ class HostnameMatcher extends AbstractFormatMatcher {
      * Note that RFC 1123 relaxed the restriction on on the first character to allow
      * either a letter or a digit.
      * </p>
+     *
+     * @return {@code true} if the label is valid.
      */
-    private void label() {
+    private boolean label() {
         final int start = pos();
         int c = next();
         if (!checkFirstLabelLetter(c)) {
-            fail();
+            return false;
         }
         while (hasNext()) {
             if (peek() == '.') {
@@ -78,16 +80,14 @@ class HostnameMatcher extends AbstractFormatMatcher {
             }
             c = next();
             if (!checkLabelLetter(c)) {
-                fail();
+                return false;
             }
         }
         if (c == '-') {
-            fail();
+            return false;
         }
         int length = pos() - start;
-        if (length == 0 || length > MAX_LABEL_CHARS) {
-            fail();
-        }
+        return length > 0 && length <= MAX_LABEL_CHARS;
     }
 
     protected boolean checkFirstLabelLetter(int c) {
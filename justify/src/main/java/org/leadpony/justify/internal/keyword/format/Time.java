@@ -16,9 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.format;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.leadpony.justify.api.Localizable;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -34,8 +31,8 @@ class Time extends AbstractFormatAttribute {
 
     static final Time INSTANCE = new Time();
 
-    private static final Pattern LOCAL_TIME_PATTERN = Pattern.compile("(\\d{2})\\:(\\d{2})\\:(\\d{2})(\\.\\d+)?");
-    private static final Pattern TIME_OFFSET_PATTERN = Pattern.compile("(\\d{2})\\:(\\d{2})");
+    private static final int LOCAL_TIME_LENGTH = 8;
+    private static final int TIME_OFFSET_LENGTH = 5;
 
     private static final int MAX_HOURS = 23;
     private static final int MAX_MINUTES = 59;
@@ -54,51 +51,88 @@ class Time extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        if (value.endsWith("Z") || value.endsWith("z")) {
-            String part = value.substring(0, value.length() - 1);
-            return testLocalTimePart(part);
-        } else {
-            String[] parts = value.split("\\+|\\-");
-            if (parts.length != 2) {
-                return false;
+        return test(value, 0, value.length());
+    }
+
+    /**
+     * Tests a part of the specified string.
+     *
+     * @param value the string to test.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @return {@code true} if the part is a valid time.
+     */
+    static boolean test(String value, int start, int end) {
+        if (end <= start) {
+            return false;
+        }
+        char last = value.charAt(end - 1);
+        if (last == 'Z' || last == 'z') {
+            return testLocalTimePart(value, start, end - 1);
+        }
+        int sign = -1;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '+' || c == '-') {
+                if (sign >= 0) {
+                    return false;
+                }
+                sign = i;
             }
-            return testLocalTimePart(parts[0]) && testTimeOffsetPart(parts[1]);
         }
+        if (sign < 0) {
+            return false;
+        }
+        return testLocalTimePart(value, start, sign) && testTimeOffsetPart(value, sign + 1, end);
     }
 
-    private static boolean testLocalTimePart(String value) {
-        Matcher m = LOCAL_TIME_PATTERN.matcher(value);
-        if (!m.matches()) {
+    /**
+     * Tests the partial time in the form of "HH:mm:ss" followed by optional
+     * fraction of second.
+     */
+    private static boolean testLocalTimePart(String value, int start, int end) {
+        if (end - start < LOCAL_TIME_LENGTH) {
+            return false;
+        }
+        if (!testHoursAndMinutes(value, start)) {
             return false;
         }
-        int hours = Integer.parseInt(m.group(1));
-        if (hours > MAX_HOURS) {
+        if (value.charAt(start + 5) != ':') {
             return false;
         }
-        int minutes = Integer.parseInt(m.group(2));
-        if (minutes > MAX_MINUTES) {
+        int seconds = Date.parseDigits(value, start + 6, 2);
+        if (seconds < 0 || seconds > MAX_SECONDS) {
             return false;
         }
-        int seconds = Integer.parseInt(m.group(3));
-        if (seconds > MAX_SECONDS) {
+        int index = start + LOCAL_TIME_LENGTH;
+        if (index == end) {
+            return true;
+        }
+        if (value.charAt(index++) != '.' || index == end) {
             return false;
         }
+        while (index < end) {
+            char c = value.charAt(index++);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
         return true;
     }
 
-    private static boolean testTimeOffsetPart(String value) {
-        Matcher m = TIME_OFFSET_PATTERN.matcher(value);
-        if (!m.matches()) {
-            return false;
-        }
-        int hours = Integer.parseInt(m.group(1));
-        if (hours > MAX_HOURS) {
+    private static boolean testTimeOffsetPart(String value, int start, int end) {
+        return end - start == TIME_OFFSET_LENGTH && testHoursAndMinutes(value, start);
+    }
+
+    private static boolean testHoursAndMinutes(String value, int start) {
+        if (value.charAt(start + 2) != ':') {
             return false;
         }
-        int minutes = Integer.parseInt(m.group(2));
-        if (minutes > MAX_MINUTES) {
+        int hours = Date.parseDigits(value, start, 2);
+        if (hours < 0 || hours > MAX_HOURS) {
             return false;
         }
-        return true;
+        int minutes = Date.parseDigits(value, start + 3, 2);
+        return minutes >= 0 && minutes <= MAX_MINUTES;
     }
 }
@@ -47,11 +47,11 @@ final class UriCode {
     }
 
     static boolean isReserved(int c) {
-        return RESERVED.get(c);
+        return c >= 0 && RESERVED.get(c);
     }
 
     static boolean isSubDelim(int c) {
-        return SUB_DELIMS_SET.get(c);
+        return c >= 0 && SUB_DELIMS_SET.get(c);
     }
 
     static boolean isUnreserved(int c) {
@@ -150,7 +150,7 @@ class UriMatcher extends AbstractFormatMatcher {
                     return true;
                 }
             }
-            fail();
+            return fail();
         }
         return false;
     }
@@ -176,7 +176,7 @@ class UriMatcher extends AbstractFormatMatcher {
                     }
                 }
             }
-            fail();
+            return fail();
         }
         return false;
     }
@@ -443,7 +443,7 @@ class UriMatcher extends AbstractFormatMatcher {
     }
 
     private static CharSequence decodeAllUnreserved(CharSequence input) {
-        StringBuilder b = new StringBuilder();
+        StringBuilder b = null;
         final int length = input.length();
         int startIndex = 0;
         int index = 0;
@@ -453,6 +453,9 @@ class UriMatcher extends AbstractFormatMatcher {
                 char low = input.charAt(index + 2);
                 int codePoint = decodePercentEncoded(high, low);
                 if (codePoint >= 0 && UriCode.isUnreserved(codePoint)) {
+                    if (b == null) {
+                        b = new StringBuilder(length);
+                    }
                     b.append(input, startIndex, index).appendCodePoint(codePoint);
                     startIndex = index + 3;
                 }
@@ -461,7 +464,7 @@ class UriMatcher extends AbstractFormatMatcher {
                 index++;
             }
         }
-        if (startIndex == 0) {
+        if (b == null) {
             return input;
         } else if (startIndex < length) {
             b.append(input, startIndex, length);
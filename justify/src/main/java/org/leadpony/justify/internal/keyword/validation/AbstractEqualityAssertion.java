@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.keyword.validation;
 
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
@@ -25,6 +26,8 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.JsonValues;
+import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -48,10 +51,10 @@ abstract class AbstractEqualityAssertion extends AbstractAssertionKeyword {
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
-                if (builder.append(event, context.getParser())) {
+                JsonValue value = buildValue(builder, event, depth, context.getParser());
+                if (value == null) {
                     return Result.PENDING;
                 }
-                JsonValue value = builder.build();
                 if (testValue(value)) {
                     return Result.TRUE;
                 }
@@ -71,10 +74,10 @@ abstract class AbstractEqualityAssertion extends AbstractAssertionKeyword {
         return new AbstractKeywordBasedEvaluator(parent, this) {
             @Override
             public Result evaluate(Event event, int depth) {
-                if (builder.append(event, context.getParser())) {
+                JsonValue value = buildValue(builder, event, depth, context.getParser());
+                if (value == null) {
                     return Result.PENDING;
                 }
-                JsonValue value = builder.build();
                 if (!testValue(value)) {
                     return Result.TRUE;
                 }
@@ -88,6 +91,29 @@ abstract class AbstractEqualityAssertion extends AbstractAssertionKeyword {
 
     protected abstract boolean testValue(JsonValue value);
 
+    /**
+     * Builds the instance value. The in-memory value is used as it is if the
+     * parser provides it.
+     *
+     * @param builder the builder of the instance value.
+     * @param event   the event from the parser.
+     * @param depth   the depth of the event.
+     * @param parser  the parser.
+     * @return the built value, or {@code null} if more events are required.
+     */
+    private static JsonValue buildValue(JsonInstanceBuilder builder, Event event, int depth, JsonParser parser) {
+        if (depth == 0 && ParserEvents.isStartOfContainer(event)) {
+            JsonValue value = JsonValues.currentValueOf(parser);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (builder.append(event, parser)) {
+            return null;
+        }
+        return builder.build();
+    }
+
     protected abstract Problem createProblem(ProblemBuilder builder);
 
     protected abstract Problem createNegatedProblem(ProblemBuilder builder);
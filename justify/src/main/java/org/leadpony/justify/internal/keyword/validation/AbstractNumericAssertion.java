@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.keyword.validation;
 import java.math.BigDecimal;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
@@ -29,6 +30,7 @@ import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
+import org.leadpony.justify.internal.keyword.ScalarAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 /**
@@ -36,7 +38,7 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
  *
  * @author leadpony
  */
-abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
+abstract class AbstractNumericAssertion extends AbstractAssertionKeyword implements ScalarAssertionKeyword {
 
     private static final Set<InstanceType> SUPPORTED_TYPES = EnumSet.of(InstanceType.NUMBER, InstanceType.INTEGER);
 
@@ -54,6 +56,15 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
         return SUPPORTED_TYPES;
     }
 
+    @Override
+    public Function<Evaluator, Evaluator> test(EvaluatorContext context, InstanceType type) {
+        BigDecimal value = context.getParser().getBigDecimal();
+        if (testValue(value)) {
+            return null;
+        }
+        return parent -> createFailingEvaluator(parent, value);
+    }
+
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
         EvaluatorContext context = parent.getContext();
@@ -61,15 +72,7 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
         if (testValue(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
-        return new AbstractKeywordBasedEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                ProblemBuilder builder = newProblemBuilder()
-                        .withParameter("actual", value);
-                getDispatcher().dispatchProblem(createProblem(builder));
-                return Result.FALSE;
-            }
-        };
+        return createFailingEvaluator(parent, value);
     }
 
     @Override
@@ -90,6 +93,18 @@ abstract class AbstractNumericAssertion extends AbstractAssertionKeyword {
         };
     }
 
+    private Evaluator createFailingEvaluator(Evaluator parent, BigDecimal value) {
+        return new AbstractKeywordBasedEvaluator(parent, this) {
+            @Override
+            public Result evaluate(Event event, int depth) {
+                ProblemBuilder builder = newProblemBuilder()
+                        .withParameter("actual", value);
+                getDispatcher().dispatchProblem(createProblem(builder));
+                return Result.FALSE;
+            }
+        };
+    }
+
     protected abstract boolean testValue(BigDecimal value);
 
     protected abstract Problem createProblem(ProblemBuilder builder);
@@ -23,13 +23,17 @@ import org.leadpony.justify.api.EvaluatorContext;
 
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
+import org.leadpony.justify.internal.keyword.ScalarAssertionKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 /**
@@ -37,10 +41,12 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
  *
  * @author leadpony
  */
-abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
+abstract class AbstractStringAssertion extends AbstractAssertionKeyword implements ScalarAssertionKeyword {
 
     private static final Set<InstanceType> SUPPORTED_TYPES = EnumSet.of(InstanceType.STRING);
 
+    private final BiPredicate<String, EvaluatorContext> predicate = this::testValue;
+
     protected AbstractStringAssertion(JsonValue json) {
         super(json);
     }
@@ -55,40 +61,19 @@ abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
         return SUPPORTED_TYPES;
     }
 
+    @Override
+    public Function<Evaluator, Evaluator> test(EvaluatorContext context, InstanceType type) {
+        return testString(context, context.getParser().getString(), false);
+    }
+
     @Override
     public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-        EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
-        if (testValue(value)) {
-            return Evaluator.ALWAYS_TRUE;
-        }
-        return new AbstractKeywordBasedEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                ProblemBuilder builder = newProblemBuilder();
-                buildProblem(builder, event, value);
-                getDispatcher().dispatchProblem(createProblem(builder));
-                return Result.FALSE;
-            }
-        };
+        return createEvaluator(parent, false);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(Evaluator parent, InstanceType type) {
-        EvaluatorContext context = parent.getContext();
-        String value = context.getParser().getString();
-        if (!testValue(value)) {
-            return Evaluator.ALWAYS_TRUE;
-        }
-        return new AbstractKeywordBasedEvaluator(parent, this) {
-            @Override
-            public Result evaluate(Event event, int depth) {
-                ProblemBuilder builder = newProblemBuilder();
-                buildProblem(builder, event, value);
-                getDispatcher().dispatchProblem(createNegatedProblem(builder));
-                return Result.FALSE;
-            }
-        };
+        return createEvaluator(parent, true);
     }
 
     public void buildProblem(ProblemBuilder builder, Event event, String actual) {
@@ -103,7 +88,65 @@ abstract class AbstractStringAssertion extends AbstractAssertionKeyword {
         builder.withParameter("actual", toActualValue(actual));
     }
 
-    protected abstract boolean testValue(String value);
+    /**
+     * Creates an evaluator which always fails with a problem.
+     *
+     * @param parent         the parent evaluator.
+     * @param value          the string value tested.
+     * @param problemFactory the function creating the problem.
+     * @return newly created evaluator.
+     */
+    protected Evaluator createFailingEvaluator(Evaluator parent, String value,
+            Function<ProblemBuilder, Problem> problemFactory) {
+        return new AbstractKeywordBasedEvaluator(parent, this) {
+            @Override
+            public Result evaluate(Event event, int depth) {
+                ProblemBuilder builder = newProblemBuilder();
+                buildProblem(builder, event, value);
+                getDispatcher().dispatchProblem(problemFactory.apply(builder));
+                return Result.FALSE;
+            }
+        };
+    }
+
+    /**
+     * Tests the string value against this assertion, using the cache of the
+     * context if available.
+     *
+     * @param context the context of the evaluation.
+     * @param value   the string value to test.
+     * @param negated {@code true} if this assertion is negated.
+     * @return {@code null} if the value is valid, otherwise the function which
+     *         creates the evaluator reporting the problem found, given the
+     *         parent evaluator.
+     */
+    protected Function<Evaluator, Evaluator> testString(EvaluatorContext context, String value, boolean negated) {
+        if (CachingEvaluatorContext.testString(context, this, value, predicate) != negated) {
+            return null;
+        }
+        if (negated) {
+            return parent -> createFailingEvaluator(parent, value, this::createNegatedProblem);
+        }
+        return parent -> createFailingEvaluator(parent, value, this::createProblem);
+    }
+
+    /**
+     * Tests the string value against this assertion.
+     *
+     * @param value   the string value to test.
+     * @param context the context of the evaluation.
+     * @return {@code true} if the value is valid, {@code false} otherwise.
+     */
+    protected abstract boolean testValue(String value, EvaluatorContext context);
+
+    private Evaluator createEvaluator(Evaluator parent, boolean negated) {
+        EvaluatorContext context = parent.getContext();
+        Function<Evaluator, Evaluator> failure = testString(context, context.getParser().getString(), negated);
+        if (failure == null) {
+            return Evaluator.ALWAYS_TRUE;
+        }
+        return failure.apply(parent);
+    }
 
     protected Object toActualValue(String value) {
         return value;
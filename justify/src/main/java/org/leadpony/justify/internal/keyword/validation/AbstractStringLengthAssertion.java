@@ -17,6 +17,7 @@
 package org.leadpony.justify.internal.keyword.validation;
 
 import jakarta.json.JsonValue;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
@@ -39,7 +40,7 @@ abstract class AbstractStringLengthAssertion extends AbstractStringAssertion {
     }
 
     @Override
-    protected boolean testValue(String value) {
+    protected boolean testValue(String value, EvaluatorContext context) {
         return testLength(countCharsIn(value), this.limit);
     }
 
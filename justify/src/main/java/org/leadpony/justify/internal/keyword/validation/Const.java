@@ -24,6 +24,7 @@ import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.JsonValues;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -50,7 +51,7 @@ public class Const extends AbstractEqualityAssertion {
 
     @Override
     protected boolean testValue(JsonValue value) {
-        return value.equals(getValueAsJson());
+        return JsonValues.equals(value, getValueAsJson());
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.JsonValues;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -56,7 +57,7 @@ public class Enum extends AbstractEqualityAssertion {
     @Override
     protected boolean testValue(JsonValue value) {
         for (JsonValue expected : this.expected) {
-            if (value.equals(expected)) {
+            if (JsonValues.equals(value, expected)) {
                 return true;
             }
         }
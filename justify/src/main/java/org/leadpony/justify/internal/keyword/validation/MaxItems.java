@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -89,20 +90,30 @@ public class MaxItems extends AbstractArrayAssertionKeyword {
                 if (ParserEvents.isValue(event)) {
                     ++currentCount;
                 }
-            } else if (depth == 0 && event == Event.END_ARRAY) {
-                if (currentCount <= maxItems) {
-                    return Result.TRUE;
-                } else {
-                    Problem p = newProblemBuilder()
-                            .withMessage(Message.INSTANCE_PROBLEM_MAXITEMS)
-                            .withParameter("actual", currentCount)
-                            .withParameter("limit", maxItems)
-                            .build();
-                    getDispatcher().dispatchProblem(p);
-                    return Result.FALSE;
+            } else if (depth == 0 && event == Event.START_ARRAY) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    currentCount = ((JsonArray) value).size();
+                    return getFinalResult();
                 }
+            } else if (depth == 0 && event == Event.END_ARRAY) {
+                return getFinalResult();
             }
             return Result.PENDING;
         }
+
+        private Result getFinalResult() {
+            if (currentCount <= maxItems) {
+                return Result.TRUE;
+            } else {
+                Problem p = newProblemBuilder()
+                        .withMessage(Message.INSTANCE_PROBLEM_MAXITEMS)
+                        .withParameter("actual", currentCount)
+                        .withParameter("limit", maxItems)
+                        .build();
+                getDispatcher().dispatchProblem(p);
+                return Result.FALSE;
+            }
+        }
     }
 }
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -82,26 +83,41 @@ public class MaxProperties extends AbstractObjectAssertionKeyword {
             this.maxProperties = maxProperties;
         }
 
+        @Override
+        public int getEventMask() {
+            return PROPERTY_EVENTS;
+        }
+
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (depth == 1) {
                 if (event == Event.KEY_NAME) {
                     ++currentCount;
                 }
-            } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (currentCount <= maxProperties) {
-                    return Result.TRUE;
-                } else {
-                    Problem p = newProblemBuilder()
-                            .withMessage(Message.INSTANCE_PROBLEM_MAXPROPERTIES)
-                            .withParameter("actual", currentCount)
-                            .withParameter("limit", maxProperties)
-                            .build();
-                    getDispatcher().dispatchProblem(p);
-                    return Result.FALSE;
+            } else if (depth == 0 && event == Event.START_OBJECT) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    currentCount = ((JsonObject) value).size();
+                    return getFinalResult();
                 }
+            } else if (depth == 0 && event == Event.END_OBJECT) {
+                return getFinalResult();
             }
             return Result.PENDING;
         }
+
+        private Result getFinalResult() {
+            if (currentCount <= maxProperties) {
+                return Result.TRUE;
+            } else {
+                Problem p = newProblemBuilder()
+                        .withMessage(Message.INSTANCE_PROBLEM_MAXPROPERTIES)
+                        .withParameter("actual", currentCount)
+                        .withParameter("limit", maxProperties)
+                        .build();
+                getDispatcher().dispatchProblem(p);
+                return Result.FALSE;
+            }
+        }
     }
 }
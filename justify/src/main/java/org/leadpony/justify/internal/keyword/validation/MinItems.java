@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -95,20 +96,30 @@ public class MinItems extends AbstractArrayAssertionKeyword {
                         return Result.TRUE;
                     }
                 }
-            } else if (depth == 0 && event == Event.END_ARRAY) {
-                if (currentCount >= minItems) {
-                    return Result.TRUE;
-                } else {
-                    Problem p = newProblemBuilder()
-                            .withMessage(Message.INSTANCE_PROBLEM_MINITEMS)
-                            .withParameter("actual", currentCount)
-                            .withParameter("limit", minItems)
-                            .build();
-                    getDispatcher().dispatchProblem(p);
-                    return Result.FALSE;
+            } else if (depth == 0 && event == Event.START_ARRAY) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    currentCount = ((JsonArray) value).size();
+                    return getFinalResult();
                 }
+            } else if (depth == 0 && event == Event.END_ARRAY) {
+                return getFinalResult();
             }
             return Result.PENDING;
         }
+
+        private Result getFinalResult() {
+            if (currentCount >= minItems) {
+                return Result.TRUE;
+            } else {
+                Problem p = newProblemBuilder()
+                        .withMessage(Message.INSTANCE_PROBLEM_MINITEMS)
+                        .withParameter("actual", currentCount)
+                        .withParameter("limit", minItems)
+                        .build();
+                getDispatcher().dispatchProblem(p);
+                return Result.FALSE;
+            }
+        }
     }
 }
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -86,26 +87,41 @@ public class MinProperties extends AbstractObjectAssertionKeyword {
             this.minProperties = minProperties;
         }
 
+        @Override
+        public int getEventMask() {
+            return PROPERTY_EVENTS;
+        }
+
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (depth == 1) {
                 if (event == Event.KEY_NAME && ++currentCount >= minProperties) {
                     return Result.TRUE;
                 }
-            } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (currentCount >= minProperties) {
-                    return Result.TRUE;
-                } else {
-                    Problem p = newProblemBuilder()
-                            .withMessage(Message.INSTANCE_PROBLEM_MINPROPERTIES)
-                            .withParameter("actual", currentCount)
-                            .withParameter("limit", minProperties)
-                            .build();
-                    getDispatcher().dispatchProblem(p);
-                    return Result.FALSE;
+            } else if (depth == 0 && event == Event.START_OBJECT) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    currentCount = ((JsonObject) value).size();
+                    return getFinalResult();
                 }
+            } else if (depth == 0 && event == Event.END_OBJECT) {
+                return getFinalResult();
             }
             return Result.PENDING;
         }
+
+        private Result getFinalResult() {
+            if (currentCount >= minProperties) {
+                return Result.TRUE;
+            } else {
+                Problem p = newProblemBuilder()
+                        .withMessage(Message.INSTANCE_PROBLEM_MINPROPERTIES)
+                        .withParameter("actual", currentCount)
+                        .withParameter("limit", minProperties)
+                        .build();
+                getDispatcher().dispatchProblem(p);
+                return Result.FALSE;
+            }
+        }
     }
 }
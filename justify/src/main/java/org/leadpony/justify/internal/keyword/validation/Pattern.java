@@ -16,12 +16,15 @@
 
 package org.leadpony.justify.internal.keyword.validation;
 
+import java.util.function.Function;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
 
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.api.keyword.InvalidKeywordException;
@@ -31,7 +34,9 @@ import org.leadpony.justify.api.keyword.SubschemaParser;
 import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.regex.Ecma262Pattern;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
+import org.leadpony.justify.internal.base.regex.RegexStepLimitException;
+import org.leadpony.justify.internal.evaluator.RegexEvaluatorContext;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 /**
@@ -60,16 +65,16 @@ public class Pattern extends AbstractStringAssertion {
 
             JsonString string = (JsonString) jsonValue;
             try {
-                return new Pattern(jsonValue, Ecma262Pattern.compile(string.getString()));
+                return new Pattern(jsonValue, Ecma262Regex.compile(string.getString()));
             } catch (PatternSyntaxException e) {
                 throw new InvalidKeywordException("Not a pattern");
             }
         }
     };
 
-    private final java.util.regex.Pattern pattern;
+    private final Ecma262Regex pattern;
 
-    public Pattern(JsonValue json, java.util.regex.Pattern pattern) {
+    public Pattern(JsonValue json, Ecma262Regex pattern) {
         super(json);
         this.pattern = pattern;
     }
@@ -80,8 +85,18 @@ public class Pattern extends AbstractStringAssertion {
     }
 
     @Override
-    protected boolean testValue(String value) {
-        return pattern.matcher(value).find();
+    protected Function<Evaluator, Evaluator> testString(EvaluatorContext context, String value, boolean negated) {
+        try {
+            return super.testString(context, value, negated);
+        } catch (RegexStepLimitException e) {
+            // The match exceeding the step limit is never cached.
+            return parent -> createStepLimitEvaluator(parent, value);
+        }
+    }
+
+    @Override
+    protected boolean testValue(String value, EvaluatorContext context) {
+        return pattern.findWithStepsPerChar(value, RegexEvaluatorContext.getRegexStepLimit(context));
     }
 
     @Override
@@ -97,4 +112,13 @@ public class Pattern extends AbstractStringAssertion {
             .withParameter("pattern", pattern.toString())
             .build();
     }
+
+    private Evaluator createStepLimitEvaluator(Evaluator parent, String value) {
+        long stepLimit = RegexEvaluatorContext.getRegexStepLimit(parent.getContext());
+        return createFailingEvaluator(parent, value,
+            builder -> builder.withMessage(Message.INSTANCE_PROBLEM_PATTERN_STEP_LIMIT)
+                .withParameter("pattern", pattern.toString())
+                .withParameter("limit", stepLimit)
+                .build());
+    }
 }
@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.keyword.validation;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
 import org.leadpony.justify.api.Evaluator;
@@ -91,6 +92,11 @@ public class Required extends AbstractObjectAssertionKeyword {
             this.missing = new LinkedHashSet<>(required);
         }
 
+        @Override
+        public int getEventMask() {
+            return PROPERTY_EVENTS;
+        }
+
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (event == Event.KEY_NAME) {
@@ -98,6 +104,12 @@ public class Required extends AbstractObjectAssertionKeyword {
                 if (missing.isEmpty()) {
                     return Result.TRUE;
                 }
+            } else if (depth == 0 && event == Event.START_OBJECT) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    missing.removeIf(((JsonObject) value)::containsKey);
+                    return missing.isEmpty() ? Result.TRUE : dispatchProblems();
+                }
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (missing.isEmpty()) {
                     return Result.TRUE;
@@ -135,6 +147,11 @@ public class Required extends AbstractObjectAssertionKeyword {
             this.missing = new LinkedHashSet<>(names);
         }
 
+        @Override
+        public int getEventMask() {
+            return PROPERTY_EVENTS;
+        }
+
         @Override
         public Result evaluateShallow(Event event, int depth) {
             if (event == Event.KEY_NAME) {
@@ -142,6 +159,12 @@ public class Required extends AbstractObjectAssertionKeyword {
                 if (missing.isEmpty()) {
                     return dispatchProblem();
                 }
+            } else if (depth == 0 && event == Event.START_OBJECT) {
+                JsonValue value = getCurrentValue();
+                if (value != null) {
+                    missing.removeIf(((JsonObject) value)::containsKey);
+                    return missing.isEmpty() ? dispatchProblem() : Result.TRUE;
+                }
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (missing.isEmpty()) {
                     return dispatchProblem();
@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.keyword.validation;
 import java.math.BigDecimal;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
@@ -40,6 +41,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
+import org.leadpony.justify.internal.keyword.ScalarAssertionKeyword;
 
 /**
  * An assertion representing "type" keyword.
@@ -49,7 +51,7 @@ import org.leadpony.justify.internal.keyword.AbstractAssertionKeyword;
 @KeywordClass("type")
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public abstract class Type extends AbstractAssertionKeyword {
+public abstract class Type extends AbstractAssertionKeyword implements ScalarAssertionKeyword {
 
     static class TypeKeywordType implements KeywordType {
 
@@ -147,6 +149,41 @@ public abstract class Type extends AbstractAssertionKeyword {
         return TYPE;
     }
 
+    @Override
+    public Function<Evaluator, Evaluator> test(EvaluatorContext context, InstanceType type) {
+        InstanceType narrowerType = toNarrowType(type, context);
+        if (testType(narrowerType)) {
+            return null;
+        }
+        return parent -> createFailingEvaluator(parent, narrowerType);
+    }
+
+    @Override
+    public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
+        InstanceType narrowerType = toNarrowType(type, parent.getContext());
+        if (testType(narrowerType)) {
+            return Evaluator.ALWAYS_TRUE;
+        }
+        return createFailingEvaluator(parent, narrowerType);
+    }
+
+    /**
+     * Tests the narrower type of the instance.
+     *
+     * @param type the narrower type of the instance.
+     * @return {@code true} if the type is expected.
+     */
+    protected abstract boolean testType(InstanceType type);
+
+    /**
+     * Creates an evaluator which reports the unexpected type.
+     *
+     * @param parent the parent evaluator.
+     * @param type   the narrower type of the instance.
+     * @return newly created evaluator.
+     */
+    protected abstract Evaluator createFailingEvaluator(Evaluator parent, InstanceType type);
+
     /**
      * Type assertion specialized for single type.
      *
@@ -162,11 +199,7 @@ public abstract class Type extends AbstractAssertionKeyword {
         }
 
         @Override
-        public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-            InstanceType narrowerType = toNarrowType(type, parent.getContext());
-            if (testType(narrowerType)) {
-                return Evaluator.ALWAYS_TRUE;
-            }
+        protected Evaluator createFailingEvaluator(Evaluator parent, InstanceType narrowerType) {
             return new AbstractKeywordBasedEvaluator(parent, this) {
                 @Override
                 public Result evaluate(Event event, int depth) {
@@ -200,7 +233,8 @@ public abstract class Type extends AbstractAssertionKeyword {
             };
         }
 
-        private boolean testType(InstanceType type) {
+        @Override
+        protected boolean testType(InstanceType type) {
             if (type == this.expectedType) {
                 return true;
             } else if (type == InstanceType.INTEGER) {
@@ -226,11 +260,7 @@ public abstract class Type extends AbstractAssertionKeyword {
         }
 
         @Override
-        public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
-            InstanceType narrowerType = toNarrowType(type, parent.getContext());
-            if (testType(narrowerType)) {
-                return Evaluator.ALWAYS_TRUE;
-            }
+        protected Evaluator createFailingEvaluator(Evaluator parent, InstanceType narrowerType) {
             return new AbstractKeywordBasedEvaluator(parent, this) {
                 @Override
                 public Result evaluate(Event event, int depth) {
@@ -265,7 +295,8 @@ public abstract class Type extends AbstractAssertionKeyword {
             };
         }
 
-        private boolean testType(InstanceType type) {
+        @Override
+        protected boolean testType(InstanceType type) {
             return expectedTypes.contains(type)
                     || (type == InstanceType.INTEGER && expectedTypes.contains(InstanceType.NUMBER));
         }
@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.keyword.validation;
 import java.util.HashMap;
 import java.util.Map;
 
+import jakarta.json.JsonArray;
 import jakarta.json.JsonBuilderFactory;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParser.Event;
@@ -34,6 +35,7 @@ import org.leadpony.justify.internal.annotation.KeywordClass;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.json.JsonValues;
 import org.leadpony.justify.internal.evaluator.AbstractKeywordBasedEvaluator;
 import org.leadpony.justify.internal.keyword.AbstractArrayAssertionKeyword;
 import org.leadpony.justify.internal.keyword.KeywordTypes;
@@ -124,9 +126,14 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
             if (depth == 0) {
                 if (event == Event.END_ARRAY) {
                     return getFinalResult();
-                } else {
-                    return Result.PENDING;
+                } else if (event == Event.START_ARRAY) {
+                    JsonValue value = getCurrentValue();
+                    if (value != null) {
+                        testItems((JsonArray) value);
+                        return getFinalResult();
+                    }
                 }
+                return Result.PENDING;
             }
             if (hasDuplicatedItems()) {
                 return Result.PENDING;
@@ -144,6 +151,24 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
             }
         }
 
+        /**
+         * Tests all items of the in-memory array.
+         *
+         * @param items the items of the array.
+         */
+        private void testItems(JsonArray items) {
+            Map<ItemKey, Integer> found = new HashMap<>();
+            for (int i = 0; i < items.size(); i++) {
+                Integer first = found.putIfAbsent(new ItemKey(items.get(i)), i);
+                if (first != null) {
+                    duplicated = true;
+                    firstOccurrenceAt = first;
+                    secondOccurrenceAt = i;
+                    return;
+                }
+            }
+        }
+
         private void testItemValue(JsonValue value, int index) {
             if (values.containsKey(value)) {
                 duplicated = true;
@@ -197,4 +222,31 @@ public class UniqueItems extends AbstractArrayAssertionKeyword {
             }
         }
     }
+
+    /**
+     * A key of the item in the in-memory array, which compares numbers by their
+     * numerical values.
+     *
+     * @author leadpony
+     */
+    private static final class ItemKey {
+
+        private final JsonValue value;
+        private final int hashCode;
+
+        private ItemKey(JsonValue value) {
+            this.value = value;
+            this.hashCode = JsonValues.hashCode(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ItemKey && JsonValues.equals(value, ((ItemKey) other).value);
+        }
+    }
 }
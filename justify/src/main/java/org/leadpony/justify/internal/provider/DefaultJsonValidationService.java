@@ -18,42 +18,60 @@ package org.leadpony.justify.internal.provider;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.function.Consumer;
 import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonPatch;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
 
+import org.leadpony.justify.api.JsonPushValidator;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaBuilderFactory;
 import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonSchemaReaderFactoryBuilder;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.ProblemHandlerFactory;
 import org.leadpony.justify.api.ProblemPrinterBuilder;
+import org.leadpony.justify.api.StringResultCache;
 import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationProfile;
+import org.leadpony.justify.api.ValidationResultCache;
 import org.leadpony.justify.api.keyword.KeywordValueSetLoader;
 import org.leadpony.justify.api.keyword.Vocabulary;
+import org.leadpony.justify.internal.base.HashingInputStream;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.SipHasher;
 import org.leadpony.justify.internal.base.json.JsonProviderDecorator;
 import org.leadpony.justify.internal.base.json.JsonService;
 import org.leadpony.justify.internal.base.json.PointerAwareJsonParser;
@@ -68,9 +86,18 @@ import org.leadpony.justify.internal.schema.SchemaCatalog;
 import org.leadpony.justify.internal.schema.SchemaSpec;
 import org.leadpony.justify.internal.schema.io.JsonSchemaReaderFactoryImpl;
 import org.leadpony.justify.internal.schema.io.JsonSchemaReaderImpl;
+import org.leadpony.justify.internal.validator.DefaultJsonPushValidator;
+import org.leadpony.justify.internal.validator.DefaultStringResultCache;
 import org.leadpony.justify.internal.validator.DefaultValidationConfig;
+import org.leadpony.justify.internal.validator.DefaultValidationProfile;
+import org.leadpony.justify.internal.validator.DefaultValidationResultCache;
 import org.leadpony.justify.internal.validator.JsonValidator;
 import org.leadpony.justify.internal.validator.JsonValidatorFactory;
+import org.leadpony.justify.internal.validator.MultiSchemaValidator;
+import org.leadpony.justify.internal.validator.PatchValidator;
+import org.leadpony.justify.internal.validator.SubtreeValidator;
+import org.leadpony.justify.internal.validator.ValidatingJsonGenerator;
+import org.leadpony.justify.internal.validator.ValidatingJsonGeneratorFactory;
 import org.leadpony.justify.spi.ContentEncodingScheme;
 import org.leadpony.justify.spi.ContentMimeType;
 import org.leadpony.justify.spi.FormatAttribute;
@@ -179,6 +206,30 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return new DefaultValidationConfig();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StringResultCache createStringResultCache(int capacity) {
+        return new DefaultStringResultCache(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationResultCache createValidationResultCache(int capacity) {
+        return new DefaultValidationResultCache(capacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationProfile createValidationProfile() {
+        return new DefaultValidationProfile(getJsonBuilderFactory());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -276,6 +327,154 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return createValidator(parser, schema, handler);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<Problem>> validateAll(JsonParser parser, List<JsonSchema> schemas,
+            boolean collectsProblems) {
+        return validateAll(Collections.emptyMap(), parser, schemas, collectsProblems);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<Problem>> validateAll(Map<String, ?> config, JsonParser parser, List<JsonSchema> schemas,
+            boolean collectsProblems) {
+        requireNonNull(config, "config");
+        requireNonNull(parser, "parser");
+        requireNonNull(schemas, "schemas");
+        return new MultiSchemaValidator(parser, schemas, collectsProblems, getJsonProvider())
+                .withConfig(config)
+                .validate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends JsonStructure> T applyAndValidate(JsonSchema schema, T document, JsonPatch patch,
+            ProblemHandler handler) {
+        requireNonNull(schema, "schema");
+        requireNonNull(document, "document");
+        requireNonNull(patch, "patch");
+        requireNonNull(handler, "handler");
+        T patched = patch.apply(document);
+        new PatchValidator(schema, patched, handler, getJsonProvider())
+            .withJsonPatch(patch.toJsonArray())
+            .validate();
+        return patched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonValue applyAndValidate(JsonSchema schema, JsonValue document, JsonMergePatch patch,
+            ProblemHandler handler) {
+        requireNonNull(schema, "schema");
+        requireNonNull(document, "document");
+        requireNonNull(patch, "patch");
+        requireNonNull(handler, "handler");
+        JsonValue patched = patch.apply(document);
+        new PatchValidator(schema, patched, handler, getJsonProvider())
+            .withMergePatch(patch.toJsonValue(), document)
+            .validate();
+        return patched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean validateAt(JsonParser parser, String pointer, JsonSchema schema, ProblemHandler handler) {
+        requireNonNull(parser, "parser");
+        requireNonNull(pointer, "pointer");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        return new SubtreeValidator(schema, pointer, handler, getJsonProvider()).validate(parser);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean validateAt(JsonValue value, String pointer, JsonSchema schema, ProblemHandler handler) {
+        requireNonNull(value, "value");
+        requireNonNull(pointer, "pointer");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        return new SubtreeValidator(schema, pointer, handler, getJsonProvider()).validate(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Problem> validate(byte[] document, JsonSchema schema, ValidationResultCache cache) {
+        requireNonNull(document, "document");
+        requireNonNull(schema, "schema");
+        DefaultValidationResultCache resultCache = toDefaultCache(cache);
+        long[] digest = resultCache.digest(document);
+        List<Problem> problems = resultCache.find(schema, digest);
+        if (problems == null) {
+            problems = new ArrayList<>();
+            try (JsonParser parser = createParser(new ByteArrayInputStream(document), schema, problems::addAll)) {
+                parseAll(parser);
+            }
+            problems = resultCache.put(schema, digest, problems);
+        }
+        return problems;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Problem> validate(InputStream in, JsonSchema schema, ValidationResultCache cache) {
+        requireNonNull(in, "in");
+        requireNonNull(schema, "schema");
+        DefaultValidationResultCache resultCache = toDefaultCache(cache);
+        SipHasher hasher = resultCache.newBytesHasher();
+        HashingInputStream hashingStream = new HashingInputStream(in, hasher);
+        List<Problem> problems = new ArrayList<>();
+        try (JsonParser parser = createParser(hashingStream, schema, problems::addAll)) {
+            parseAll(parser);
+            hashingStream.drain();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        return resultCache.put(schema, hasher.digest(), problems);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Problem> validate(JsonValue value, JsonSchema schema, ValidationResultCache cache) {
+        requireNonNull(value, "value");
+        requireNonNull(schema, "schema");
+        DefaultValidationResultCache resultCache = toDefaultCache(cache);
+        long[] digest = resultCache.digest(value);
+        List<Problem> problems = resultCache.find(schema, digest);
+        if (problems == null) {
+            problems = new ArrayList<>();
+            new SubtreeValidator(schema, "", problems::addAll, getJsonProvider()).validate(value);
+            problems = resultCache.put(schema, digest, problems);
+        }
+        return problems;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonPushValidator createPushValidator(JsonSchema schema) {
+        requireNonNull(schema, "schema");
+        return new DefaultJsonPushValidator(schema, getJsonProvider());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -353,14 +552,64 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return createReader(validatingParser);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config, JsonSchema schema,
+            ProblemHandlerFactory handlerFactory) {
+        requireNonNull(schema, "schema");
+        requireNonNull(handlerFactory, "handlerFactory");
+        Map<String, Object> properties = createValidationConfig()
+                .withProperties(config)
+                .withSchema(schema)
+                .withProblemHandlerFactory(handlerFactory)
+                .getAsMap();
+        return new ValidatingJsonGeneratorFactory(getJsonProvider(),
+                getJsonProvider().createGeneratorFactory(config), properties);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonGenerator createGenerator(Writer writer, JsonSchema schema, ProblemHandler handler) {
+        requireNonNull(writer, "writer");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        JsonGenerator generator = getJsonProvider().createGenerator(writer);
+        return createValidatingGenerator(generator, schema, handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonGenerator createGenerator(OutputStream out, JsonSchema schema, ProblemHandler handler) {
+        requireNonNull(out, "out");
+        requireNonNull(schema, "schema");
+        requireNonNull(handler, "handler");
+        JsonGenerator generator = getJsonProvider().createGenerator(out);
+        return createValidatingGenerator(generator, schema, handler);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public JsonProvider createJsonProvider(JsonSchema schema, ProblemHandlerFactory handlerFactory) {
+        return createJsonProvider(schema, handlerFactory, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JsonProvider createJsonProvider(JsonSchema schema, ProblemHandlerFactory handlerFactory,
+            boolean validatesOutput) {
         requireNonNull(schema, "schema");
         requireNonNull(handlerFactory, "handlerFactory");
-        return new ValidatingJsonProvider(getJsonProvider(), schema, handlerFactory);
+        return new ValidatingJsonProvider(getJsonProvider(), schema, handlerFactory, validatesOutput);
     }
 
     /**
@@ -457,6 +706,20 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return new JsonException(formatted, e);
     }
 
+    private static DefaultValidationResultCache toDefaultCache(ValidationResultCache cache) {
+        requireNonNull(cache, "cache");
+        if (!(cache instanceof DefaultValidationResultCache)) {
+            throw new IllegalArgumentException("cache must be created by the validation service");
+        }
+        return (DefaultValidationResultCache) cache;
+    }
+
+    private static void parseAll(JsonParser parser) {
+        while (parser.hasNext()) {
+            parser.next();
+        }
+    }
+
     /**
      * Creates an instance of JSON validator.
      *
@@ -471,6 +734,20 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
                 .withHandler(handler);
     }
 
+    /**
+     * Creates an instance of validating JSON generator.
+     *
+     * @param generator the real generator.
+     * @param schema    the schema.
+     * @param handler   the handler of found problems.
+     * @return newly created generator.
+     */
+    private JsonGenerator createValidatingGenerator(JsonGenerator generator, JsonSchema schema,
+            ProblemHandler handler) {
+        return new ValidatingJsonGenerator(generator, schema, getJsonProvider())
+                .withHandler(handler);
+    }
+
     private JsonReader createReader(JsonParser parser) {
         return new DefaultJsonReader(parser);
     }
@@ -478,18 +755,26 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
     /**
      * {@link JsonProvider} with validation functionality.
      *
+     * <p>
+     * The parser, reader and generator factories for the default configuration
+     * are created only once and shared by all parsers, readers and generators
+     * created by this provider.
+     * </p>
+     *
      * @author leadpony
      */
     private final class ValidatingJsonProvider extends JsonProviderDecorator {
 
         private final JsonSchema schema;
         private final ProblemHandlerFactory handlerFactory;
+        private final boolean validatesOutput;
 
         private ValidatingJsonProvider(JsonProvider realProvier, JsonSchema schema,
-                ProblemHandlerFactory handlerFactory) {
+                ProblemHandlerFactory handlerFactory, boolean validatesOutput) {
             super(realProvier);
             this.schema = schema;
             this.handlerFactory = handlerFactory;
+            this.validatesOutput = validatesOutput;
         }
 
         @Override
@@ -497,8 +782,19 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
             return DefaultJsonValidationService.this.createParserFactory(config, schema, handlerFactory);
         }
 
+        @Override
+        public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
+            if (!validatesOutput) {
+                return super.createGeneratorFactory(config);
+            }
+            return DefaultJsonValidationService.this.createGeneratorFactory(config, schema, handlerFactory);
+        }
+
         @Override
         public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+            if (config == null || config.isEmpty()) {
+                return new DefaultJsonReaderFactory(getDefaultParserFactory());
+            }
             return DefaultJsonValidationService.this.createReaderFactory(config, schema, handlerFactory);
         }
     }
@@ -21,10 +21,14 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import jakarta.json.JsonObject;
@@ -37,10 +41,14 @@ import org.leadpony.justify.api.keyword.EvaluationKeyword;
 import org.leadpony.justify.api.keyword.IdKeyword;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.evaluator.KeywordStatistics;
+import org.leadpony.justify.internal.evaluator.ProfilingEvaluatorContext;
 import org.leadpony.justify.internal.evaluator.schema.ComplexSchemaBasedEvaluator;
 import org.leadpony.justify.internal.evaluator.schema.SimpleSchemaBasedEvaluator;
+import org.leadpony.justify.internal.keyword.ScalarAssertionKeyword;
 import org.leadpony.justify.internal.keyword.core.Anchor;
 import org.leadpony.justify.internal.keyword.core.Comment;
 import org.leadpony.justify.internal.keyword.core.Schema;
@@ -328,6 +336,33 @@ public abstract class BasicJsonSchema implements JsonSchema {
         return result;
     }
 
+    /**
+     * Tests the scalar value by the keyword without creating any evaluator. If the
+     * validation is profiled, the test is recorded as an evaluator which processed
+     * a single event, and the evaluator reporting the failure is not recorded
+     * again.
+     *
+     * @param keyword the keyword to test.
+     * @param context the context providing the parser.
+     * @param schema  the schema owning the keyword.
+     * @param type    the type of the value.
+     * @return {@code null} if the value is valid, otherwise the function which
+     *         creates the evaluator reporting the problem found.
+     */
+    private static Function<Evaluator, Evaluator> testScalar(ScalarAssertionKeyword keyword,
+            EvaluatorContext context, JsonSchema schema, InstanceType type) {
+        KeywordStatistics statistics = ProfilingEvaluatorContext.statisticsOf(context, schema, keyword);
+        if (statistics == null) {
+            return keyword.test(context, type);
+        }
+        long start = System.nanoTime();
+        Function<Evaluator, Evaluator> failure = keyword.test(context, type);
+        statistics.addSample(System.nanoTime() - start);
+        statistics.countEvaluator();
+        statistics.countEvent(failure != null);
+        return failure;
+    }
+
     /**
      * JSON Schema without any evalutable keywords.
      */
@@ -366,6 +401,15 @@ public abstract class BasicJsonSchema implements JsonSchema {
         @Override
         public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             requireNonNull(type, "type");
+            if (!type.isContainer() && evaluationKeyword instanceof ScalarAssertionKeyword
+                    && evaluationKeyword.supportsType(type)) {
+                ScalarAssertionKeyword keyword = (ScalarAssertionKeyword) evaluationKeyword;
+                Function<Evaluator, Evaluator> failure = testScalar(keyword, parent.getContext(), this, type);
+                if (failure == null) {
+                    return Evaluator.ALWAYS_TRUE;
+                }
+                return SimpleSchemaBasedEvaluator.ofFailed(failure, parent, this);
+            }
             return SimpleSchemaBasedEvaluator.of(evaluationKeyword, parent, this, type);
         }
 
@@ -382,17 +426,31 @@ public abstract class BasicJsonSchema implements JsonSchema {
     static final class Many extends BasicJsonSchema {
 
         private final List<EvaluationKeyword> evaluationKeywords;
+        // Keywords supporting each instance type.
+        private final Map<InstanceType, List<EvaluationKeyword>> keywordsByType;
+        // Scalar types whose supporting keywords can be tested without evaluators.
+        private final Set<InstanceType> testableTypes;
 
         Many(JsonObject json, Map<String, Keyword> keywords, IdKeyword id, URI baseUri,
                 List<EvaluationKeyword> evaluationKeywords) {
             super(json, keywords, id, baseUri);
             this.evaluationKeywords = evaluationKeywords;
+            this.keywordsByType = classifyKeywords(evaluationKeywords);
+            this.testableTypes = findTestableTypes(keywordsByType);
         }
 
         @Override
-        public Evaluator createEvaluator(Evaluator parenet, InstanceType type) {
+        public Evaluator createEvaluator(Evaluator parent, InstanceType type) {
             requireNonNull(type, "type");
-            return ComplexSchemaBasedEvaluator.of(evaluationKeywords, parenet, this, type);
+            List<EvaluationKeyword> keywords = keywordsByType.get(type);
+            if (keywords.isEmpty()) {
+                return Evaluator.ALWAYS_TRUE;
+            } else if (testableTypes.contains(type)) {
+                return createScalarEvaluator(keywords, parent, type);
+            } else if (keywords.size() == 1) {
+                return SimpleSchemaBasedEvaluator.of(keywords.get(0), parent, this, type);
+            }
+            return ComplexSchemaBasedEvaluator.of(keywords, parent, this, type);
         }
 
         @Override
@@ -400,5 +458,60 @@ public abstract class BasicJsonSchema implements JsonSchema {
             requireNonNull(type, "type");
             return ComplexSchemaBasedEvaluator.ofNegated(evaluationKeywords, parent, this, type);
         }
+
+        /**
+         * Selects the keywords which support each instance type in advance, so that
+         * evaluators for an instance can be created without testing all keywords.
+         *
+         * @param keywords all evaluation keywords in this schema.
+         * @return the map of the instance type to the supporting keywords.
+         */
+        private static Map<InstanceType, List<EvaluationKeyword>> classifyKeywords(
+                List<EvaluationKeyword> keywords) {
+            Map<InstanceType, List<EvaluationKeyword>> map = new EnumMap<>(InstanceType.class);
+            for (InstanceType type : InstanceType.values()) {
+                List<EvaluationKeyword> supporting = new ArrayList<>();
+                for (EvaluationKeyword keyword : keywords) {
+                    if (keyword.supportsType(type)) {
+                        supporting.add(keyword);
+                    }
+                }
+                map.put(type, supporting);
+            }
+            return map;
+        }
+
+        private static Set<InstanceType> findTestableTypes(Map<InstanceType, List<EvaluationKeyword>> map) {
+            Set<InstanceType> types = EnumSet.noneOf(InstanceType.class);
+            for (Map.Entry<InstanceType, List<EvaluationKeyword>> entry : map.entrySet()) {
+                if (!entry.getKey().isContainer()
+                        && entry.getValue().stream().allMatch(k -> k instanceof ScalarAssertionKeyword)) {
+                    types.add(entry.getKey());
+                }
+            }
+            return types;
+        }
+
+        /**
+         * Creates the evaluator for a scalar value, testing each keyword only once.
+         * Evaluators are created only when they have problems to report.
+         */
+        private Evaluator createScalarEvaluator(List<EvaluationKeyword> keywords, Evaluator parent,
+                InstanceType type) {
+            EvaluatorContext context = parent.getContext();
+            final int size = keywords.size();
+            for (int i = 0; i < size; i++) {
+                ScalarAssertionKeyword keyword = (ScalarAssertionKeyword) keywords.get(i);
+                Function<Evaluator, Evaluator> failure = testScalar(keyword, context, this, type);
+                if (failure != null) {
+                    if (size == 1) {
+                        return SimpleSchemaBasedEvaluator.ofFailed(failure, parent, this);
+                    }
+                    return ComplexSchemaBasedEvaluator.ofFailed(failure,
+                            keywords.subList(i + 1, size), parent, this, type);
+                }
+            }
+            return Evaluator.ALWAYS_TRUE;
+        }
     }
 }
@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonBuilderFactory;
@@ -48,6 +47,7 @@ import org.leadpony.justify.api.keyword.IdKeyword;
 import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.internal.base.MediaType;
 import org.leadpony.justify.internal.base.json.JsonService;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
 import org.leadpony.justify.internal.keyword.UnrecognizedKeyword;
 import org.leadpony.justify.internal.keyword.applicator.AdditionalItems;
 import org.leadpony.justify.internal.keyword.applicator.AdditionalProperties;
@@ -282,7 +282,7 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
     @Override
     public JsonSchemaBuilder withPattern(String pattern) {
         requireNonNull(pattern, "pattern");
-        Pattern compiled = Pattern.compile(pattern);
+        Ecma262Regex compiled = Ecma262Regex.compile(pattern);
         addKeyword(
                 new org.leadpony.justify.internal.keyword.validation.Pattern(
                         toJson(pattern), compiled));
@@ -411,7 +411,7 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
     public JsonSchemaBuilder withPatternProperty(String pattern, JsonSchema subschema) {
         requireNonNull(pattern, "pattern");
         requireNonNull(subschema, "subschema");
-        Pattern compiled = Pattern.compile(pattern);
+        Ecma262Regex compiled = Ecma262Regex.compile(pattern);
         getBuilder("patternProperties", PatternPropertiesBuilder::new)
                 .append(compiled, subschema);
         return this;
@@ -420,9 +420,9 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
     @Override
     public JsonSchemaBuilder withPatternProperties(Map<String, JsonSchema> subschemas) {
         requireNonNull(subschemas, "subschemas");
-        Map<Pattern, JsonSchema> compiledMap = new HashMap<>();
+        Map<Ecma262Regex, JsonSchema> compiledMap = new HashMap<>();
         subschemas.forEach((pattern, subschema) -> {
-            compiledMap.put(Pattern.compile(pattern), subschema);
+            compiledMap.put(Ecma262Regex.compile(pattern), subschema);
         });
         getBuilder("patternProperties", PatternPropertiesBuilder::new)
                 .append(compiledMap);
@@ -823,14 +823,14 @@ class DefaultJsonSchemaBuilder implements JsonSchemaBuilder {
      *
      * @author leadpony
      */
-    static class PatternPropertiesBuilder extends AbstractKeywordBuilder<Pattern, JsonSchema> {
+    static class PatternPropertiesBuilder extends AbstractKeywordBuilder<Ecma262Regex, JsonSchema> {
 
         PatternPropertiesBuilder(JsonBuilderFactory factory) {
             super(factory);
         }
 
         @Override
-        void append(Pattern key, JsonSchema value) {
+        void append(Ecma262Regex key, JsonSchema value) {
             super.append(key, value);
             this.objectBuilder.add(key.toString(), value.toJson());
         }
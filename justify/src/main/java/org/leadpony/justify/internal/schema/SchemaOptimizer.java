@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.RefKeyword;
+import org.leadpony.justify.internal.keyword.OptimizableKeyword;
+
+/**
+ * An optimization pass over a schema tree, applied after the references were
+ * resolved.
+ *
+ * <p>
+ * The schemas are visited from the leaves up to the root. Each schema is
+ * classified as always true when none of its keywords can fail, and each
+ * {@link OptimizableKeyword} is given the classification of its subschemas.
+ * The schemas themselves are left untouched, so the problems keep referring to
+ * the original schema locations.
+ * </p>
+ * <p>
+ * Unlike {@link JsonSchemaWalker}, this pass does not follow the references,
+ * which may form loops, and the schemas referenced are never classified as
+ * always true.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class SchemaOptimizer {
+
+    private final Set<JsonSchema> visitedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<JsonSchema> alwaysTrueSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Optimizes the whole tree of the specified schema.
+     *
+     * @param schema the root of the schema tree.
+     */
+    public static void optimize(JsonSchema schema) {
+        new SchemaOptimizer().visitSchema(schema);
+    }
+
+    private SchemaOptimizer() {
+    }
+
+    private void visitSchema(JsonSchema schema) {
+        if (schema.isBoolean() || !visitedSchemas.add(schema)) {
+            return;
+        }
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            visitKeyword(keyword);
+        }
+        if (isAlwaysTrue(schema)) {
+            alwaysTrueSchemas.add(schema);
+        }
+    }
+
+    private void visitKeyword(Keyword keyword) {
+        if (keyword instanceof RefKeyword || !keyword.containsSchemas()) {
+            return;
+        }
+        for (JsonSchema subschema : keyword.getSchemasAsMap().values()) {
+            visitSchema(subschema);
+        }
+        if (keyword instanceof OptimizableKeyword) {
+            ((OptimizableKeyword) keyword).optimize(this::isKnownAsAlwaysTrue);
+        }
+    }
+
+    private boolean isKnownAsAlwaysTrue(JsonSchema schema) {
+        return schema == JsonSchema.TRUE || alwaysTrueSchemas.contains(schema);
+    }
+
+    private static boolean isAlwaysTrue(JsonSchema schema) {
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            if (!keyword.canEvaluate()) {
+                continue;
+            }
+            if (!(keyword instanceof OptimizableKeyword) || !((OptimizableKeyword) keyword).isAlwaysTrue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -30,6 +30,7 @@ import org.leadpony.justify.api.JsonSchemaResolver;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.ValidationMetrics;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
 
@@ -70,6 +71,12 @@ abstract class AbstractJsonSchemaReader implements JsonSchemaReader, ProblemBuil
             throw new IllegalStateException("already read.");
         }
         try {
+            if (ValidationMetrics.ENABLED) {
+                long start = System.nanoTime();
+                JsonSchema schema = readSchema();
+                ValidationMetrics.schemaRead(schema, System.nanoTime() - start);
+                return schema;
+            }
             return readSchema();
         } finally {
             alreadyRead = true;
@@ -55,6 +55,10 @@ final class DeferredJsonSchemaReference implements JsonSchemaReference {
         return referencedSchema;
     }
 
+    boolean isResolved() {
+        return referencedSchema != null;
+    }
+
     void setReferencedSchema(JsonSchema schema) {
         this.referencedSchema = schema;
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema.io;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Hash codes of the JSON values in a document, computed once from the leaves
+ * up to the root.
+ *
+ * <p>
+ * The hash code of a JSON object or array is derived from the hash codes of
+ * its members, so the whole document is scanned only once, however deeply the
+ * objects are nested. The hash codes are consistent with
+ * {@link Object#equals(Object)} of the JSON values, but may differ from their
+ * own {@link Object#hashCode()}. Only the hash codes of the JSON objects are
+ * retained.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class JsonHashCodes {
+
+    private final Map<JsonObject, Integer> objectHashCodes = new IdentityHashMap<>();
+
+    /**
+     * Returns the hash code of the specified JSON object.
+     *
+     * @param object the JSON object.
+     * @return the hash code of the JSON object.
+     */
+    int of(JsonObject object) {
+        Integer cached = objectHashCodes.get(object);
+        if (cached != null) {
+            return cached;
+        }
+        int hash = 0;
+        for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+            hash += entry.getKey().hashCode() ^ of(entry.getValue());
+        }
+        objectHashCodes.put(object, hash);
+        return hash;
+    }
+
+    private int of(JsonValue value) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            return of(value.asJsonObject());
+        case ARRAY:
+            return of(value.asJsonArray());
+        default:
+            return value.hashCode();
+        }
+    }
+
+    private int of(JsonArray array) {
+        int hash = 1;
+        for (JsonValue item : array) {
+            hash = 31 * hash + of(item);
+        }
+        return hash;
+    }
+}
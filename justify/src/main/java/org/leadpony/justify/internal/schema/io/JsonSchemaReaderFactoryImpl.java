@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -66,6 +67,8 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
     protected final SpecVersion defaultVersion;
     private final JsonSchema metaschema;
     private final Map<String, Object> config;
+    // The pools of the subschemas shared, or null if disabled.
+    private final Map<SpecVersion, SchemaPool> schemaPools;
 
     public static JsonSchemaReaderFactoryBuilder builder(
             JsonService jsonService,
@@ -82,6 +85,11 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         this.config = builder.getConfigAsMap();
         this.defaultVersion = (SpecVersion) this.config.get(JsonSchemaReader.DEFAULT_SPEC_VERSION);
         this.metaschema = (JsonSchema) this.config.get(JsonSchemaReader.METASCHEMA);
+        if (testOption(JsonSchemaReader.SCHEMA_INTERNING)) {
+            this.schemaPools = new ConcurrentHashMap<>();
+        } else {
+            this.schemaPools = null;
+        }
     }
 
     @Override
@@ -164,7 +172,12 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
         if (testOption(JsonSchemaReader.SCHEMA_VALIDATION)) {
             metaschema = getMetaschema(spec);
         }
-        return new JsonSchemaReaderImpl(realParser, jsonService, buildKeywordMap(spec), config, metaschema);
+        JsonSchemaReaderImpl reader = new JsonSchemaReaderImpl(
+                realParser, jsonService, buildKeywordMap(spec), config, metaschema);
+        if (schemaPools != null) {
+            reader.withSchemaPool(schemaPools.computeIfAbsent(spec.getVersion(), version -> new SchemaPool()));
+        }
+        return reader;
     }
 
     private static JsonException newJsonException(NoSuchFileException e, Message message, Path path) {
@@ -332,6 +345,12 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             return this;
         }
 
+        @Override
+        public JsonSchemaReaderFactoryBuilder withSchemaInterning(boolean enabled) {
+            getProperties().put(JsonSchemaReader.SCHEMA_INTERNING, enabled);
+            return this;
+        }
+
         private Map<String, Object> getProperties() {
             if (this.properties == null) {
                 this.properties = createDefaultProperties();
@@ -41,6 +41,7 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader implements Pr
     private final Map<String, KeywordType> keywordTypeMap;
 
     private URI initialBaseUri = DEFAULT_INITIAL_BASE_URI;
+    private SchemaPool schemaPool;
 
     public JsonSchemaReaderImpl(
             JsonParser parser,
@@ -76,6 +77,17 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader implements Pr
         }
     }
 
+    /**
+     * Specifies the pool of the subschemas to be shared with other readers.
+     *
+     * @param schemaPool the pool of the subschemas.
+     * @return this reader.
+     */
+    JsonSchemaReaderImpl withSchemaPool(SchemaPool schemaPool) {
+        this.schemaPool = schemaPool;
+        return this;
+    }
+
     /* As a AbstractSchemaReader */
 
     @Override
@@ -114,7 +126,8 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader implements Pr
                 this.keywordTypeMap,
                 getResolvers(),
                 this::addProblem,
-                getConfig()
+                getConfig(),
+                this.schemaPool
                 );
 
         return schemaParser.parseRoot(jsonValue, initialBaseUri);
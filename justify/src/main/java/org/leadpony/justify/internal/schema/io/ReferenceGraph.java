@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema.io;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.ApplicatorKeyword;
+import org.leadpony.justify.api.keyword.JsonSchemaReference;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.RefKeyword;
+
+/**
+ * A graph of the schemas connected by in-place applicators, including direct
+ * references.
+ * <p>
+ * The strongly connected components of the graph are found by Tarjan's
+ * algorithm, visiting each schema only once. A schema in a component which has
+ * a cycle would be applied again to the same instance without consuming any
+ * input, that is, the evaluation of the schema never terminates.
+ * </p>
+ * <p>
+ * The graph answers only whether a schema leads to such a loop. It is not used
+ * by {@link org.leadpony.justify.internal.schema.SchemaOptimizer}, which
+ * neither inlines references nor classifies referenced schemas, and it has no
+ * edges for the applicators consuming input, e.g. "properties" or "items", so
+ * it cannot tell the reachability or recursion of schemas through them.
+ * </p>
+ *
+ * @author leadpony
+ */
+class ReferenceGraph {
+
+    private final Map<JsonSchema, Node> nodes = new IdentityHashMap<>();
+    private final Deque<Node> componentStack = new ArrayDeque<>();
+    private int nextIndex;
+
+    /**
+     * Adds the specified schema and all schemas reachable from it to this graph.
+     *
+     * @param schema the schema to add.
+     */
+    void addSchema(JsonSchema schema) {
+        if (nodes.containsKey(schema)) {
+            return;
+        }
+        Deque<Node> path = new ArrayDeque<>();
+        path.push(createNode(schema));
+        while (!path.isEmpty()) {
+            Node node = path.peek();
+            if (node.hasNextSuccessor()) {
+                JsonSchema next = node.nextSuccessor();
+                Node successor = nodes.get(next);
+                if (successor == null) {
+                    path.push(createNode(next));
+                } else if (successor.onStack) {
+                    node.lowLink = Math.min(node.lowLink, successor.index);
+                }
+            } else {
+                path.pop();
+                Node caller = path.peek();
+                if (caller != null) {
+                    caller.lowLink = Math.min(caller.lowLink, node.lowLink);
+                }
+                if (node.lowLink == node.index) {
+                    closeComponent(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a cycle of in-place applicators is reachable from the specified
+     * schema.
+     *
+     * @param schema the schema added to this graph.
+     * @return {@code true} if a cycle is reachable from the schema.
+     */
+    boolean leadsToLoop(JsonSchema schema) {
+        return nodes.get(schema).component.leadsToLoop;
+    }
+
+    private Node createNode(JsonSchema schema) {
+        Node node = new Node(findSuccessors(schema), nextIndex++);
+        nodes.put(schema, node);
+        componentStack.push(node);
+        node.onStack = true;
+        return node;
+    }
+
+    /**
+     * Pops all members of the component whose root is the specified node. As the
+     * components are closed in reverse topological order, all the components
+     * reachable from the new one are already closed.
+     *
+     * @param root the root of the component.
+     */
+    private void closeComponent(Node root) {
+        Component component = new Component();
+        List<Node> members = new ArrayList<>();
+        Node member;
+        do {
+            member = componentStack.pop();
+            member.onStack = false;
+            member.component = component;
+            members.add(member);
+        } while (member != root);
+
+        boolean cyclic = members.size() > 1;
+        boolean leadsToLoop = false;
+        for (Node node : members) {
+            for (JsonSchema successor : node.successors) {
+                Component other = nodes.get(successor).component;
+                if (other == component) {
+                    cyclic = true;
+                } else if (other.leadsToLoop) {
+                    leadsToLoop = true;
+                }
+            }
+        }
+        component.leadsToLoop = cyclic || leadsToLoop;
+    }
+
+    private static List<JsonSchema> findSuccessors(JsonSchema schema) {
+        List<JsonSchema> successors = new ArrayList<>();
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            if (keyword instanceof RefKeyword) {
+                RefKeyword ref = (RefKeyword) keyword;
+                if (ref.isDirect() && isResolved(ref.getSchemaReference())) {
+                    successors.add(ref.getTargetSchema());
+                }
+            } else if (keyword instanceof ApplicatorKeyword && ((ApplicatorKeyword) keyword).isInPlace()) {
+                keyword.getSchemasAsStream().forEach(successors::add);
+            }
+        }
+        return successors;
+    }
+
+    private static boolean isResolved(JsonSchemaReference reference) {
+        if (reference instanceof DeferredJsonSchemaReference) {
+            return ((DeferredJsonSchemaReference) reference).isResolved();
+        }
+        return true;
+    }
+
+    /**
+     * A node of the graph, which represents a schema.
+     *
+     * @author leadpony
+     */
+    private static final class Node {
+
+        private final List<JsonSchema> successors;
+        private final int index;
+        private int lowLink;
+        private boolean onStack;
+        private int nextSuccessorIndex;
+        private Component component;
+
+        private Node(List<JsonSchema> successors, int index) {
+            this.successors = successors;
+            this.index = index;
+            this.lowLink = index;
+        }
+
+        private boolean hasNextSuccessor() {
+            return nextSuccessorIndex < successors.size();
+        }
+
+        private JsonSchema nextSuccessor() {
+            return successors.get(nextSuccessorIndex++);
+        }
+    }
+
+    /**
+     * A strongly connected component of the graph.
+     *
+     * @author leadpony
+     */
+    private static final class Component {
+
+        private boolean leadsToLoop;
+    }
+}
@@ -38,11 +38,13 @@ import org.leadpony.justify.api.keyword.Keyword;
 import org.leadpony.justify.api.keyword.KeywordType;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.URIs;
+import org.leadpony.justify.internal.base.ValidationMetrics;
 import org.leadpony.justify.internal.base.json.JsonPointers;
 import org.leadpony.justify.internal.keyword.UnrecognizedKeyword;
 import org.leadpony.justify.internal.keyword.format.InvalidFormatException;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.internal.schema.BasicJsonSchema;
+import org.leadpony.justify.internal.schema.SchemaOptimizer;
 
 import jakarta.json.JsonException;
 import jakarta.json.JsonObject;
@@ -68,6 +70,11 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     private final KeywordType idKeywordType;
     private final String idKeywordName;
 
+    // The pool of the subschemas to share, or null if disabled.
+    private final SchemaPool schemaPool;
+    // The hash codes of the subschemas to share, or null if disabled.
+    private final JsonHashCodes hashCodes;
+
     private Scope currentScope;
 
     private final Map<URI, JsonSchema> identifiedSchemas = new HashMap<>();
@@ -78,7 +85,8 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
             Map<String, KeywordType> keywordTypeMap,
             List<JsonSchemaResolver> resolvers,
             ProblemDispatcher dispatcher,
-            Map<String, Object> config
+            Map<String, Object> config,
+            SchemaPool schemaPool
             ) {
 
         this.keywordTypeMap = keywordTypeMap;
@@ -90,6 +98,8 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
 
         this.idKeywordType = selectIdKeywordType(keywordTypeMap);
         this.idKeywordName = this.idKeywordType.name();
+        this.schemaPool = schemaPool;
+        this.hashCodes = (schemaPool != null) ? new JsonHashCodes() : null;
     }
 
     /**
@@ -105,6 +115,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
             addRootSchemaAsIdentified(baseUri, schema);
             resolveAllReferences();
             checkInfiniteRecursiveLoop();
+            SchemaOptimizer.optimize(schema);
         }
         return schema;
     }
@@ -159,17 +170,38 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
             return JsonSchema.EMPTY;
         }
 
+        int hash = 0;
+        if (schemaPool != null) {
+            hash = hashCodes.of(object);
+            JsonSchema shared = schemaPool.find(object, hash);
+            if (shared != null) {
+                return shared;
+            }
+        }
+
         Scope scope = beginScope(object, baseUri, jsonPointer);
         parseObjectInScope(object, scope);
         endScope();
 
-        return identifySchema(baseUri, scope.buildSchema(object));
+        JsonSchema schema = scope.buildSchema(object);
+        if (schemaPool != null) {
+            if (scope.isShareable() && !schema.getAnchor().isPresent()) {
+                schema = schemaPool.intern(object, hash, schema);
+            } else if (this.currentScope != null) {
+                this.currentScope.markUnshareable();
+            }
+        }
+
+        return identifySchema(baseUri, schema);
     }
 
     private void parseObjectInScope(JsonObject object, Scope scope) {
         final URI baseUri = scope.getBaseUri();
         for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
             String name = entry.getKey();
+            if (!isShareableKeyword(name)) {
+                scope.markUnshareable();
+            }
             if (name.equals(this.idKeywordName)) {
                 continue;
             }
@@ -229,7 +261,20 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
         }
     }
 
+    /**
+     * Checks whether the schema containing the specified keyword can be shared
+     * with other schemas or not. The keywords such as identifiers, anchors and
+     * references depend on the document in which they appear.
+     */
+    private boolean isShareableKeyword(String name) {
+        if (name.equals(this.idKeywordName)) {
+            return false;
+        }
+        return !name.startsWith("$") || name.equals("$comment");
+    }
+
     private Keyword createUnrecognizedKeyword(String name, JsonValue value) {
+        this.currentScope.markUnshareable();
         if (this.strictWithKeywords) {
             reportUnknownKeyword(name);
         }
@@ -285,6 +330,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     }
 
     private JsonSchemaReference createSchemaReference(URI targetId) {
+        this.currentScope.markUnshareable();
         DeferredJsonSchemaReference reference = new DeferredJsonSchemaReference(
                 getCurrentBaseUri(), targetId, getCurrentKeywordPointer());
         this.references.add(reference);
@@ -294,7 +340,15 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     private void resolveAllReferences() {
         while (!this.references.isEmpty()) {
             DeferredJsonSchemaReference reference = this.references.removeFirst();
-            JsonSchema schema = resolveReference(reference);
+            JsonSchema schema;
+            if (ValidationMetrics.ENABLED) {
+                long start = System.nanoTime();
+                schema = resolveReference(reference);
+                ValidationMetrics.referenceResolved(reference.getResolvedTargetId(),
+                        schema != null, System.nanoTime() - start);
+            } else {
+                schema = resolveReference(reference);
+            }
             if (schema != null) {
                 reference.setReferencedSchema(schema);
                 this.resolvedReferences.add(reference);
@@ -354,9 +408,11 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
     }
 
     private void checkInfiniteRecursiveLoop() {
-        InfiniteLoopDetector detector = new InfiniteLoopDetector();
+        ReferenceGraph graph = new ReferenceGraph();
         for (DeferredJsonSchemaReference ref: this.resolvedReferences) {
-            if (detector.detectInfiniteLoop(ref)) {
+            JsonSchema target = ref.getTargetSchema();
+            graph.addSchema(target);
+            if (graph.leadsToLoop(target)) {
                 reportInfiniteLoop(ref);
             }
         }
@@ -415,6 +471,7 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
         private final IdKeyword id;
 
         private String currentKeyword;
+        private boolean shareable = true;
 
         Scope(Scope parent, URI baseUri, String jsonPointer) {
             this.parent = parent;
@@ -456,6 +513,14 @@ class RootJsonSchemaParser extends AbstractSubschemaParser {
             this.currentKeyword = keyword;
         }
 
+        boolean isShareable() {
+            return shareable;
+        }
+
+        void markUnshareable() {
+            this.shareable = false;
+        }
+
         void addKeyword(Keyword keyword) {
             this.keywords.put(keyword.name(), keyword);
         }
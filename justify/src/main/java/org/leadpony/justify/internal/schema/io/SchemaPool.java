@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema.io;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.JsonObject;
+
+import org.leadpony.justify.api.JsonSchema;
+
+/**
+ * A pool of the subschemas shared by the schema readers.
+ *
+ * <p>
+ * Each subschema is looked up by the hash code of its original JSON object,
+ * which is given by the caller as computed by {@link JsonHashCodes}. The JSON
+ * objects are compared only when the hash codes are equal. The subschemas are
+ * weakly referenced, so the entry is released once the subschema becomes
+ * unreachable from any schema.
+ * </p>
+ * <p>
+ * This type is safe for use by multiple concurrent threads.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class SchemaPool {
+
+    private final Map<Integer, List<Entry>> buckets = new HashMap<>();
+    private final ReferenceQueue<JsonSchema> staleEntries = new ReferenceQueue<>();
+
+    /**
+     * Finds the subschema equal to the specified JSON object.
+     *
+     * @param json the JSON object of the subschema.
+     * @param hash the hash code of the JSON object.
+     * @return the subschema found, or {@code null} if not found.
+     */
+    synchronized JsonSchema find(JsonObject json, int hash) {
+        expungeStaleEntries();
+        List<Entry> bucket = buckets.get(hash);
+        if (bucket != null) {
+            for (Entry entry : bucket) {
+                JsonSchema schema = entry.get();
+                if (schema != null && schema.toJson().equals(json)) {
+                    return schema;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the specified subschema to this pool if no equal one exists.
+     *
+     * @param json   the JSON object of the subschema.
+     * @param hash   the hash code of the JSON object.
+     * @param schema the subschema built from the JSON object.
+     * @return the subschema in this pool, which may be the specified one.
+     */
+    synchronized JsonSchema intern(JsonObject json, int hash, JsonSchema schema) {
+        JsonSchema existing = find(json, hash);
+        if (existing != null) {
+            return existing;
+        }
+        buckets.computeIfAbsent(hash, k -> new ArrayList<>(1)).add(new Entry(schema, hash, staleEntries));
+        return schema;
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends JsonSchema> ref;
+        while ((ref = staleEntries.poll()) != null) {
+            Entry entry = (Entry) ref;
+            List<Entry> bucket = buckets.get(entry.hash);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(entry.hash);
+                }
+            }
+        }
+    }
+
+    /**
+     * An entry in the pool.
+     */
+    private static final class Entry extends WeakReference<JsonSchema> {
+
+        private final int hash;
+
+        Entry(JsonSchema schema, int hash, ReferenceQueue<JsonSchema> queue) {
+            super(schema, queue);
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.JsonPushValidator;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.internal.base.json.JsonTokenizer;
+
+/**
+ * The default implementation of {@link JsonPushValidator}.
+ *
+ * <p>
+ * The events found by the incremental tokenizer are fed to the evaluators one
+ * by one, so nothing but the current token is retained by this validator.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class DefaultJsonPushValidator implements JsonPushValidator {
+
+    private final JsonTokenizer tokenizer = new JsonTokenizer();
+    private final GeneratedEventParser eventParser;
+    private final JsonValidator validator;
+    private final List<Problem> problems = new ArrayList<>();
+    private boolean completed;
+
+    /**
+     * Constructs this validator.
+     *
+     * @param rootSchema   the root JSON schema to be evaluated during validation.
+     * @param jsonProvider the JSON provider.
+     */
+    public DefaultJsonPushValidator(JsonSchema rootSchema, JsonProvider jsonProvider) {
+        this.eventParser = new GeneratedEventParser(jsonProvider, tokenizer::getLocation);
+        this.validator = new JsonValidator(eventParser, rootSchema, jsonProvider)
+                .withHandler(problems::addAll);
+    }
+
+    /**
+     * Assigns a cache of the results tested against string values.
+     *
+     * @param stringResultCache the cache to be assigned, can be {@code null}.
+     * @return this validator.
+     */
+    public DefaultJsonPushValidator withStringResultCache(DefaultStringResultCache stringResultCache) {
+        validator.withStringResultCache(stringResultCache);
+        return this;
+    }
+
+    @Override
+    public void push(ByteBuffer chunk) {
+        requireNonNull(chunk, "chunk");
+        if (completed) {
+            throw new IllegalStateException();
+        }
+        tokenizer.feed(chunk);
+        drain();
+    }
+
+    @Override
+    public List<Problem> complete() {
+        if (completed) {
+            throw new IllegalStateException();
+        }
+        completed = true;
+        tokenizer.end();
+        drain();
+        return Collections.unmodifiableList(problems);
+    }
+
+    private void drain() {
+        Event event;
+        while ((event = tokenizer.nextEvent()) != null) {
+            switch (event) {
+            case KEY_NAME:
+            case VALUE_STRING:
+                eventParser.pushString(event, tokenizer.getString());
+                break;
+            case VALUE_NUMBER:
+                eventParser.pushNumber(tokenizer.getBigDecimal());
+                break;
+            default:
+                eventParser.push(event);
+                break;
+            }
+            validator.next();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.StringResultCache;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * The default implementation of {@link StringResultCache}.
+ *
+ * <p>
+ * Each keyword has its own direct-mapped table indexed by the hash code of the
+ * string. Entries are immutable and may be overwritten by other threads
+ * without any locks.
+ * </p>
+ *
+ * <p>
+ * The keywords are weakly referenced, so the tables of the schemas no longer
+ * used are discarded together with their statistics.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class DefaultStringResultCache implements StringResultCache {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // Reusable keys looking up the tables without allocation.
+    private static final ThreadLocal<KeywordProbe> PROBES = ThreadLocal.withInitial(KeywordProbe::new);
+
+    private final int capacity;
+    private final ConcurrentMap<KeywordReference, Table> tables = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Keyword> staleKeywords = new ReferenceQueue<>();
+
+    /**
+     * Constructs this cache.
+     *
+     * @param capacity the maximum number of entries per keyword.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive.
+     */
+    public DefaultStringResultCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = (capacity >= MAX_CAPACITY) ? MAX_CAPACITY : roundUpToPowerOfTwo(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public long getHitCount() {
+        expungeStaleTables();
+        long total = 0;
+        for (Table table : tables.values()) {
+            total += table.hits.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getMissCount() {
+        expungeStaleTables();
+        long total = 0;
+        for (Table table : tables.values()) {
+            total += table.misses.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public double getHitRatio() {
+        return ratio(getHitCount(), getMissCount());
+    }
+
+    @Override
+    public Map<String, Double> getHitRatios() {
+        expungeStaleTables();
+        Map<String, long[]> counts = new TreeMap<>();
+        for (Table table : tables.values()) {
+            long[] pair = counts.computeIfAbsent(table.name, k -> new long[2]);
+            pair[0] += table.hits.sum();
+            pair[1] += table.misses.sum();
+        }
+        Map<String, Double> ratios = new TreeMap<>();
+        counts.forEach((name, pair) -> ratios.put(name, ratio(pair[0], pair[1])));
+        return ratios;
+    }
+
+    @Override
+    public void clear() {
+        tables.clear();
+    }
+
+    /**
+     * Tests the string value with the predicate of the keyword.
+     *
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param predicate the predicate to be called if the result is not cached.
+     * @return the result of the test.
+     */
+    public boolean test(Keyword keyword, String value, Predicate<String> predicate) {
+        return findTable(keyword).test(value, predicate, DefaultStringResultCache::testWithPredicate);
+    }
+
+    /**
+     * Tests the string value with the predicate of the keyword which requires
+     * the evaluator context.
+     *
+     * @param keyword   the keyword owning the predicate.
+     * @param value     the string value to test.
+     * @param context   the evaluator context to be passed to the predicate.
+     * @param predicate the predicate to be called if the result is not cached.
+     * @return the result of the test.
+     */
+    public boolean test(Keyword keyword, String value, EvaluatorContext context,
+            BiPredicate<String, EvaluatorContext> predicate) {
+        return findTable(keyword).test(value, context, predicate);
+    }
+
+    private Table findTable(Keyword keyword) {
+        KeywordProbe probe = PROBES.get();
+        Table table = tables.get(probe.with(keyword));
+        // The probe must not keep the keyword reachable.
+        probe.clear();
+        if (table == null) {
+            expungeStaleTables();
+            table = tables.computeIfAbsent(new KeywordReference(keyword, staleKeywords),
+                    k -> new Table(keyword.name(), capacity));
+        }
+        return table;
+    }
+
+    private void expungeStaleTables() {
+        Reference<? extends Keyword> reference;
+        while ((reference = staleKeywords.poll()) != null) {
+            tables.remove(reference);
+        }
+    }
+
+    private static boolean testWithPredicate(String value, Predicate<String> predicate) {
+        return predicate.test(value);
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        int highest = Integer.highestOneBit(value);
+        return (highest == value) ? value : highest << 1;
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return (total == 0) ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Direct-mapped table for a keyword.
+     *
+     * @author leadpony
+     */
+    private static final class Table {
+
+        final String name;
+        private final Entry[] entries;
+        private final int mask;
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+
+        Table(String name, int capacity) {
+            this.name = name;
+            this.entries = new Entry[capacity];
+            this.mask = capacity - 1;
+        }
+
+        <T> boolean test(String value, T argument, BiPredicate<String, T> predicate) {
+            int hash = value.hashCode();
+            int index = (hash ^ (hash >>> 16)) & mask;
+            Entry entry = entries[index];
+            if (entry != null && entry.value.equals(value)) {
+                hits.increment();
+                return entry.result;
+            }
+            misses.increment();
+            boolean result = predicate.test(value, argument);
+            // Entries are safely published through their final fields.
+            entries[index] = new Entry(value, result);
+            return result;
+        }
+    }
+
+    /**
+     * Weak reference to a keyword, compared by the identity of the keyword.
+     *
+     * @author leadpony
+     */
+    private static final class KeywordReference extends WeakReference<Keyword> {
+
+        private final int hash;
+
+        KeywordReference(Keyword keyword, ReferenceQueue<Keyword> queue) {
+            super(keyword, queue);
+            this.hash = System.identityHashCode(keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            Keyword keyword = get();
+            if (keyword == null) {
+                return false;
+            } else if (obj instanceof KeywordReference) {
+                return keyword == ((KeywordReference) obj).get();
+            } else if (obj instanceof KeywordProbe) {
+                return keyword == ((KeywordProbe) obj).keyword;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Mutable key used to look up the table of a keyword, which is equal to the
+     * {@link KeywordReference} of the same keyword. Each thread reuses its own
+     * instance.
+     *
+     * @author leadpony
+     */
+    private static final class KeywordProbe {
+
+        private Keyword keyword;
+        private int hash;
+
+        KeywordProbe with(Keyword keyword) {
+            this.keyword = keyword;
+            this.hash = System.identityHashCode(keyword);
+            return this;
+        }
+
+        void clear() {
+            this.keyword = null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof KeywordReference)) {
+                return false;
+            }
+            return keyword != null && keyword == ((KeywordReference) obj).get();
+        }
+    }
+
+    /**
+     * Immutable entry of the table.
+     *
+     * @author leadpony
+     */
+    private static final class Entry {
+
+        final String value;
+        final boolean result;
+
+        Entry(String value, boolean result) {
+            this.value = value;
+            this.result = result;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import java.util.Optional;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.ProblemHandlerFactory;
+import org.leadpony.justify.api.StringResultCache;
 import org.leadpony.justify.api.ValidationConfig;
+import org.leadpony.justify.api.ValidationProfile;
 
 /**
  * The default implementation of {@link ValidationConfig}.
@@ -86,4 +88,35 @@ public class DefaultValidationConfig extends HashMap<String, Object>
     public ValidationConfig withDefaultValues(boolean usingDefaultValues) {
         return setProperty(DEFAULT_VALUES, usingDefaultValues);
     }
+
+    @Override
+    public ValidationConfig withStringResultCache(StringResultCache cache) {
+        requireNonNull(cache, "cache");
+        if (!(cache instanceof DefaultStringResultCache)) {
+            throw new IllegalArgumentException("cache must be created by the validation service");
+        }
+        return setProperty(STRING_RESULT_CACHE, cache);
+    }
+
+    @Override
+    public ValidationConfig withBuiltinTokenizer(boolean usingBuiltinTokenizer) {
+        return setProperty(BUILTIN_TOKENIZER, usingBuiltinTokenizer);
+    }
+
+    @Override
+    public ValidationConfig withValidationProfile(ValidationProfile profile) {
+        requireNonNull(profile, "profile");
+        if (!(profile instanceof DefaultValidationProfile)) {
+            throw new IllegalArgumentException("profile must be created by the validation service");
+        }
+        return setProperty(VALIDATION_PROFILE, profile);
+    }
+
+    @Override
+    public ValidationConfig withRegexStepLimit(long stepsPerChar) {
+        if (stepsPerChar <= 0) {
+            throw new IllegalArgumentException("stepsPerChar must be positive");
+        }
+        return setProperty(REGEX_STEP_LIMIT, stepsPerChar);
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ValidationProfile;
+import org.leadpony.justify.internal.evaluator.KeywordStatistics;
+
+/**
+ * The default implementation of {@link ValidationProfile}.
+ *
+ * <p>
+ * The statistics are kept per root schema, schema instance and keyword name,
+ * so that a subschema shared by multiple root schemas is profiled separately
+ * for each of them. The JSON pointers of the schemas are resolved against the
+ * root schemas only when the profile is converted into JSON.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class DefaultValidationProfile implements ValidationProfile {
+
+    /**
+     * The location of the schemas not found in any root schema.
+     */
+    static final String UNKNOWN_LOCATION = "?";
+
+    private final JsonBuilderFactory builderFactory;
+    private final ConcurrentMap<JsonSchema, RootStatistics> roots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Constructs this profile.
+     *
+     * @param builderFactory the factory of JSON builders.
+     */
+    public DefaultValidationProfile(JsonBuilderFactory builderFactory) {
+        this.builderFactory = builderFactory;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        List<RootStatistics> sorted = new ArrayList<>(roots.values());
+        sorted.sort(Comparator.comparingInt(root -> root.index));
+        JsonObjectBuilder builder = builderFactory.createObjectBuilder();
+        Set<String> names = new HashSet<>();
+        for (RootStatistics root : sorted) {
+            String name = root.name();
+            if (!names.add(name)) {
+                name = String.valueOf(root.index);
+                names.add(name);
+            }
+            builder.add(name, root.toJson());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void clear() {
+        roots.clear();
+        nextIndex.set(0);
+    }
+
+    /**
+     * Returns the statistics for the keyword of the schema.
+     *
+     * @param root    the root schema of the validation.
+     * @param schema  the schema owning the keyword.
+     * @param keyword the name of the keyword.
+     * @return the statistics, never be {@code null}.
+     */
+    KeywordStatistics getStatistics(JsonSchema root, JsonSchema schema, String keyword) {
+        return roots
+                .computeIfAbsent(root, r -> new RootStatistics(r, nextIndex.getAndIncrement()))
+                .getStatistics(schema, keyword);
+    }
+
+    /**
+     * The statistics of the validations against a root schema.
+     */
+    private final class RootStatistics {
+
+        private final JsonSchema root;
+        // The order in which the root schema was first profiled.
+        private final int index;
+        private final ConcurrentMap<JsonSchema, ConcurrentMap<String, KeywordStatistics>> statistics =
+                new ConcurrentHashMap<>();
+
+        RootStatistics(JsonSchema root, int index) {
+            this.root = root;
+            this.index = index;
+        }
+
+        KeywordStatistics getStatistics(JsonSchema schema, String keyword) {
+            return statistics
+                    .computeIfAbsent(schema, s -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(keyword, k -> new KeywordStatistics());
+        }
+
+        /**
+         * Returns the name of the root schema in the profile, which is the
+         * absolute identifier of the schema if it has, or the index otherwise.
+         *
+         * @return the name of the root schema.
+         */
+        String name() {
+            if (root.hasAbsoluteId()) {
+                return root.id().toString();
+            }
+            return String.valueOf(index);
+        }
+
+        JsonObject toJson() {
+            Map<JsonSchema, String> locations = new IdentityHashMap<>();
+            root.collectSchemas().forEach((pointer, schema) -> locations.putIfAbsent(schema, pointer));
+            Map<String, Map<String, long[]>> merged = new TreeMap<>();
+            statistics.forEach((schema, map) -> {
+                String location = locations.getOrDefault(schema, locationOf(schema));
+                Map<String, long[]> keywords = merged.computeIfAbsent(location, k -> new TreeMap<>());
+                map.forEach((keyword, s) -> {
+                    long[] values = keywords.computeIfAbsent(keyword, k -> new long[5]);
+                    values[0] += s.getEvaluators();
+                    values[1] += s.getEvents();
+                    values[2] += s.getFailures();
+                    values[3] += s.getSampledEvents();
+                    values[4] += s.getSampledNanos();
+                });
+            });
+
+            JsonObjectBuilder builder = builderFactory.createObjectBuilder();
+            merged.forEach((location, keywords) -> {
+                JsonObjectBuilder keywordsBuilder = builderFactory.createObjectBuilder();
+                keywords.forEach((keyword, values) -> {
+                    keywordsBuilder.add(keyword, builderFactory.createObjectBuilder()
+                            .add("evaluators", values[0])
+                            .add("events", values[1])
+                            .add("failures", values[2])
+                            .add("sampledEvents", values[3])
+                            .add("sampledNanos", values[4]));
+                });
+                builder.add(location, keywordsBuilder);
+            });
+            return builder.build();
+        }
+    }
+
+    private static String locationOf(JsonSchema schema) {
+        if (schema.hasAbsoluteId()) {
+            return schema.id().toString();
+        }
+        return UNKNOWN_LOCATION;
+    }
+}
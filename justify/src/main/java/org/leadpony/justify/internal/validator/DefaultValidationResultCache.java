@@ -0,0 +1,261 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ValidationResultCache;
+import org.leadpony.justify.internal.base.SipHasher;
+
+/**
+ * The default implementation of {@link ValidationResultCache}.
+ *
+ * <p>
+ * The results are kept in a map in access order, which is guarded by this
+ * cache. The documents are digested by SipHash with a key generated randomly
+ * for each cache. The digests of bytes and of JSON values are prefixed by
+ * different markers and never collide with each other by construction.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class DefaultValidationResultCache implements ValidationResultCache {
+
+    private static final int BYTES_MARKER = 'B';
+    private static final int VALUE_MARKER = 'V';
+
+    private final int capacity;
+    private final long k0;
+    private final long k1;
+    private final Map<Key, List<Problem>> results;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs this cache.
+     *
+     * @param capacity the maximum number of results.
+     * @throws IllegalArgumentException if the specified {@code capacity} is not
+     *                                  positive.
+     */
+    public DefaultValidationResultCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        SecureRandom random = new SecureRandom();
+        this.k0 = random.nextLong();
+        this.k1 = random.nextLong();
+        this.results = new LinkedHashMap<Key, List<Problem>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Problem>> eldest) {
+                return size() > DefaultValidationResultCache.this.capacity;
+            }
+        };
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized int size() {
+        return results.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return (total == 0) ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public synchronized void clear() {
+        results.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Creates a hasher which will digest the bytes of a document.
+     *
+     * @return newly created hasher.
+     */
+    public SipHasher newBytesHasher() {
+        return new SipHasher(k0, k1).update(BYTES_MARKER);
+    }
+
+    /**
+     * Digests the bytes of a document.
+     *
+     * @param bytes the bytes of the document.
+     * @return the digest of the document.
+     */
+    public long[] digest(byte[] bytes) {
+        return newBytesHasher().update(bytes, 0, bytes.length).digest();
+    }
+
+    /**
+     * Digests the canonical form of a JSON value. The properties of the objects
+     * are digested in the order of their names.
+     *
+     * @param value the JSON value.
+     * @return the digest of the value.
+     */
+    public long[] digest(JsonValue value) {
+        SipHasher hasher = new SipHasher(k0, k1).update(VALUE_MARKER);
+        digestValue(value, hasher);
+        return hasher.digest();
+    }
+
+    /**
+     * Finds the result cached for the document.
+     *
+     * @param schema the schema against which the document is validated.
+     * @param digest the digest of the document.
+     * @return the problems found in the document, or {@code null} if the result
+     *         is not cached.
+     */
+    public List<Problem> find(JsonSchema schema, long[] digest) {
+        List<Problem> problems;
+        synchronized (this) {
+            problems = results.get(new Key(schema, digest));
+        }
+        if (problems != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return problems;
+    }
+
+    /**
+     * Adds the result of validating the document.
+     *
+     * @param schema   the schema against which the document was validated.
+     * @param digest   the digest of the document.
+     * @param problems the problems found in the document.
+     * @return the problems added, which cannot be modified.
+     */
+    public List<Problem> put(JsonSchema schema, long[] digest, List<Problem> problems) {
+        List<Problem> copy = problems.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(problems));
+        synchronized (this) {
+            results.put(new Key(schema, digest), copy);
+        }
+        return copy;
+    }
+
+    private static void digestValue(JsonValue value, SipHasher hasher) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            JsonObject object = value.asJsonObject();
+            List<String> names = new ArrayList<>(object.keySet());
+            Collections.sort(names);
+            hasher.update('{').updateInt(names.size());
+            for (String name : names) {
+                hasher.update(name);
+                digestValue(object.get(name), hasher);
+            }
+            break;
+        case ARRAY:
+            JsonArray array = value.asJsonArray();
+            hasher.update('[').updateInt(array.size());
+            for (JsonValue item : array) {
+                digestValue(item, hasher);
+            }
+            break;
+        case STRING:
+            hasher.update('"').update(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            hasher.update('#').update(value.toString());
+            break;
+        case TRUE:
+            hasher.update('t');
+            break;
+        case FALSE:
+            hasher.update('f');
+            break;
+        default:
+            hasher.update('n');
+            break;
+        }
+    }
+
+    /**
+     * A key of the cached result, which refers to the schema by its identity.
+     *
+     * @author leadpony
+     */
+    private static final class Key {
+
+        private final JsonSchema schema;
+        private final long h0;
+        private final long h1;
+
+        Key(JsonSchema schema, long[] digest) {
+            this.schema = schema;
+            this.h0 = digest[0];
+            this.h1 = digest[1];
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema) * 31 + Long.hashCode(h0);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return schema == other.schema && h0 == other.h0 && h1 == other.h1;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
+import org.leadpony.justify.internal.evaluator.KeywordStatistics;
+import org.leadpony.justify.internal.evaluator.ProfilingEvaluatorContext;
+import org.leadpony.justify.internal.evaluator.RegexEvaluatorContext;
+
+/**
+ * A JSON validator of a document embedded in a value of another document.
+ *
+ * <p>
+ * The string result cache, the validation profile and the step limit of
+ * regular expressions are shared with the context validating the enclosing
+ * document.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class EnclosedJsonValidator extends JsonValidator {
+
+    private final EvaluatorContext enclosingContext;
+
+    /**
+     * Constructs this parser.
+     *
+     * @param realParser       the underlying JSON parser.
+     * @param rootSchema       the root JSON schema to be evaluated during
+     *                         validation.
+     * @param jsonProvider     the JSON provider.
+     * @param enclosingContext the context validating the enclosing document.
+     */
+    public EnclosedJsonValidator(JsonParser realParser, JsonSchema rootSchema, JsonProvider jsonProvider,
+            EvaluatorContext enclosingContext) {
+        super(realParser, rootSchema, jsonProvider);
+        this.enclosingContext = enclosingContext;
+    }
+
+    @Override
+    public boolean testString(Keyword keyword, String value, Predicate<String> predicate) {
+        return CachingEvaluatorContext.testString(enclosingContext, keyword, value, predicate);
+    }
+
+    @Override
+    public boolean testString(Keyword keyword, String value, BiPredicate<String, EvaluatorContext> predicate) {
+        // The predicate is called with this context rather than the enclosing one.
+        return CachingEvaluatorContext.testString(enclosingContext, keyword, value,
+                (Predicate<String>) v -> predicate.test(v, this));
+    }
+
+    @Override
+    public KeywordStatistics getKeywordStatistics(JsonSchema schema, Keyword keyword) {
+        if (enclosingContext instanceof ProfilingEvaluatorContext) {
+            return ((ProfilingEvaluatorContext) enclosingContext).getKeywordStatistics(schema, keyword);
+        }
+        return null;
+    }
+
+    @Override
+    public long getRegexStepLimit() {
+        return RegexEvaluatorContext.getRegexStepLimit(enclosingContext);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.EventBuffer;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.ReplayableEvaluatorContext.ReplayHandler;
+
+/**
+ * Replayer of the events recorded for a root evaluator. This also keeps the
+ * buffers released by the evaluators for later reuse.
+ *
+ * @author leadpony
+ */
+class EventReplayer {
+
+    private static final int MAX_FREE_BUFFERS = 8;
+
+    private final JsonProvider jsonProvider;
+
+    // The parser replaying the recorded events.
+    private DefaultPointerAwareJsonParser replayingParser;
+    private String replayedPointer;
+    private List<EventBuffer> freeBuffers;
+
+    /**
+     * Constructs this replayer.
+     *
+     * @param jsonProvider the JSON provider.
+     */
+    EventReplayer(JsonProvider jsonProvider) {
+        this.jsonProvider = jsonProvider;
+    }
+
+    /**
+     * Checks if the events are being replayed.
+     *
+     * @return {@code true} if the events are being replayed.
+     */
+    boolean isReplaying() {
+        return replayingParser != null;
+    }
+
+    /**
+     * Returns the parser replaying the events.
+     *
+     * @return the parser replaying the events.
+     */
+    JsonParser getParser() {
+        return replayingParser;
+    }
+
+    /**
+     * Returns the JSON pointer of the replayed event.
+     *
+     * @return the JSON pointer of the replayed event.
+     */
+    String getPointer() {
+        return replayedPointer + replayingParser.getPointer();
+    }
+
+    /**
+     * Returns an empty buffer for recording the events of a value.
+     *
+     * @param pointer the JSON pointer of the value.
+     * @return the empty buffer.
+     */
+    EventBuffer acquireEventBuffer(String pointer) {
+        EventBuffer buffer;
+        if (freeBuffers == null || freeBuffers.isEmpty()) {
+            buffer = new EventBuffer();
+        } else {
+            buffer = freeBuffers.remove(freeBuffers.size() - 1);
+        }
+        return buffer.reset(pointer);
+    }
+
+    /**
+     * Keeps the buffer no longer used for later reuse.
+     *
+     * @param buffer the buffer to release.
+     */
+    void releaseEventBuffer(EventBuffer buffer) {
+        if (freeBuffers == null) {
+            freeBuffers = new ArrayList<>();
+        }
+        if (freeBuffers.size() < MAX_FREE_BUFFERS) {
+            freeBuffers.add(buffer.reset(null));
+        }
+    }
+
+    /**
+     * Replays the recorded events.
+     *
+     * @param buffer  the buffer containing the events.
+     * @param handler the handler of the replayed events.
+     */
+    void replay(EventBuffer buffer, ReplayHandler handler) {
+        final DefaultPointerAwareJsonParser lastParser = this.replayingParser;
+        final String lastPointer = this.replayedPointer;
+        DefaultPointerAwareJsonParser parser = new DefaultPointerAwareJsonParser(
+                buffer.createParser(jsonProvider), jsonProvider);
+        this.replayingParser = parser;
+        this.replayedPointer = buffer.getPointer();
+        try {
+            int depth = 0;
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (ParserEvents.isEndOfContainer(event)) {
+                    --depth;
+                }
+                boolean continued = handler.handleEvent(event, depth);
+                if (ParserEvents.isStartOfContainer(event)) {
+                    ++depth;
+                }
+                if (!continued) {
+                    break;
+                }
+            }
+        } finally {
+            this.replayingParser = lastParser;
+            this.replayedPointer = lastPointer;
+        }
+    }
+}
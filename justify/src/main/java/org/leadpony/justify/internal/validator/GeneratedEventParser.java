@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import java.math.BigDecimal;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+
+import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
+
+/**
+ * A JSON parser which produces the events pushed by a JSON generator or a
+ * tokenizer.
+ *
+ * <p>
+ * Each event is pushed immediately before it is consumed, so at most one event
+ * is pending at any time.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class GeneratedEventParser implements JsonParser {
+
+    private final JsonProvider jsonProvider;
+    private final Supplier<JsonLocation> locator;
+    private Event nextEvent;
+    private Event currentEvent;
+    private String string;
+    private BigDecimal number;
+
+    /**
+     * Constructs this parser.
+     *
+     * @param jsonProvider the JSON provider for creating values.
+     */
+    GeneratedEventParser(JsonProvider jsonProvider) {
+        this(jsonProvider, () -> SimpleJsonLocation.UNKNOWN);
+    }
+
+    /**
+     * Constructs this parser.
+     *
+     * @param jsonProvider the JSON provider for creating values.
+     * @param locator      the supplier of the location of the current event.
+     */
+    GeneratedEventParser(JsonProvider jsonProvider, Supplier<JsonLocation> locator) {
+        this.jsonProvider = jsonProvider;
+        this.locator = locator;
+    }
+
+    /**
+     * Pushes an event without any value.
+     *
+     * @param event the event to push.
+     */
+    void push(Event event) {
+        this.nextEvent = event;
+        this.string = null;
+        this.number = null;
+    }
+
+    /**
+     * Pushes a key name or a string value.
+     *
+     * @param event the event to push.
+     * @param value the key name or the string value.
+     */
+    void pushString(Event event, String value) {
+        this.nextEvent = event;
+        this.string = value;
+        this.number = null;
+    }
+
+    /**
+     * Pushes a number value.
+     *
+     * <p>
+     * The number is integral if it would be written without any fraction or
+     * exponent part.
+     * </p>
+     *
+     * @param value the number value.
+     */
+    void pushNumber(BigDecimal value) {
+        this.nextEvent = Event.VALUE_NUMBER;
+        this.string = null;
+        this.number = value;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextEvent != null;
+    }
+
+    @Override
+    public Event next() {
+        if (nextEvent == null) {
+            throw new NoSuchElementException();
+        }
+        currentEvent = nextEvent;
+        nextEvent = null;
+        return currentEvent;
+    }
+
+    @Override
+    public String getString() {
+        if (string != null) {
+            return string;
+        } else if (number != null) {
+            return number.toString();
+        }
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        if (number == null) {
+            throw new IllegalStateException();
+        }
+        return number.scale() == 0;
+    }
+
+    @Override
+    public int getInt() {
+        return getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong() {
+        return getBigDecimal().longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        if (number == null) {
+            throw new IllegalStateException();
+        }
+        return number;
+    }
+
+    @Override
+    public JsonValue getValue() {
+        switch (currentEvent) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return jsonProvider.createValue(getString());
+        case VALUE_NUMBER:
+            return jsonProvider.createValue(getBigDecimal());
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Note that the events generated by a JSON generator have no location.
+     */
+    @Override
+    public JsonLocation getLocation() {
+        return locator.get();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -21,18 +21,26 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 
+import org.leadpony.justify.internal.base.ValidationMetrics;
 import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.EventBuffer;
 import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
 import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.internal.evaluator.KeywordStatistics;
 
 /**
  * A JSON parser type with validation functionality.
@@ -44,12 +52,24 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
 
     private final JsonSchema rootSchema;
     private ProblemHandler problemHandler;
+    private DefaultStringResultCache stringResultCache;
+    private DefaultValidationProfile profile;
+    private long regexStepLimit = Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
     private ParserEventHandler eventHandler;
+    private String basePointer;
     private Evaluator evaluator;
     private int depth;
 
     private final List<Problem> currentProblems = new ArrayList<>();
 
+    // The metrics of the current document, used only if enabled.
+    private long documentEvents;
+    private int documentDepth;
+    private int documentProblems;
+    private long documentStart;
+
+    private final EventReplayer replayer;
+
     /**
      * Constructs this parser.
      *
@@ -62,10 +82,11 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         this.rootSchema = rootSchema;
         this.problemHandler = ProblemHandler.throwing();
         this.eventHandler = this::handleFirstEvent;
+        this.replayer = new EventReplayer(jsonProvider);
     }
 
     /**
-     * Assigns a problem handler this this parser.
+     * Assigns a problem handler to this parser.
      *
      * @param problemHandler the problem handler to be assigned.
      * @return this parser.
@@ -75,10 +96,59 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return this;
     }
 
+    /**
+     * Assigns a cache of the results tested against string values.
+     *
+     * @param stringResultCache the cache to be assigned, can be {@code null}.
+     * @return this parser.
+     */
+    public JsonValidator withStringResultCache(DefaultStringResultCache stringResultCache) {
+        this.stringResultCache = stringResultCache;
+        return this;
+    }
+
+    /**
+     * Assigns a profile recording the activity of the keywords.
+     *
+     * @param profile the profile to be assigned, can be {@code null}.
+     * @return this parser.
+     */
+    public JsonValidator withProfile(DefaultValidationProfile profile) {
+        this.profile = profile;
+        return this;
+    }
+
+    /**
+     * Assigns the number of steps allowed per character for a match of regular
+     * expression.
+     *
+     * @param stepsPerChar the number of steps allowed per character.
+     * @return this parser.
+     */
+    public JsonValidator withRegexStepLimit(long stepsPerChar) {
+        this.regexStepLimit = stepsPerChar;
+        return this;
+    }
+
+    /**
+     * Assigns the JSON pointer of the value to validate in the enclosing document.
+     * The pointers of the problems found are prefixed with it.
+     *
+     * @param basePointer the JSON pointer of the value, can be {@code null}.
+     * @return this parser.
+     */
+    public JsonValidator withBasePointer(String basePointer) {
+        this.basePointer = basePointer;
+        return this;
+    }
+
     /* AbstractJsonParser */
 
     @Override
     protected Event process(Event event) {
+        if (ValidationMetrics.ENABLED) {
+            return processMeasured(event);
+        }
         eventHandler.handleParserEvent(event, getParser());
         return event;
     }
@@ -90,10 +160,26 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         }
     }
 
+    /* DefaultPointerAwareJsonParser */
+
+    @Override
+    public String getPointer() {
+        if (replayer.isReplaying()) {
+            return replayer.getPointer();
+        }
+        if (basePointer != null) {
+            return basePointer + super.getPointer();
+        }
+        return super.getPointer();
+    }
+
     /* DefaultEvaluatorContext */
 
     @Override
     public JsonParser getParser() {
+        if (replayer.isReplaying()) {
+            return replayer.getParser();
+        }
         return getCurrentParser();
     }
 
@@ -112,21 +198,83 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         assert false;
     }
 
+    @Override
+    public boolean canReplay() {
+        return !acceptsDefaultValues();
+    }
+
+    @Override
+    public EventBuffer acquireEventBuffer() {
+        return replayer.acquireEventBuffer(getPointer());
+    }
+
+    @Override
+    public void releaseEventBuffer(EventBuffer buffer) {
+        replayer.releaseEventBuffer(buffer);
+    }
+
+    @Override
+    public void replay(EventBuffer buffer, ReplayHandler handler) {
+        replayer.replay(buffer, handler);
+    }
+
+    @Override
+    public boolean testString(Keyword keyword, String value, Predicate<String> predicate) {
+        if (stringResultCache != null) {
+            return stringResultCache.test(keyword, value, predicate);
+        }
+        return predicate.test(value);
+    }
+
+    @Override
+    public boolean testString(Keyword keyword, String value, BiPredicate<String, EvaluatorContext> predicate) {
+        if (stringResultCache != null) {
+            return stringResultCache.test(keyword, value, this, predicate);
+        }
+        return predicate.test(value, this);
+    }
+
+    @Override
+    public KeywordStatistics getKeywordStatistics(JsonSchema schema, Keyword keyword) {
+        if (profile != null) {
+            return profile.getStatistics(rootSchema, schema, keyword.name());
+        }
+        return null;
+    }
+
+    @Override
+    public long getRegexStepLimit() {
+        return regexStepLimit;
+    }
+
     /* DefaultProblemDispatcher */
 
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
         this.currentProblems.add(problem);
+        if (ValidationMetrics.ENABLED) {
+            documentProblems++;
+        }
     }
 
     private Evaluator getRootEvaluator() {
         return this;
     }
 
+    /**
+     * Creates the evaluator for the value at the root.
+     *
+     * @param type the type of the value.
+     * @return newly created evaluator, can be {@code null}.
+     */
+    protected Evaluator createRootEvaluator(InstanceType type) {
+        return rootSchema.createEvaluator(getRootEvaluator(), type);
+    }
+
     private void handleFirstEvent(Event event, JsonParser parser) {
         InstanceType type = ParserEvents.toBroadInstanceType(event);
-        this.evaluator = rootSchema.createEvaluator(getRootEvaluator(), type);
+        this.evaluator = createRootEvaluator(type);
         if (this.evaluator != null) {
             handleParserEvent(event, parser);
         }
@@ -159,6 +307,26 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         }
     }
 
+    private Event processMeasured(Event event) {
+        if (documentEvents++ == 0) {
+            documentStart = System.nanoTime();
+            documentProblems = 0;
+        }
+        eventHandler.handleParserEvent(event, getParser());
+        if (ParserEvents.isStartOfContainer(event)) {
+            documentDepth++;
+        } else if (ParserEvents.isEndOfContainer(event)) {
+            documentDepth--;
+        }
+        if (documentDepth == 0 && event != Event.KEY_NAME) {
+            ValidationMetrics.documentValidated(rootSchema, documentEvents,
+                    getLocation().getStreamOffset(), documentProblems,
+                    System.nanoTime() - documentStart);
+            documentEvents = 0;
+        }
+        return event;
+    }
+
     protected final boolean hasProblems() {
         return !currentProblems.isEmpty();
     }
@@ -17,8 +17,10 @@
 package org.leadpony.justify.internal.validator;
 
 import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import jakarta.json.JsonArray;
@@ -31,6 +33,8 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemHandlerFactory;
 import org.leadpony.justify.api.ValidationConfig;
 import org.leadpony.justify.internal.base.json.JsonParserFactoryDecorator;
+import org.leadpony.justify.internal.base.json.Utf8JsonParser;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
 
 /**
  * Factory for creating JSON parsers which validate JSON document while parsing.
@@ -42,7 +46,11 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
     private final JsonSchema schema;
     private final JsonProvider jsonProvider;
     private final ProblemHandlerFactory handlerFactory;
-    private final Map<String, ?> properties;
+    private final boolean usesDefaultValues;
+    private final boolean usesBuiltinTokenizer;
+    private final DefaultStringResultCache stringResultCache;
+    private final DefaultValidationProfile profile;
+    private final long regexStepLimit;
 
     private static final ProblemHandlerFactory DEFAULT_HANDLER_FACTORY = parser -> problems -> {
     };
@@ -67,7 +75,11 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         this.schema = schema;
         this.jsonProvider = jsonProvider;
         this.handlerFactory = handlerFactory;
-        this.properties = properties;
+        this.usesDefaultValues = usesDefaultValues(properties);
+        this.usesBuiltinTokenizer = usesBuiltinTokenizer(properties);
+        this.stringResultCache = getStringResultCache(properties);
+        this.profile = getValidationProfile(properties);
+        this.regexStepLimit = getRegexStepLimit(properties);
     }
 
     /**
@@ -84,7 +96,11 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         super(realFactory);
 
         this.jsonProvider = jsonProvider;
-        this.properties = properties;
+        this.usesDefaultValues = usesDefaultValues(properties);
+        this.usesBuiltinTokenizer = usesBuiltinTokenizer(properties);
+        this.stringResultCache = getStringResultCache(properties);
+        this.profile = getValidationProfile(properties);
+        this.regexStepLimit = getRegexStepLimit(properties);
 
         this.schema = (JsonSchema) properties.get(ValidationConfig.SCHEMA);
         ProblemHandlerFactory handlerFactory = (ProblemHandlerFactory) properties
@@ -102,7 +118,17 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
 
     @Override
     public JsonValidator createParser(InputStream in) {
-        JsonParser parser = super.createParser(in);
+        JsonParser parser;
+        if (usesBuiltinTokenizer) {
+            PushbackInputStream pushback = new PushbackInputStream(in, 4);
+            if (Utf8JsonParser.detectUtf8(pushback)) {
+                parser = new Utf8JsonParser(pushback, jsonProvider);
+            } else {
+                parser = super.createParser(pushback);
+            }
+        } else {
+            parser = super.createParser(in);
+        }
         return createValiator(parser);
     }
 
@@ -120,22 +146,64 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
 
     @Override
     public JsonValidator createParser(InputStream in, Charset charset) {
-        JsonParser parser = super.createParser(in, charset);
+        JsonParser parser;
+        if (usesBuiltinTokenizer && StandardCharsets.UTF_8.equals(charset)) {
+            PushbackInputStream pushback = new PushbackInputStream(in, 4);
+            if (Utf8JsonParser.detectUtf8(pushback)) {
+                parser = new Utf8JsonParser(pushback, jsonProvider);
+            } else {
+                parser = super.createParser(pushback, charset);
+            }
+        } else {
+            parser = super.createParser(in, charset);
+        }
         return createValiator(parser);
     }
 
-    private boolean usesDefaultValues() {
+    private static boolean usesDefaultValues(Map<String, ?> properties) {
         Object value = properties.get(ValidationConfig.DEFAULT_VALUES);
         return value == Boolean.TRUE;
     }
 
+    private static boolean usesBuiltinTokenizer(Map<String, ?> properties) {
+        Object value = properties.get(ValidationConfig.BUILTIN_TOKENIZER);
+        return value == Boolean.TRUE;
+    }
+
+    static DefaultStringResultCache getStringResultCache(Map<String, ?> properties) {
+        Object value = properties.get(ValidationConfig.STRING_RESULT_CACHE);
+        if (value instanceof DefaultStringResultCache) {
+            return (DefaultStringResultCache) value;
+        }
+        return null;
+    }
+
+    static DefaultValidationProfile getValidationProfile(Map<String, ?> properties) {
+        Object value = properties.get(ValidationConfig.VALIDATION_PROFILE);
+        if (value instanceof DefaultValidationProfile) {
+            return (DefaultValidationProfile) value;
+        }
+        return null;
+    }
+
+    static long getRegexStepLimit(Map<String, ?> properties) {
+        Object value = properties.get(ValidationConfig.REGEX_STEP_LIMIT);
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
+    }
+
     private JsonValidator createValiator(JsonParser parser) {
         JsonValidator validator = newValidator(parser);
-        return validator.withHandler(this.handlerFactory.createProblemHandler(validator));
+        return validator.withHandler(this.handlerFactory.createProblemHandler(validator))
+                .withStringResultCache(this.stringResultCache)
+                .withProfile(this.profile)
+                .withRegexStepLimit(this.regexStepLimit);
     }
 
     private JsonValidator newValidator(JsonParser parser) {
-        if (usesDefaultValues()) {
+        if (usesDefaultValues) {
             return new DefaultizingJsonValidator(parser, this.schema, this.jsonProvider);
         } else {
             return new JsonValidator(parser, this.schema, jsonProvider);
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.EventBuffer;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.base.regex.Ecma262Regex;
+import org.leadpony.justify.internal.evaluator.KeywordStatistics;
+
+/**
+ * A validator which validates a JSON instance against multiple schemas while
+ * parsing the instance only once.
+ *
+ * <p>
+ * Each event is delivered to a root evaluator per schema. A schema is retired
+ * from the delivery as soon as its evaluation is completed, or when the first
+ * problem is found if problems are not collected. The parsing stops as soon as
+ * all schemas are retired.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class MultiSchemaValidator extends DefaultPointerAwareJsonParser {
+
+    private final List<Branch> branches;
+    private final List<Branch> activeBranches;
+    private final boolean collectsProblems;
+    private DefaultStringResultCache stringResultCache;
+    private DefaultValidationProfile profile;
+    private long regexStepLimit = Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
+    private boolean started;
+
+    /**
+     * Constructs this validator.
+     *
+     * @param realParser       the underlying JSON parser.
+     * @param schemas          the JSON schemas to be evaluated.
+     * @param collectsProblems {@code true} if all problems are collected for each
+     *                         schema.
+     * @param jsonProvider     the JSON provider.
+     */
+    public MultiSchemaValidator(JsonParser realParser, List<JsonSchema> schemas, boolean collectsProblems,
+            JsonProvider jsonProvider) {
+        super(realParser, jsonProvider);
+        this.branches = new ArrayList<>(schemas.size());
+        for (JsonSchema schema : schemas) {
+            requireNonNull(schema, "schema");
+            this.branches.add(new Branch(schema));
+        }
+        this.activeBranches = new ArrayList<>(this.branches);
+        this.collectsProblems = collectsProblems;
+    }
+
+    /**
+     * Applies the configuration properties shared with the other validators,
+     * that is, the string result cache, the validation profile and the step limit
+     * of regular expressions.
+     *
+     * @param config the map of configuration properties.
+     * @return this validator.
+     */
+    public MultiSchemaValidator withConfig(Map<String, ?> config) {
+        this.stringResultCache = JsonValidatorFactory.getStringResultCache(config);
+        this.profile = JsonValidatorFactory.getValidationProfile(config);
+        this.regexStepLimit = JsonValidatorFactory.getRegexStepLimit(config);
+        return this;
+    }
+
+    /**
+     * Validates the JSON instance provided by the underlying parser.
+     *
+     * @return the list of the problems found for each schema, in the order of the
+     *         schemas. The list of the problems is empty if the instance is valid
+     *         against the schema.
+     */
+    public List<List<Problem>> validate() {
+        while (!activeBranches.isEmpty() && hasNext()) {
+            next();
+        }
+        List<List<Problem>> result = new ArrayList<>(branches.size());
+        for (Branch branch : branches) {
+            result.add(branch.getProblems());
+        }
+        return result;
+    }
+
+    /* AbstractJsonParser */
+
+    @Override
+    protected Event process(Event event) {
+        if (!started) {
+            InstanceType type = ParserEvents.toBroadInstanceType(event);
+            for (Branch branch : branches) {
+                branch.start(type);
+            }
+            started = true;
+        }
+        // Updates the JSON pointer.
+        super.process(event);
+        for (int i = activeBranches.size() - 1; i >= 0; i--) {
+            if (activeBranches.get(i).handleEvent(event)) {
+                activeBranches.remove(i);
+            }
+        }
+        return event;
+    }
+
+    /**
+     * The root evaluator for each schema.
+     *
+     * @author leadpony
+     */
+    private class Branch implements RootEvaluator {
+
+        private final JsonSchema schema;
+        private final EventReplayer replayer;
+        private Evaluator evaluator;
+        private int depth;
+        private List<Problem> problems;
+
+        Branch(JsonSchema schema) {
+            this.schema = schema;
+            this.replayer = new EventReplayer(MultiSchemaValidator.this.getJsonProvider());
+        }
+
+        void start(InstanceType type) {
+            this.evaluator = schema.createEvaluator(this, type);
+        }
+
+        /**
+         * Handles the parser event.
+         *
+         * @param event the parser event.
+         * @return {@code true} if this branch is retired.
+         */
+        boolean handleEvent(Event event) {
+            if (ParserEvents.isEndOfContainer(event)) {
+                --depth;
+            }
+            Result result = evaluator.evaluate(event, depth);
+            if (ParserEvents.isStartOfContainer(event)) {
+                ++depth;
+            }
+            if (result != Result.PENDING) {
+                return true;
+            }
+            return problems != null && !collectsProblems;
+        }
+
+        List<Problem> getProblems() {
+            return problems != null ? problems : Collections.emptyList();
+        }
+
+        /* As an EvaluatorContext */
+
+        @Override
+        public JsonParser getParser() {
+            if (replayer.isReplaying()) {
+                return replayer.getParser();
+            }
+            return getCurrentParser();
+        }
+
+        @Override
+        public String getPointer() {
+            if (replayer.isReplaying()) {
+                return replayer.getPointer();
+            }
+            return MultiSchemaValidator.this.getPointer();
+        }
+
+        @Override
+        public JsonProvider getJsonProvider() {
+            return MultiSchemaValidator.this.getJsonProvider();
+        }
+
+        @Override
+        public JsonBuilderFactory getJsonBuilderFactory() {
+            return MultiSchemaValidator.this.getJsonBuilderFactory();
+        }
+
+        @Override
+        public boolean acceptsDefaultValues() {
+            return false;
+        }
+
+        @Override
+        public void putDefaultProperties(Map<String, JsonValue> properties) {
+            assert false;
+        }
+
+        @Override
+        public void putDefaultItems(List<JsonValue> items) {
+            assert false;
+        }
+
+        @Override
+        public boolean canReplay() {
+            return true;
+        }
+
+        @Override
+        public EventBuffer acquireEventBuffer() {
+            return replayer.acquireEventBuffer(getPointer());
+        }
+
+        @Override
+        public void releaseEventBuffer(EventBuffer buffer) {
+            replayer.releaseEventBuffer(buffer);
+        }
+
+        @Override
+        public void replay(EventBuffer buffer, ReplayHandler handler) {
+            replayer.replay(buffer, handler);
+        }
+
+        @Override
+        public boolean testString(Keyword keyword, String value, Predicate<String> predicate) {
+            if (stringResultCache != null) {
+                return stringResultCache.test(keyword, value, predicate);
+            }
+            return predicate.test(value);
+        }
+
+        @Override
+        public boolean testString(Keyword keyword, String value, BiPredicate<String, EvaluatorContext> predicate) {
+            if (stringResultCache != null) {
+                return stringResultCache.test(keyword, value, this, predicate);
+            }
+            return predicate.test(value, this);
+        }
+
+        @Override
+        public KeywordStatistics getKeywordStatistics(JsonSchema schema, Keyword keyword) {
+            if (profile != null) {
+                return profile.getStatistics(Branch.this.schema, schema, keyword.name());
+            }
+            return null;
+        }
+
+        @Override
+        public long getRegexStepLimit() {
+            return regexStepLimit;
+        }
+
+        /* As a ProblemDispatcher */
+
+        @Override
+        public void dispatchProblem(Problem problem) {
+            requireNonNull(problem, "problem");
+            if (problems == null) {
+                problems = new ArrayList<>();
+            }
+            problems.add(problem);
+        }
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import static org.leadpony.justify.internal.base.json.JsonPointers.decode;
+import static org.leadpony.justify.internal.base.json.JsonPointers.encode;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.api.keyword.EvaluationKeyword;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.RefKeyword;
+import org.leadpony.justify.internal.base.json.JsonValueParser;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.schema.ComplexSchemaBasedEvaluator;
+import org.leadpony.justify.internal.keyword.ChildApplicatorKeyword;
+
+/**
+ * A validator of the patched document which validates only the parts affected
+ * by the patch, assuming that the original document was valid.
+ *
+ * <p>
+ * Each change is traced from the root schema down to the changed location.
+ * The trace continues only while the schemas on the way select the subschemas
+ * for the children by their names or indices, and contain no keyword affected
+ * by the change below. Otherwise the value where the trace stopped is
+ * validated entirely.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class PatchValidator {
+
+    /*
+     * The keywords which depend only on the members of the container, not on
+     * their values.
+     */
+    private static final Set<String> MEMBERSHIP_KEYWORDS = new HashSet<>(Arrays.asList(
+            "required",
+            "minProperties",
+            "maxProperties",
+            "propertyNames",
+            "dependentRequired",
+            "minItems",
+            "maxItems"
+            ));
+
+    private final JsonSchema rootSchema;
+    private final JsonValue document;
+    private final ProblemHandler handler;
+    private final JsonProvider jsonProvider;
+
+    // The pointers of the changed values.
+    private final Set<String> changedValues = new LinkedHashSet<>();
+    // The pointers of the containers which gained or lost members.
+    private final Set<String> changedContainers = new LinkedHashSet<>();
+
+    /**
+     * Constructs this validator.
+     *
+     * @param rootSchema   the root schema of the document.
+     * @param document     the patched document.
+     * @param handler      the handler of the problems found.
+     * @param jsonProvider the JSON provider.
+     */
+    public PatchValidator(JsonSchema rootSchema, JsonValue document, ProblemHandler handler,
+            JsonProvider jsonProvider) {
+        this.rootSchema = rootSchema;
+        this.document = document;
+        this.handler = handler;
+        this.jsonProvider = jsonProvider;
+    }
+
+    /**
+     * Collects the changes made by the specified JSON Patch.
+     *
+     * @param operations the operations of the JSON Patch.
+     * @return this validator.
+     */
+    public PatchValidator withJsonPatch(JsonArray operations) {
+        for (JsonValue value : operations) {
+            JsonObject operation = value.asJsonObject();
+            String op = operation.getString("op", "");
+            String path = operation.getString("path", "");
+            switch (op) {
+            case "add":
+            case "copy":
+                addValue(path);
+                break;
+            case "remove":
+                removeValue(path);
+                break;
+            case "replace":
+                changedValues.add(path);
+                break;
+            case "move":
+                removeValue(operation.getString("from", ""));
+                addValue(path);
+                break;
+            default:
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Collects the changes made by the specified JSON Merge Patch.
+     *
+     * @param patch    the JSON Merge Patch.
+     * @param original the original document.
+     * @return this validator.
+     */
+    public PatchValidator withMergePatch(JsonValue patch, JsonValue original) {
+        addMergedValue(patch, original, "");
+        return this;
+    }
+
+    /**
+     * Validates the parts of the document affected by the changes.
+     */
+    public void validate() {
+        Map<String, Target> values = new LinkedHashMap<>();
+        Map<String, MembershipTarget> containers = new LinkedHashMap<>();
+        for (String pointer : changedValues) {
+            Target target = trace(pointer);
+            values.putIfAbsent(target.pointer, target);
+        }
+        for (String pointer : changedContainers) {
+            Target target = trace(pointer);
+            if (!target.complete
+                    || target.value.getValueType() != ValueType.OBJECT
+                    || collectChildApplicators(target.schemas, target.value) == null) {
+                values.putIfAbsent(target.pointer, target);
+            } else {
+                List<Membership> memberships = collectMemberships(target.schemas);
+                if (!memberships.isEmpty()) {
+                    containers.putIfAbsent(target.pointer,
+                            new MembershipTarget(target.pointer, target.value.asJsonObject(), memberships));
+                }
+            }
+        }
+
+        for (Target target : values.values()) {
+            if (!isCoveredBy(target.pointer, values.keySet(), false)) {
+                for (JsonSchema schema : target.schemas) {
+                    validate(target.pointer, target.value, schema);
+                }
+            }
+        }
+        for (MembershipTarget target : containers.values()) {
+            if (!isCoveredBy(target.pointer, values.keySet(), true)) {
+                validateMembers(target.pointer, target.object, target.memberships);
+            }
+        }
+    }
+
+    private void addValue(String path) {
+        changedValues.add(path);
+        if (!path.isEmpty()) {
+            changedContainers.add(getParentPointer(path));
+        }
+    }
+
+    private void removeValue(String path) {
+        if (path.isEmpty()) {
+            changedValues.add(path);
+        } else {
+            changedContainers.add(getParentPointer(path));
+        }
+    }
+
+    private void addMergedValue(JsonValue patch, JsonValue original, String pointer) {
+        if (patch.getValueType() != ValueType.OBJECT
+                || original == null
+                || original.getValueType() != ValueType.OBJECT) {
+            changedValues.add(pointer);
+            return;
+        }
+        JsonObject target = original.asJsonObject();
+        for (Map.Entry<String, JsonValue> entry : patch.asJsonObject().entrySet()) {
+            String name = entry.getKey();
+            JsonValue value = entry.getValue();
+            if (value == JsonValue.NULL) {
+                if (target.containsKey(name)) {
+                    changedContainers.add(pointer);
+                }
+            } else {
+                if (!target.containsKey(name)) {
+                    changedContainers.add(pointer);
+                }
+                addMergedValue(value, target.get(name), pointer + "/" + encode(name));
+            }
+        }
+    }
+
+    /**
+     * Traces the schemas from the root down to the specified location.
+     *
+     * @param pointer the JSON pointer of the location.
+     * @return the location to validate and the schemas to apply.
+     */
+    private Target trace(String pointer) {
+        String[] tokens = pointer.split("/", -1);
+        JsonValue value = document;
+        List<JsonSchema> schemas = Collections.singletonList(rootSchema);
+        StringBuilder current = new StringBuilder();
+        for (int i = 1; i < tokens.length; i++) {
+            List<ChildApplicatorKeyword> applicators = collectChildApplicators(schemas, value);
+            if (applicators == null) {
+                return new Target(current.toString(), value, schemas, false);
+            }
+            String token = decode(tokens[i]);
+            JsonValue child = getChild(value, token);
+            if (child == null) {
+                return new Target(current.toString(), value, schemas, false);
+            }
+            List<JsonSchema> childSchemas = new ArrayList<>();
+            for (ChildApplicatorKeyword applicator : applicators) {
+                applicator.findChildSchemas(token, subschema -> {
+                    if (subschema != JsonSchema.TRUE && subschema != JsonSchema.EMPTY
+                            && !childSchemas.contains(subschema)) {
+                        childSchemas.add(subschema);
+                    }
+                });
+            }
+            // The false schema for a child is reported differently by the parent.
+            if (childSchemas.contains(JsonSchema.FALSE)) {
+                return new Target(current.toString(), value, schemas, false);
+            }
+            current.append('/').append(tokens[i]);
+            value = child;
+            schemas = childSchemas;
+        }
+        return new Target(current.toString(), value, schemas, true);
+    }
+
+    /**
+     * Collects the keywords applying subschemas to the children of the container,
+     * found in the specified schemas or in the schemas referenced from them.
+     *
+     * @return the keywords found, or {@code null} if any of the schemas depends on
+     *         the whole value of the container.
+     */
+    private static List<ChildApplicatorKeyword> collectChildApplicators(List<JsonSchema> schemas,
+            JsonValue value) {
+        ValueType valueType = value.getValueType();
+        if (valueType != ValueType.OBJECT && valueType != ValueType.ARRAY) {
+            return null;
+        }
+        InstanceType type = ParserEvents.toBroadInstanceType(ParserEvents.fromValue(value));
+        List<ChildApplicatorKeyword> applicators = new ArrayList<>();
+        Set<JsonSchema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JsonSchema schema : schemas) {
+            if (!collectChildApplicators(schema, type, applicators, visited)) {
+                return null;
+            }
+        }
+        return applicators;
+    }
+
+    private static boolean collectChildApplicators(JsonSchema schema, InstanceType type,
+            List<ChildApplicatorKeyword> applicators, Set<JsonSchema> visited) {
+        if (!visited.add(schema)) {
+            return true;
+        }
+        if (schema.isBoolean()) {
+            return schema == JsonSchema.TRUE;
+        }
+        for (EvaluationKeyword keyword : getEvaluationKeywords(schema)) {
+            String name = keyword.name();
+            if (keyword instanceof ChildApplicatorKeyword) {
+                applicators.add((ChildApplicatorKeyword) keyword);
+            } else if (name.equals("allOf") || (keyword instanceof RefKeyword && name.equals("$ref"))) {
+                for (JsonSchema subschema : keyword.getSchemasAsMap().values()) {
+                    if (!collectChildApplicators(subschema, type, applicators, visited)) {
+                        return false;
+                    }
+                }
+            } else if (!name.equals("type") && !MEMBERSHIP_KEYWORDS.contains(name)
+                    && keyword.supportsType(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the keywords constraining the members of an object, together with
+     * the schemas containing them.
+     *
+     * @return the keywords found, grouped by the schemas.
+     */
+    private static List<Membership> collectMemberships(List<JsonSchema> schemas) {
+        List<Membership> result = new ArrayList<>();
+        Set<JsonSchema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (JsonSchema schema : schemas) {
+            collectMemberships(schema, result, visited);
+        }
+        return result;
+    }
+
+    private static void collectMemberships(JsonSchema schema, List<Membership> result,
+            Set<JsonSchema> visited) {
+        if (schema.isBoolean() || !visited.add(schema)) {
+            return;
+        }
+        List<EvaluationKeyword> keywords = new ArrayList<>();
+        for (EvaluationKeyword keyword : getEvaluationKeywords(schema)) {
+            String name = keyword.name();
+            if (MEMBERSHIP_KEYWORDS.contains(name) && keyword.supportsType(InstanceType.OBJECT)) {
+                keywords.add(keyword);
+            } else if (name.equals("allOf") || (keyword instanceof RefKeyword && name.equals("$ref"))) {
+                for (JsonSchema subschema : keyword.getSchemasAsMap().values()) {
+                    collectMemberships(subschema, result, visited);
+                }
+            }
+        }
+        if (!keywords.isEmpty()) {
+            result.add(new Membership(schema, keywords));
+        }
+    }
+
+    private static List<EvaluationKeyword> getEvaluationKeywords(JsonSchema schema) {
+        List<EvaluationKeyword> result = new ArrayList<>();
+        for (Keyword keyword : schema.getKeywordsAsMap().values()) {
+            if (keyword.canEvaluate()) {
+                EvaluationKeyword evaluation = (EvaluationKeyword) keyword;
+                if (evaluation.isExclusive()) {
+                    return Collections.singletonList(evaluation);
+                }
+                result.add(evaluation);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Validates the members of the object, replacing all values with null so that
+     * only the keywords constraining the members are evaluated.
+     */
+    private void validateMembers(String pointer, JsonObject object, List<Membership> memberships) {
+        JsonObjectBuilder builder = jsonProvider.createObjectBuilder();
+        for (String name : object.keySet()) {
+            builder.addNull(name);
+        }
+        JsonObject skeleton = builder.build();
+        for (Membership membership : memberships) {
+            JsonParser parser = new JsonValueParser(skeleton);
+            try (JsonValidator validator = new MembershipValidator(parser, membership, jsonProvider)) {
+                validate(pointer, validator);
+            }
+        }
+    }
+
+    private void validate(String pointer, JsonValue value, JsonSchema schema) {
+        try (JsonValidator validator = new JsonValidator(createParser(value), schema, jsonProvider)) {
+            validate(pointer, validator);
+        }
+    }
+
+    private void validate(String pointer, JsonValidator validator) {
+        validator.withHandler(handler).withBasePointer(pointer);
+        while (validator.hasNext()) {
+            validator.next();
+        }
+    }
+
+    private JsonParser createParser(JsonValue value) {
+        JsonParser parser;
+        switch (value.getValueType()) {
+        case OBJECT:
+            parser = new JsonValueParser(value.asJsonObject());
+            break;
+        case ARRAY:
+            parser = new JsonValueParser(value.asJsonArray());
+            break;
+        default:
+            parser = jsonProvider.createParser(new StringReader(value.toString()));
+            break;
+        }
+        return parser;
+    }
+
+    private static JsonValue getChild(JsonValue value, String token) {
+        if (value.getValueType() == ValueType.OBJECT) {
+            return value.asJsonObject().get(token);
+        }
+        JsonArray array = value.asJsonArray();
+        try {
+            int index = Integer.parseInt(token);
+            return (index >= 0 && index < array.size()) ? array.get(index) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String getParentPointer(String pointer) {
+        return pointer.substring(0, pointer.lastIndexOf('/'));
+    }
+
+    /**
+     * Checks whether the specified location is contained in any of the values to
+     * validate.
+     */
+    private static boolean isCoveredBy(String pointer, Set<String> pointers, boolean inclusive) {
+        for (String other : pointers) {
+            if (other.equals(pointer)) {
+                if (inclusive) {
+                    return true;
+                }
+            } else if (pointer.startsWith(other + "/") || other.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A location to validate.
+     *
+     * @author leadpony
+     */
+    private static final class Target {
+
+        final String pointer;
+        final JsonValue value;
+        final List<JsonSchema> schemas;
+        // true if the trace reached the changed location.
+        final boolean complete;
+
+        Target(String pointer, JsonValue value, List<JsonSchema> schemas, boolean complete) {
+            this.pointer = pointer;
+            this.value = value;
+            this.schemas = schemas;
+            this.complete = complete;
+        }
+    }
+
+    /**
+     * A container of which only the members are to be validated.
+     *
+     * @author leadpony
+     */
+    private static final class MembershipTarget {
+
+        final String pointer;
+        final JsonObject object;
+        final List<Membership> memberships;
+
+        MembershipTarget(String pointer, JsonObject object, List<Membership> memberships) {
+            this.pointer = pointer;
+            this.object = object;
+            this.memberships = memberships;
+        }
+    }
+
+    /**
+     * The keywords constraining the members of an object, found in a schema.
+     *
+     * @author leadpony
+     */
+    private static final class Membership {
+
+        final JsonSchema schema;
+        final List<EvaluationKeyword> keywords;
+
+        Membership(JsonSchema schema, List<EvaluationKeyword> keywords) {
+            this.schema = schema;
+            this.keywords = keywords;
+        }
+    }
+
+    /**
+     * A validator evaluating only the keywords constraining the members. The
+     * problems found refer to the original schema containing the keywords.
+     *
+     * @author leadpony
+     */
+    private static final class MembershipValidator extends JsonValidator {
+
+        private final Membership membership;
+
+        MembershipValidator(JsonParser parser, Membership membership, JsonProvider jsonProvider) {
+            super(parser, membership.schema, jsonProvider);
+            this.membership = membership;
+        }
+
+        @Override
+        protected Evaluator createRootEvaluator(InstanceType type) {
+            return ComplexSchemaBasedEvaluator.of(membership.keywords, this, membership.schema, type);
+        }
+    }
+}
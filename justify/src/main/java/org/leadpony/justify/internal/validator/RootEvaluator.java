@@ -21,6 +21,10 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.evaluator.CachingEvaluatorContext;
+import org.leadpony.justify.internal.evaluator.ProfilingEvaluatorContext;
+import org.leadpony.justify.internal.evaluator.RegexEvaluatorContext;
+import org.leadpony.justify.internal.evaluator.ReplayableEvaluatorContext;
 import org.leadpony.justify.internal.evaluator.schema.AlwaysFalseEvaluator;
 
 import jakarta.json.stream.JsonParser;
@@ -28,7 +32,8 @@ import jakarta.json.stream.JsonParser;
 /**
  * @author leadpony
  */
-public interface RootEvaluator extends Evaluator, EvaluatorContext, ProblemDispatcher {
+public interface RootEvaluator extends Evaluator, CachingEvaluatorContext, ReplayableEvaluatorContext,
+        ProfilingEvaluatorContext, RegexEvaluatorContext, ProblemDispatcher {
 
     /* As an Evaluator */
 
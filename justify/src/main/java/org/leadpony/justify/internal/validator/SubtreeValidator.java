@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import java.util.Collections;
+
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemHandler;
+import org.leadpony.justify.internal.base.json.JsonValueParser;
+import org.leadpony.justify.internal.base.json.SubtreeJsonParser;
+
+/**
+ * A validator of the single value located by a JSON pointer in the document.
+ *
+ * <p>
+ * When reading a stream, the values before the target are skipped without
+ * being validated, and the stream is not read any further once the target
+ * ended.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class SubtreeValidator {
+
+    private final JsonSchema schema;
+    private final String pointer;
+    private final ProblemHandler handler;
+    private final JsonProvider jsonProvider;
+
+    /**
+     * Constructs this validator.
+     *
+     * @param schema       the schema to apply to the target value.
+     * @param pointer      the JSON pointer of the target value.
+     * @param handler      the handler of the problems found.
+     * @param jsonProvider the JSON provider.
+     */
+    public SubtreeValidator(JsonSchema schema, String pointer, ProblemHandler handler,
+            JsonProvider jsonProvider) {
+        this.schema = schema;
+        this.pointer = pointer;
+        this.handler = handler;
+        this.jsonProvider = jsonProvider;
+    }
+
+    /**
+     * Validates the target value read from the specified parser.
+     *
+     * @param parser the parser which has not been started yet.
+     * @return {@code true} if the target value was found.
+     */
+    public boolean validate(JsonParser parser) {
+        Event event = SubtreeJsonParser.seek(parser, pointer);
+        if (event == null) {
+            return false;
+        }
+        validateSubtree(parser, event);
+        return true;
+    }
+
+    /**
+     * Validates the target value in the specified JSON value.
+     *
+     * @param value the JSON value containing the target value.
+     * @return {@code true} if the target value was found.
+     */
+    public boolean validate(JsonValue value) {
+        JsonValue target = findValue(value);
+        if (target == null) {
+            return false;
+        }
+        JsonParser parser = new JsonValueParser(Collections.singletonList(target));
+        validateSubtree(parser, parser.next());
+        return true;
+    }
+
+    private JsonValue findValue(JsonValue value) {
+        if (pointer.isEmpty()) {
+            return value;
+        } else if (!(value instanceof JsonStructure)) {
+            return null;
+        }
+        JsonStructure structure = (JsonStructure) value;
+        JsonPointer jsonPointer = jsonProvider.createPointer(pointer);
+        return jsonPointer.containsValue(structure) ? jsonPointer.getValue(structure) : null;
+    }
+
+    private void validateSubtree(JsonParser parser, Event firstEvent) {
+        JsonParser subtree = new SubtreeJsonParser(parser, firstEvent, jsonProvider);
+        try (JsonValidator validator = new JsonValidator(subtree, schema, jsonProvider)) {
+            validator.withHandler(handler).withBasePointer(pointer);
+            while (validator.hasNext()) {
+                validator.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemHandler;
+
+/**
+ * A JSON generator type with validation functionality.
+ *
+ * <p>
+ * Every value written to this generator is passed to the underlying generator
+ * first, and then fed to the evaluators as the same events that a parser would
+ * produce when reading the output back.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class ValidatingJsonGenerator implements JsonGenerator {
+
+    private final JsonGenerator generator;
+    private final GeneratedEventParser eventParser;
+    private final JsonValidator validator;
+    // The ending events of the containers being written.
+    private final Deque<Event> endEvents = new ArrayDeque<>();
+
+    /**
+     * Constructs this generator.
+     *
+     * @param realGenerator the underlying JSON generator.
+     * @param rootSchema    the root JSON schema to be evaluated during validation.
+     * @param jsonProvider  the JSON provider.
+     */
+    public ValidatingJsonGenerator(JsonGenerator realGenerator, JsonSchema rootSchema, JsonProvider jsonProvider) {
+        this.generator = realGenerator;
+        this.eventParser = new GeneratedEventParser(jsonProvider);
+        this.validator = new JsonValidator(eventParser, rootSchema, jsonProvider);
+    }
+
+    /**
+     * Assigns a problem handler to this generator.
+     *
+     * @param problemHandler the problem handler to be assigned.
+     * @return this generator.
+     */
+    public ValidatingJsonGenerator withHandler(ProblemHandler problemHandler) {
+        validator.withHandler(problemHandler);
+        return this;
+    }
+
+    /**
+     * Assigns a cache of the results tested against string values.
+     *
+     * @param stringResultCache the cache to be assigned, can be {@code null}.
+     * @return this generator.
+     */
+    public ValidatingJsonGenerator withStringResultCache(DefaultStringResultCache stringResultCache) {
+        validator.withStringResultCache(stringResultCache);
+        return this;
+    }
+
+    /**
+     * Assigns a profile recording the activity of the keywords.
+     *
+     * @param profile the profile to be assigned, can be {@code null}.
+     * @return this generator.
+     */
+    public ValidatingJsonGenerator withProfile(DefaultValidationProfile profile) {
+        validator.withProfile(profile);
+        return this;
+    }
+
+    /**
+     * Assigns the number of steps allowed per character for a match of regular
+     * expression.
+     *
+     * @param stepsPerChar the number of steps allowed per character.
+     * @return this generator.
+     */
+    public ValidatingJsonGenerator withRegexStepLimit(long stepsPerChar) {
+        validator.withRegexStepLimit(stepsPerChar);
+        return this;
+    }
+
+    /**
+     * Returns the parser which reports the generated events to the evaluators.
+     *
+     * @return the validating parser, never be {@code null}.
+     */
+    public JsonParser getValidatingParser() {
+        return validator;
+    }
+
+    /* As a JsonGenerator */
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        generator.writeStartObject();
+        startContainer(Event.START_OBJECT, Event.END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        generator.writeStartObject(name);
+        feedKey(name);
+        startContainer(Event.START_OBJECT, Event.END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        generator.writeKey(name);
+        feedKey(name);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        generator.writeStartArray();
+        startContainer(Event.START_ARRAY, Event.END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        generator.writeStartArray(name);
+        feedKey(name);
+        startContainer(Event.START_ARRAY, Event.END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedValue(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedString(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedNumber(new BigDecimal(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedNumber(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        generator.write(name, value);
+        feedKey(name);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        generator.write(name, value);
+        feedKey(name);
+        feed(value ? Event.VALUE_TRUE : Event.VALUE_FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        generator.writeNull(name);
+        feedKey(name);
+        feed(Event.VALUE_NULL);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        generator.writeEnd();
+        feed(endEvents.pop());
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        generator.write(value);
+        feedValue(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        generator.write(value);
+        feedString(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        generator.write(value);
+        feedNumber(value);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        generator.write(value);
+        feedNumber(new BigDecimal(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        generator.write(value);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        generator.write(value);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        generator.write(value);
+        feedNumber(BigDecimal.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        generator.write(value);
+        feed(value ? Event.VALUE_TRUE : Event.VALUE_FALSE);
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        generator.writeNull();
+        feed(Event.VALUE_NULL);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        generator.close();
+    }
+
+    @Override
+    public void flush() {
+        generator.flush();
+    }
+
+    /* As a ValidatingJsonGenerator */
+
+    private void startContainer(Event startEvent, Event endEvent) {
+        endEvents.push(endEvent);
+        feed(startEvent);
+    }
+
+    private void feed(Event event) {
+        eventParser.push(event);
+        validator.next();
+    }
+
+    private void feedKey(String name) {
+        eventParser.pushString(Event.KEY_NAME, name);
+        validator.next();
+    }
+
+    private void feedString(String value) {
+        eventParser.pushString(Event.VALUE_STRING, value);
+        validator.next();
+    }
+
+    private void feedNumber(BigDecimal value) {
+        eventParser.pushNumber(value);
+        validator.next();
+    }
+
+    private void feedValue(JsonValue value) {
+        switch (value.getValueType()) {
+        case ARRAY:
+            feed(Event.START_ARRAY);
+            for (JsonValue item : value.asJsonArray()) {
+                feedValue(item);
+            }
+            feed(Event.END_ARRAY);
+            break;
+        case OBJECT:
+            feed(Event.START_OBJECT);
+            for (Map.Entry<String, JsonValue> entry : value.asJsonObject().entrySet()) {
+                feedKey(entry.getKey());
+                feedValue(entry.getValue());
+            }
+            feed(Event.END_OBJECT);
+            break;
+        case STRING:
+            feedString(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            feedNumber(((JsonNumber) value).bigDecimalValue());
+            break;
+        case TRUE:
+            feed(Event.VALUE_TRUE);
+            break;
+        case FALSE:
+            feed(Event.VALUE_FALSE);
+            break;
+        default:
+            feed(Event.VALUE_NULL);
+            break;
+        }
+    }
+}
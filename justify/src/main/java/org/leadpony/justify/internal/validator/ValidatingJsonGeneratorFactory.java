@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.leadpony.justify.internal.validator;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemHandlerFactory;
+import org.leadpony.justify.api.ValidationConfig;
+
+/**
+ * A factory type for creating instances of {@link ValidatingJsonGenerator}.
+ *
+ * @author leadpony
+ */
+public class ValidatingJsonGeneratorFactory implements JsonGeneratorFactory {
+
+    private final JsonGeneratorFactory realFactory;
+    private final JsonProvider jsonProvider;
+    private final JsonSchema schema;
+    private final ProblemHandlerFactory handlerFactory;
+    private final DefaultStringResultCache stringResultCache;
+    private final DefaultValidationProfile profile;
+    private final long regexStepLimit;
+
+    /**
+     * Constructs this factory.
+     *
+     * @param jsonProvider the JSON provider.
+     * @param realFactory  the underlying JSON generator factory.
+     * @param properties   the configuration properties, which must contain the
+     *                     schema and the factory of problem handlers.
+     */
+    public ValidatingJsonGeneratorFactory(
+            JsonProvider jsonProvider,
+            JsonGeneratorFactory realFactory,
+            Map<String, ?> properties) {
+        this.realFactory = realFactory;
+        this.jsonProvider = jsonProvider;
+        this.schema = (JsonSchema) properties.get(ValidationConfig.SCHEMA);
+        this.handlerFactory = (ProblemHandlerFactory) properties.get(ValidationConfig.PROBLEM_HANDLER_FACTORY);
+        this.stringResultCache = JsonValidatorFactory.getStringResultCache(properties);
+        this.profile = JsonValidatorFactory.getValidationProfile(properties);
+        this.regexStepLimit = JsonValidatorFactory.getRegexStepLimit(properties);
+
+        assert this.schema != null;
+        assert this.handlerFactory != null;
+    }
+
+    @Override
+    public JsonGenerator createGenerator(Writer writer) {
+        return createValidatingGenerator(realFactory.createGenerator(writer));
+    }
+
+    @Override
+    public JsonGenerator createGenerator(OutputStream out) {
+        return createValidatingGenerator(realFactory.createGenerator(out));
+    }
+
+    @Override
+    public JsonGenerator createGenerator(OutputStream out, Charset charset) {
+        return createValidatingGenerator(realFactory.createGenerator(out, charset));
+    }
+
+    @Override
+    public Map<String, ?> getConfigInUse() {
+        return realFactory.getConfigInUse();
+    }
+
+    private JsonGenerator createValidatingGenerator(JsonGenerator realGenerator) {
+        ValidatingJsonGenerator generator = new ValidatingJsonGenerator(realGenerator, schema, jsonProvider);
+        return generator
+                .withHandler(handlerFactory.createProblemHandler(generator.getValidatingParser()))
+                .withStringResultCache(stringResultCache)
+                .withProfile(profile)
+                .withRegexStepLimit(regexStepLimit);
+    }
+}
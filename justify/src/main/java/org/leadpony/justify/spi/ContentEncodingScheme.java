@@ -15,6 +15,9 @@
  */
 package org.leadpony.justify.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
 /**
  * Encoding scheme of the content of the JSON string.
  *
@@ -57,4 +60,21 @@ public interface ContentEncodingScheme {
      *                                  decoded.
      */
     byte[] decode(String src);
+
+    /**
+     * Returns a stream which decodes the encoded string lazily using this
+     * encoding scheme. The decoded bytes are produced as the stream is read,
+     * so the whole content does not need to be held in memory at once. By
+     * default, this method wraps the result of {@link #decode(String)}.
+     *
+     * @param src the string to decode.
+     * @return the input stream supplying the decoded bytes.
+     * @throws NullPointerException     if the specified {@code src} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code src} cannot be
+     *                                  decoded.
+     */
+    default InputStream decodeAsStream(String src) {
+        return new ByteArrayInputStream(decode(src));
+    }
 }
@@ -15,6 +15,9 @@
  */
 package org.leadpony.justify.spi;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import org.leadpony.justify.api.EvaluatorContext;
@@ -93,4 +96,32 @@ public interface ContentMimeType {
     default boolean test(byte[] decodedContent, Map<String, String> parameters, EvaluatorContext context) {
         return test(decodedContent, parameters);
     }
+
+    /**
+     * Checks whether the content supplied by the specified stream is of this MIME
+     * type or not with the help of {@link EvaluatorContext}. By default, this
+     * method reads the whole stream into a byte array and then calls
+     * {@link #test(byte[], Map, EvaluatorContext)}. Implementations are
+     * encouraged to override this method and consume the stream incrementally.
+     *
+     * @param decodedContent the stream supplying the decoded content, never be
+     *                       {@code null}.
+     * @param parameters     the parameters attached to this MIME type, never
+     *                       {@code null}.
+     * @param context        the context of the evaluators, never be {@code null}
+     * @return {@code true} if the specified content is of this MIME type,
+     *         {@code false} otherwise.
+     * @throws IOException if an I/O error occurred while reading the stream,
+     *                     including the case where the content cannot be decoded.
+     */
+    default boolean test(InputStream decodedContent, Map<String, String> parameters, EvaluatorContext context)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = decodedContent.read(buffer)) >= 0) {
+            out.write(buffer, 0, length);
+        }
+        return test(out.toByteArray(), parameters, context);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.spi;
+
+/**
+ * A Service Provider Interface for regular expression engine used by "pattern"
+ * and "patternProperties" keywords.
+ *
+ * <p>
+ * The first implementation of this type found through SPI will be instantiated
+ * once and shared between multiple schemas and validations. Any regular
+ * expression is checked for its syntax by the built-in engine before it is
+ * passed to this engine.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface RegexEngine {
+
+    /**
+     * Compiles the regular expression written in the dialect of ECMA 262.
+     *
+     * @param regex the regular expression to compile, cannot be {@code null}.
+     * @return the compiled regular expression, never be {@code null}.
+     * @throws IllegalArgumentException if the specified {@code regex} is not
+     *                                  supported by this engine. The built-in
+     *                                  engine will be used instead.
+     */
+    CompiledRegex compile(String regex);
+
+    /**
+     * A regular expression compiled by the engine.
+     *
+     * @author leadpony
+     */
+    @FunctionalInterface
+    interface CompiledRegex {
+
+        /**
+         * Finds the regular expression in the given string, taking at most the
+         * given number of steps.
+         *
+         * <p>
+         * The regular expression must match any part of the given string, that is,
+         * the pattern is not implicitly anchored. The engine should stop the match
+         * once it has taken more steps than allowed. What is counted as a step is
+         * up to the engine, but it should be proportional to the time spent. This
+         * method must be thread-safe.
+         * </p>
+         *
+         * @param input    the string to test, cannot be {@code null}.
+         * @param maxSteps the maximum number of steps allowed.
+         * @return the result of the match, never be {@code null}.
+         */
+        MatchResult matchWithin(String input, long maxSteps);
+    }
+
+    /**
+     * The result of a match.
+     *
+     * @author leadpony
+     */
+    enum MatchResult {
+        /**
+         * The regular expression matched the input.
+         */
+        MATCHED,
+        /**
+         * The regular expression did not match the input.
+         */
+        NOT_MATCHED,
+        /**
+         * The match was abandoned because it exceeded the maximum number of steps.
+         */
+        STEP_LIMIT_EXCEEDED
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.spi;
+
+import java.net.URI;
+
+import org.leadpony.justify.api.JsonSchema;
+
+/**
+ * A Service Provider Interface for listeners receiving the metrics of reading
+ * schemas and validating documents. A host application may implement this type
+ * to bridge the metrics to its own registry or to JDK Flight Recorder.
+ *
+ * <p>
+ * All implementations of this type found through SPI will be instantiated once
+ * at startup and shared between multiple schemas and validations. The methods
+ * may be called concurrently by multiple threads and should return quickly.
+ * If no implementation is found, nothing is measured at all.
+ * </p>
+ *
+ * @author leadpony
+ */
+public interface ValidationMetricsListener {
+
+    /**
+     * Called when a schema was read.
+     *
+     * @param schema the schema read, can be {@code null} if the input was empty.
+     * @param nanos  the time spent on reading the schema in nanoseconds.
+     */
+    default void schemaRead(JsonSchema schema, long nanos) {
+    }
+
+    /**
+     * Called when a reference in a schema was resolved or failed to be resolved.
+     *
+     * @param targetId the identifier of the referenced schema.
+     * @param resolved {@code true} if the referenced schema was found,
+     *                 {@code false} otherwise.
+     * @param nanos    the time spent on resolving the reference in nanoseconds.
+     */
+    default void referenceResolved(URI targetId, boolean resolved, long nanos) {
+    }
+
+    /**
+     * Called when a document was validated to the end.
+     *
+     * @param schema   the schema against which the document was validated.
+     * @param events   the number of the parser events in the document.
+     * @param offset   the offset in characters or bytes of the input at the end of
+     *                 the document, or -1 if unknown.
+     * @param problems the number of the problems found in the document.
+     * @param nanos    the time spent from the first event to the last event of
+     *                 the document in nanoseconds.
+     */
+    default void documentValidated(JsonSchema schema, long events, long offset, int problems, long nanos) {
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test for {@link SipHasher}.
+ *
+ * <p>
+ * The expected hashes are the reference vectors of SipHash-2-4 with 128-bit
+ * output, computed with the key 00 01 02 ... 0f for the messages 00 01 02 ...
+ * of the given lengths.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class SipHasherTest {
+
+    private static final long K0 = 0x0706050403020100L;
+    private static final long K1 = 0x0f0e0d0c0b0a0908L;
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, a3817f04ba25a8e66df67214c7550293",
+        "1, da87c1d86b99af44347659119b22fc45",
+        "2, 8177228da4a45dc7fca38bdef60affe4",
+        "3, 9c70b60c5267a94e5f33b6b02985ed51",
+        "4, f88164c12d9c8faf7d0f6e7c7bcd5579",
+        "5, 1368875980776f8854527a07690e9627",
+        "6, 14eeca338b208613485ea0308fd7a15e",
+        "7, a1f1ebbed8dbc153c0b84aa61ff08239",
+        "8, 3b62a9ba6258f5610f83e264f31497b4",
+        "9, 264499060ad9baabc47f8b02bb6d71ed",
+        "10, 00110dc378146956c95447d3f3d0fbba",
+        "11, 0151c568386b6677a2b4dc6f81e5dc18",
+        "12, d626b266905ef35882634df68532c125",
+        "13, 9869e247e9c08b10d029934fc4b952f7",
+        "14, 31fcefac66d7de9c7ec7485fe4494902",
+        "15, 5493e99933b0a8117e08ec0f97cfc3d9",
+        "16, 6ee2a4ca67b054bbfd3315bf85230577",
+        "31, 2939b0183223fafc1723de4f52c43d35",
+        "32, 7c3956ca5eeafc3e363e9d556546eb68",
+        "63, 5150d1772f50834a503e069a973fbd7c",
+    })
+    public void digestShouldReturnReferenceHash(int length, String expected) {
+        byte[] message = createMessage(length);
+
+        long[] actual = new SipHasher(K0, K1).update(message, 0, length).digest();
+
+        assertThat(toHex(actual)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, a3817f04ba25a8e66df67214c7550293",
+        "7, a1f1ebbed8dbc153c0b84aa61ff08239",
+        "8, 3b62a9ba6258f5610f83e264f31497b4",
+        "15, 5493e99933b0a8117e08ec0f97cfc3d9",
+        "63, 5150d1772f50834a503e069a973fbd7c",
+    })
+    public void digestShouldReturnReferenceHashForEachByte(int length, String expected) {
+        SipHasher hasher = new SipHasher(K0, K1);
+        for (int i = 0; i < length; i++) {
+            hasher.update(i);
+        }
+
+        assertThat(toHex(hasher.digest())).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 63, 5150d1772f50834a503e069a973fbd7c",
+        "5, 31, 2939b0183223fafc1723de4f52c43d35",
+        "9, 32, 7c3956ca5eeafc3e363e9d556546eb68",
+    })
+    public void digestShouldReturnReferenceHashForSplitMessage(int split, int length, String expected) {
+        byte[] message = createMessage(length);
+
+        long[] actual = new SipHasher(K0, K1)
+                .update(message, 0, split)
+                .update(message, split, length - split)
+                .digest();
+
+        assertThat(toHex(actual)).isEqualTo(expected);
+    }
+
+    private static byte[] createMessage(int length) {
+        byte[] message = new byte[length];
+        for (int i = 0; i < length; i++) {
+            message[i] = (byte) i;
+        }
+        return message;
+    }
+
+    /*
+     * Each half of the hash is written in little-endian order.
+     */
+    private static String toHex(long[] hash) {
+        StringBuilder builder = new StringBuilder();
+        for (long half : hash) {
+            for (int i = 0; i < 8; i++) {
+                builder.append(String.format("%02x", (half >>> (i << 3)) & 0xff));
+            }
+        }
+        return builder.toString();
+    }
+}
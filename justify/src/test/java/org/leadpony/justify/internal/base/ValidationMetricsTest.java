@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A test for {@link ValidationMetrics}.
+ *
+ * @author leadpony
+ */
+public class ValidationMetricsTest {
+
+    /*
+     * No listener is provided in this module, so that the tests of this module
+     * run without any measurement.
+     */
+    @Test
+    public void enabledShouldBeFalseWithoutListeners() {
+        assertThat(ValidationMetrics.ENABLED).isFalse();
+    }
+}
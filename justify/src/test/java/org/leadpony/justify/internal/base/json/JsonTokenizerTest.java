@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link JsonTokenizer}.
+ *
+ * @author leadpony
+ */
+public class JsonTokenizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "true",
+            " false ",
+            "null",
+            "0",
+            "-12.5e+3",
+            "365",
+            "\"\"",
+            "\"caf\u00e9 \u3042 \ud83d\ude00\"",
+            "\"escaped \\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u3042\"",
+            "[]",
+            "{}",
+            "[1, 2.0, \"three\", [true, false], {\"a\": null}]",
+            "{\n  \"a\": {\"b\": [1, {}]},\n  \"c\": -0.25E-2\n}",
+    })
+    public void nextEventShouldReturnSameEventsAsParser(String json) {
+        List<String> expected = parse(json);
+
+        assertThat(tokenize(json, Integer.MAX_VALUE)).containsExactlyElementsOf(expected);
+        assertThat(tokenize(json, 1)).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "[1, 2",
+            "{\"a\": ",
+            "\"unterminated",
+            "-",
+            "tru",
+    })
+    public void completeShouldThrowExceptionIfInputEndsPrematurely(String json) {
+        Throwable thrown = catchThrowable(() -> tokenize(json, 1));
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[1,]",
+            "{\"a\" 1}",
+            "{1: 2}",
+            "01",
+            "1.",
+            "[trux]",
+            "\"\\x\"",
+            "{} {}",
+    })
+    public void nextEventShouldThrowExceptionIfInputIsInvalid(String json) {
+        Throwable thrown = catchThrowable(() -> tokenize(json, 1));
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    private static List<String> parse(String json) {
+        List<String> events = new ArrayList<>();
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+                    events.add(describe(event, parser.getString(), false));
+                } else if (event == Event.VALUE_NUMBER) {
+                    events.add(describe(event, parser.getString(), parser.isIntegralNumber()));
+                } else {
+                    events.add(describe(event, null, false));
+                }
+            }
+        }
+        return events;
+    }
+
+    private static List<String> tokenize(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonTokenizer tokenizer = new JsonTokenizer();
+        List<String> events = new ArrayList<>();
+        int offset = 0;
+        do {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            tokenizer.feed(ByteBuffer.wrap(bytes, offset, length));
+            offset += length;
+            if (offset == bytes.length) {
+                tokenizer.end();
+            }
+            Event event;
+            while ((event = tokenizer.nextEvent()) != null) {
+                events.add(describe(event, tokenizer.getString(), tokenizer.isIntegralNumber()));
+            }
+        } while (offset < bytes.length);
+        return events;
+    }
+
+    private static String describe(Event event, String string, boolean integral) {
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return event + ":" + string;
+        case VALUE_NUMBER:
+            return event + ":" + string + ":" + integral;
+        default:
+            return event.toString();
+        }
+    }
+}
@@ -29,7 +29,9 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonReader;
 import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 
@@ -73,6 +75,25 @@ public class JsonValueParserTest {
         assertThat(actual).containsExactlyElementsOf(events);
     }
 
+    @ParameterizedTest
+    @MethodSource("fixtures")
+    public void getCurrentValueShouldReturnValueStartingAtEvent(JsonValue value, List<Event> events) {
+        JsonStructure root = (JsonStructure) value;
+        JsonValueParser realParser = root.getValueType() == JsonValue.ValueType.ARRAY
+                ? new JsonValueParser((JsonArray) root)
+                : new JsonValueParser((JsonObject) root);
+        PointerAwareJsonParser parser = new DefaultPointerAwareJsonParser(realParser, JsonProvider.provider());
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            if (event == Event.KEY_NAME || event == Event.END_ARRAY || event == Event.END_OBJECT) {
+                assertThat(realParser.getCurrentValue()).isNull();
+            } else {
+                JsonValue expected = Json.createPointer(parser.getPointer()).getValue(root);
+                assertThat(realParser.getCurrentValue()).isSameAs(expected);
+            }
+        }
+    }
+
     private static JsonParser createParser(JsonValue value) {
         switch (value.getValueType()) {
         case ARRAY:
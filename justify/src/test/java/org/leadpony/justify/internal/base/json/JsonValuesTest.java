@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link JsonValues}.
+ *
+ * @author leadpony
+ */
+public class JsonValuesTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1 | 1.0 | true",
+            "1 | 2 | false",
+            "\"1\" | 1 | false",
+            "[1, 2.50] | [1.0, 2.5] | true",
+            "[1, 2] | [2, 1] | false",
+            "[1, 2] | [1, 2, 3] | false",
+            "{\"a\": 10, \"b\": [0]} | {\"b\": [0.0], \"a\": 1e1} | true",
+            "{\"a\": 1} | {\"b\": 1} | false",
+            "{\"a\": 1} | {\"a\": 1, \"b\": 2} | false",
+            "null | false | false",
+    })
+    public void equalsShouldCompareNumbersByValues(String x, String y, boolean expected) {
+        JsonValue first = read(x);
+        JsonValue second = read(y);
+
+        assertThat(JsonValues.equals(first, second)).isEqualTo(expected);
+        assertThat(JsonValues.equals(second, first)).isEqualTo(expected);
+        if (expected) {
+            assertThat(JsonValues.hashCode(first)).isEqualTo(JsonValues.hashCode(second));
+        }
+    }
+
+    private static JsonValue read(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+}
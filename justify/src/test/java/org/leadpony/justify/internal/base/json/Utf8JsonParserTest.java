@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link Utf8JsonParser}.
+ *
+ * @author leadpony
+ */
+public class Utf8JsonParserTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "42",
+            "12345678901234567890",
+            "\"\u3042\u3044\u3046\"",
+            "[1, 2.5, \"three\", [true, false, null]]",
+            "{\"a\": {\"b\": [1, {}]}, \"c\": -0.25E-2}",
+    })
+    public void getValueShouldReturnSameValueAsReader(String json) {
+        JsonValue expected = read(json);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        JsonParser parser = new Utf8JsonParser(new ByteArrayInputStream(bytes), PROVIDER);
+        parser.next();
+        assertThat(parser.getValue()).isEqualTo(expected);
+        assertThat(parser.hasNext()).isFalse();
+    }
+
+    @Test
+    public void getValueShouldReadDocumentLargerThanBlock() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"item\u00e9").append(i).append('"');
+        }
+        String json = builder.append(']').toString();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        JsonParser parser = new Utf8JsonParser(new ByteArrayInputStream(bytes), PROVIDER);
+        parser.next();
+
+        assertThat(parser.getValue()).isEqualTo(read(json));
+    }
+
+    @Test
+    public void hasNextShouldThrowExceptionIfValueIsFollowedByGarbage() {
+        byte[] bytes = "{} x".getBytes(StandardCharsets.UTF_8);
+        JsonParser parser = new Utf8JsonParser(new ByteArrayInputStream(bytes), PROVIDER);
+        parser.next();
+        parser.next();
+
+        Throwable thrown = catchThrowable(parser::hasNext);
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', true",
+        "1, true",
+        "'\"\u3042\"', true",
+        "EFBBBF7B7D, true",
+        "007B007D, false",
+        "7B007D00, false",
+        "FEFF007B007D, false",
+        "FFFE7B007D00, false",
+        "0000007B0000007D, false",
+        "7B0000007D000000, false",
+    })
+    public void detectUtf8ShouldDetectEncoding(String hex, boolean expected) throws IOException {
+        byte[] bytes = toBytes(hex);
+        PushbackInputStream in = new PushbackInputStream(new ByteArrayInputStream(bytes), 4);
+
+        boolean actual = Utf8JsonParser.detectUtf8(in);
+
+        assertThat(actual).isEqualTo(expected);
+        // Only the byte order mark of UTF-8 is consumed.
+        int skipped = hex.startsWith("EFBBBF") ? 3 : 0;
+        assertThat(readAll(in)).isEqualTo(Arrays.copyOfRange(bytes, skipped, bytes.length));
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) >= 0) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] toBytes(String hex) {
+        if (!hex.matches("([0-9A-F]{2})*")) {
+            return hex.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static JsonValue read(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.leadpony.justify.internal.base.regex.Ecma262Regex.DEFAULT_STEPS_PER_CHAR;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.leadpony.justify.spi.RegexEngine.MatchResult;
+
+/**
+ * A test class for {@link Ecma262Regex}.
+ *
+ * @author leadpony
+ */
+public class Ecma262RegexTest {
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "",
+            "a",
+            "aaa",
+            "abc",
+            "ABC",
+            "abcabc",
+            "a-b_c",
+            "123",
+            "12-34",
+            "2020-01-31",
+            "foo@example.org",
+            "x-custom",
+            "a b\tc",
+            "line\n",
+            "line\r\nnext",
+            "\u00a0\u2000\u200b\u3000",
+            "\ufeff",
+            "caf\u00e9",
+            "\ud83d\ude00",
+            "a\ud83d\ude00b",
+            "$^.*+?()[]{}|\\/",
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "a",
+            "^a",
+            "a$",
+            "^abc$",
+            "^a*$",
+            "^(a+)+$",
+            "^(a|aa)+$",
+            "(a*)*b",
+            "^[a-z]+$",
+            "^[^a-z]+$",
+            "^[a-zA-Z0-9_-]+$",
+            "[-a]",
+            "[a-]",
+            "^\\d{4}-\\d{2}-\\d{2}$",
+            "^\\d{2,}$",
+            "^\\d{1,2}(-\\d{1,2})?$",
+            "\\w+@\\w+\\.\\w+",
+            "^\\W+$",
+            "\\s",
+            "\\S",
+            "^\\S+$",
+            "[\\s\\d]",
+            "[\\S]",
+            "\\D",
+            "^x-",
+            "abc|def|^a",
+            "(?:ab)+c?",
+            "a.c",
+            "^.*$",
+            "^.+$",
+            "\\u00e9",
+            "\\x41",
+            "[\\u00a0-\\u00ff]",
+            "\\$\\^\\.\\*\\+\\?\\(\\)\\[\\]\\{\\}\\|\\\\\\/",
+            "a+?b*?c??",
+            "^\ud83d\ude00$",
+            "^.$",
+            "[^\\n]",
+            "\\t|\\n|\\r",
+            "a{0}",
+            "^a{3}$",
+            "}",
+            "]",
+            })
+    public void findShouldReturnSameResultAsPattern(String regex) {
+        Ecma262Regex actual = Ecma262Regex.compile(regex);
+        Pattern expected = Ecma262Pattern.compile(regex);
+
+        assertThat(actual).isInstanceOf(LinearRegex.class);
+        for (String input : INPUTS) {
+            assertThat(actual.findWithStepsPerChar(input, DEFAULT_STEPS_PER_CHAR))
+                    .as("\"%s\" against \"%s\"", regex, input)
+                    .isEqualTo(expected.matcher(input).find());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(a)\\1",
+            "a(?=b)",
+            "a(?!b)",
+            "(?<=a)b",
+            "\\bword\\b",
+            "\\p{L}",
+            "\\cJ",
+            "a$b",
+            "a*+",
+            "[a[b]]",
+            "[a-z&&[^x]]",
+            "[^\\s]",
+            })
+    public void compileShouldFallBackToBacktrackingEngine(String regex) {
+        Ecma262Regex actual = Ecma262Regex.compile(regex);
+        Pattern expected = Ecma262Pattern.compile(regex);
+
+        assertThat(actual).isInstanceOf(BacktrackingRegex.class);
+        for (String input : INPUTS) {
+            assertThat(actual.findWithStepsPerChar(input, DEFAULT_STEPS_PER_CHAR))
+                    .isEqualTo(expected.matcher(input).find());
+        }
+    }
+
+    @Test
+    public void findShouldNotBacktrackExponentially() {
+        Ecma262Regex regex = Ecma262Regex.compile("^(a+)+$");
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.append('a');
+        }
+        String matching = builder.toString();
+        String unmatching = builder.append('!').toString();
+
+        assertThat(regex.findWithStepsPerChar(matching, DEFAULT_STEPS_PER_CHAR)).isTrue();
+        assertThat(regex.findWithStepsPerChar(unmatching, DEFAULT_STEPS_PER_CHAR)).isFalse();
+    }
+
+    @Test
+    public void findShouldReportIfStepLimitExceeded() {
+        Ecma262Regex regex = Ecma262Regex.compile("^(a+)+\\1$");
+        String input = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+
+        assertThat(regex).isInstanceOf(BacktrackingRegex.class);
+        assertThatThrownBy(() -> regex.findWithStepsPerChar(input, DEFAULT_STEPS_PER_CHAR))
+            .isInstanceOf(RegexStepLimitException.class)
+            .extracting(e -> ((RegexStepLimitException) e).getRegex())
+            .isSameAs(regex);
+        assertThat(regex.findWithStepsPerChar("aaaa", DEFAULT_STEPS_PER_CHAR)).isTrue();
+        assertThat(regex.matchWithin("aaaa", 1)).isEqualTo(MatchResult.STEP_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    public void findWithStepsPerCharShouldHonorStepsPerChar() {
+        Ecma262Regex regex = Ecma262Regex.compile("a*b");
+        String input = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+
+        assertThat(regex).isInstanceOf(LinearRegex.class);
+        assertThat(regex.findWithStepsPerChar(input, DEFAULT_STEPS_PER_CHAR)).isFalse();
+        assertThatThrownBy(() -> regex.findWithStepsPerChar(input, 1))
+            .isInstanceOf(RegexStepLimitException.class);
+        assertThat(regex.matchWithin(input, Long.MAX_VALUE)).isEqualTo(MatchResult.NOT_MATCHED);
+    }
+
+    @Test
+    public void toStringShouldReturnSource() {
+        Ecma262Regex regex = Ecma262Regex.compile("^[a-z]+$");
+
+        assertThat(regex.toString()).isEqualTo("^[a-z]+$");
+    }
+}
@@ -25,6 +25,7 @@ import java.io.InputStreamReader;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnJre;
 import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -49,6 +50,16 @@ public class IdnPropertyTest {
         }
     }
 
+    @Test
+    public void ofShouldReturnSamePropertyAsComputed() {
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            IdnProperty expected = IdnProperty.compute(codePoint);
+            if (IdnProperty.of(codePoint) != expected) {
+                assertThat(IdnProperty.of(codePoint)).as("U+%04X", codePoint).isEqualTo(expected);
+            }
+        }
+    }
+
     public static Stream<TestCase> testCases() throws IOException {
         InputStream in = IdnPropertyTest.class.getResourceAsStream(TABLE_6_2_0);
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(in))) {
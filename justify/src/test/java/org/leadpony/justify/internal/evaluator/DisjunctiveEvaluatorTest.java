@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.Evaluator.Result;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.keyword.Keyword;
+
+/**
+ * A test class for {@link SimpleDisjunctiveEvaluator} and
+ * {@link DisjunctiveEvaluator}.
+ *
+ * @author leadpony
+ */
+public class DisjunctiveEvaluatorTest {
+
+    private static JsonValidationService service;
+    private static Keyword keyword;
+
+    @BeforeAll
+    public static void setUp() {
+        service = JsonValidationService.newInstance();
+        keyword = readSchema("{\"anyOf\":[true]}").getKeywordsAsMap().get("anyOf");
+    }
+
+    @Test
+    public void appendShouldReuseOperandWhichCompleted() {
+        DisjunctiveEvaluator sut = new DisjunctiveEvaluator(Evaluator.ALWAYS_TRUE, keyword, Event.END_ARRAY);
+        List<Evaluator> operands = new ArrayList<>();
+
+        sut.append(p -> {
+            operands.add(p);
+            return (event, depth) -> Result.FALSE;
+        });
+        assertThat(sut.evaluate(Event.VALUE_NUMBER, 1)).isEqualTo(Result.PENDING);
+        sut.append(p -> {
+            operands.add(p);
+            return (event, depth) -> Result.PENDING;
+        });
+        sut.append(p -> {
+            operands.add(p);
+            return (event, depth) -> Result.PENDING;
+        });
+
+        assertThat(operands).hasSize(3);
+        assertThat(operands.get(1)).isSameAs(operands.get(0));
+        // The second operand is still in use.
+        assertThat(operands.get(2)).isNotSameAs(operands.get(1));
+    }
+
+    @Test
+    public void appendShouldSkipOperandsOnceSatisfied() {
+        SimpleDisjunctiveEvaluator sut = new SimpleDisjunctiveEvaluator(Evaluator.ALWAYS_TRUE, keyword);
+        List<Evaluator> operands = new ArrayList<>();
+
+        sut.append(p -> {
+            operands.add(p);
+            return (event, depth) -> Result.FALSE;
+        });
+        sut.append(p -> {
+            operands.add(p);
+            return Evaluator.ALWAYS_TRUE;
+        });
+        sut.append(p -> {
+            operands.add(p);
+            return (event, depth) -> Result.FALSE;
+        });
+
+        assertThat(operands).hasSize(2);
+        assertThat(sut.evaluate(Event.VALUE_NULL, 0)).isEqualTo(Result.TRUE);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[]|0",
+        "[1]|1",
+        "[1,2,3]|3",
+        "[1,{\"a\":[2]},[3]]|3",
+    })
+    public void containsShouldReportBranchPerItem(String instance, int branches) {
+        List<Problem> problems = validate("{\"contains\":{\"type\":\"string\"}}", instance);
+
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).countBranches()).isEqualTo(branches);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[\"a\"]",
+        "[1,\"a\"]",
+        "[1,[2],{},\"a\",3]",
+    })
+    public void containsShouldAcceptArrayContainingMatchingItem(String instance) {
+        List<Problem> problems = validate("{\"contains\":{\"type\":\"string\"}}", instance);
+
+        assertThat(problems).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[]|1",
+        "[1,2]|1",
+        "[1,\"a\",2]|0",
+        "[[1],\"a\"]|0",
+    })
+    public void negatedItemsShouldReportProblemsUnlessAnyItemFails(String instance, int problems) {
+        List<Problem> actual = validate("{\"not\":{\"items\":{\"type\":\"number\"}}}", instance);
+
+        assertThat(actual).hasSize(problems);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "1|0",
+        "'\"a\"'|0",
+        "true|1",
+    })
+    public void anyOfShouldReportProblemsUnlessAnySubschemaMatches(String instance, int problems) {
+        List<Problem> actual = validate("{\"anyOf\":[{\"type\":\"number\"},{\"type\":\"string\"}]}", instance);
+
+        assertThat(actual).hasSize(problems);
+    }
+
+    private static JsonSchema readSchema(String json) {
+        return service.readSchema(new StringReader(json));
+    }
+
+    private static List<Problem> validate(String schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonReader reader = service.createReader(new StringReader(instance), readSchema(schema),
+                problems::addAll)) {
+            reader.readValue();
+        }
+        return problems;
+    }
+}
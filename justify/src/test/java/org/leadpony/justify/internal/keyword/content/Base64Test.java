@@ -18,7 +18,11 @@ package org.leadpony.justify.internal.keyword.content;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -45,6 +49,8 @@ public class Base64Test {
         F_SHORT("Zg", false, null),
         FO_SHORT("Zm8", false, null),
         FOOB_SHORT("Zm9vYg", false, null),
+        DATA_AFTER_PADDING("Zg==Zm8=", false, null),
+        NON_ASCII("Zm9\u00e9", false, null),
         INVALD_LETTERS("4rdHFh%2BHYoS8oLdVvbUzEVqB8Lvm7kSPnuwF0AAABYQ%3D", false, null);
 
         final String src;
@@ -83,4 +89,26 @@ public class Base64Test {
             assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @ParameterizedTest
+    @EnumSource(Base64TestCase.class)
+    public void decodeAsStreamShouldDecodeString(Base64TestCase test) throws IOException {
+        Base64 base64 = Base64.INSTANCE;
+        if (test.valid) {
+            byte[] actual = readAll(base64.decodeAsStream(test.src));
+            assertThat(actual).isEqualTo(test.decoded);
+        } else {
+            Throwable thrown = catchThrowable(() -> readAll(base64.decodeAsStream(test.src)));
+            assertThat(thrown).isInstanceOfAny(IllegalArgumentException.class, IOException.class);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) >= 0) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
 }
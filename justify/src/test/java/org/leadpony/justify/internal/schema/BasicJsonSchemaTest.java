@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.StringResultCache;
+import org.leadpony.justify.api.ValidationConfig;
+
+/**
+ * A test class for {@link BasicJsonSchema}.
+ *
+ * @author leadpony
+ */
+public class BasicJsonSchemaTest {
+
+    private static final String SCHEMA = "{"
+            + "\"minLength\":2,\"maxLength\":3,"
+            + "\"minItems\":1,"
+            + "\"minimum\":0,\"multipleOf\":2"
+            + "}";
+
+    private static JsonValidationService service;
+
+    @BeforeAll
+    public static void setUp() {
+        service = JsonValidationService.newInstance();
+    }
+
+    @Test
+    public void readSchemaShouldCreateSchemaWithManyKeywords() {
+        JsonSchema schema = readSchema(SCHEMA);
+
+        assertThat(schema).isInstanceOf(BasicJsonSchema.Many.class);
+    }
+
+    @Test
+    public void createEvaluatorShouldReturnAlwaysTrueIfNoKeywordSupportsType() {
+        JsonSchema schema = readSchema(SCHEMA);
+
+        // The parent is not used at all.
+        assertThat(schema.createEvaluator(Evaluator.ALWAYS_TRUE, InstanceType.NULL))
+            .isSameAs(Evaluator.ALWAYS_TRUE);
+        assertThat(schema.createEvaluator(Evaluator.ALWAYS_TRUE, InstanceType.OBJECT))
+            .isSameAs(Evaluator.ALWAYS_TRUE);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        // no keyword
+        "null|''",
+        "{}|''",
+        "true|''",
+        // single keyword
+        "[]|minItems",
+        "[1]|''",
+        // multiple keywords
+        "'\"a\"'|minLength",
+        "'\"ab\"'|''",
+        "'\"abcd\"'|maxLength",
+        "-1|minimum multipleOf",
+        "-2|minimum",
+        "3|multipleOf",
+        "4|''",
+    })
+    public void validateShouldReportProblemsOfKeywordsSupportingType(String instance, String keywords) {
+        List<String> actual = validate(readSchema(SCHEMA), instance);
+
+        assertThat(String.join(" ", actual)).isEqualTo(keywords);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "null|1",
+        "[]|0",
+        "[1]|1",
+        "'\"a\"'|0",
+        "'\"ab\"'|1",
+        "-1|0",
+        "4|1",
+    })
+    public void validateShouldReportProblemsOfNegatedSchema(String instance, int problems) {
+        List<String> actual = validate(readSchema("{\"not\":" + SCHEMA + "}"), instance);
+
+        assertThat(actual).hasSize(problems);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "'\"ab\"'|0",
+        "'\"a\"'|1",
+        "'\"abcd\"'|1",
+    })
+    public void validateShouldTestScalarValueOncePerKeyword(String instance, int problems) {
+        JsonSchema schema = readSchema(SCHEMA);
+        StringResultCache cache = service.createStringResultCache(16);
+
+        List<String> actual = validate(schema, instance, cache);
+
+        assertThat(actual).hasSize(problems);
+        // Only minLength and maxLength support strings.
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "'\"a\"'|0",
+        "'\"ab\"'|1",
+    })
+    public void validateShouldTestScalarValueOnceWithSingleKeyword(String instance, int problems) {
+        JsonSchema schema = readSchema("{\"maxLength\":1}");
+        StringResultCache cache = service.createStringResultCache(16);
+
+        List<String> actual = validate(schema, instance, cache);
+
+        assertThat(actual).hasSize(problems);
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    private static JsonSchema readSchema(String json) {
+        return service.readSchema(new StringReader(json));
+    }
+
+    private static List<String> validate(JsonSchema schema, String instance) {
+        List<Problem> problems = new ArrayList<>();
+        try (JsonReader reader = service.createReader(new StringReader(instance), schema, problems::addAll)) {
+            reader.readValue();
+        }
+        return toKeywords(problems);
+    }
+
+    private static List<String> validate(JsonSchema schema, String instance, StringResultCache cache) {
+        List<Problem> problems = new ArrayList<>();
+        ValidationConfig config = service.createValidationConfig()
+                .withSchema(schema)
+                .withProblemHandler(problems::addAll)
+                .withStringResultCache(cache);
+        JsonParserFactory factory = service.createParserFactory(config.getAsMap());
+        try (JsonParser parser = factory.createParser(new StringReader(instance))) {
+            while (parser.hasNext()) {
+                parser.next();
+            }
+        }
+        return toKeywords(problems);
+    }
+
+    private static List<String> toKeywords(List<Problem> problems) {
+        List<String> keywords = new ArrayList<>();
+        for (Problem problem : problems) {
+            keywords.add(problem.getKeyword());
+        }
+        return keywords;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import jakarta.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.leadpony.justify.api.keyword.Keyword;
+import org.leadpony.justify.api.keyword.KeywordType;
+import org.leadpony.justify.api.keyword.SubschemaParser;
+
+/**
+ * A test class for {@link DefaultStringResultCache}.
+ *
+ * @author leadpony
+ */
+public class DefaultStringResultCacheTest {
+
+    @Test
+    public void testShouldReuseResultPerKeyword() {
+        DefaultStringResultCache cache = new DefaultStringResultCache(16);
+        Keyword first = newKeyword("first");
+        Keyword second = newKeyword("first");
+        AtomicInteger calls = new AtomicInteger();
+        Predicate<String> predicate = value -> calls.incrementAndGet() > 0;
+
+        cache.test(first, "foo", predicate);
+        cache.test(first, "foo", predicate);
+        cache.test(second, "foo", predicate);
+
+        // Keywords are distinguished by their identity.
+        assertThat(calls).hasValue(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testShouldPassContextToPredicate() {
+        DefaultStringResultCache cache = new DefaultStringResultCache(16);
+        Keyword keyword = newKeyword("keyword");
+
+        assertThat(cache.test(keyword, "foo", null, (value, context) -> context == null)).isTrue();
+        assertThat(cache.test(keyword, "foo", null, (value, context) -> false)).isTrue();
+    }
+
+    @Test
+    public void cacheShouldNotRetainUnusedKeywords() throws InterruptedException {
+        DefaultStringResultCache cache = new DefaultStringResultCache(16);
+        cache.test(newKeyword("transient"), "foo", value -> true);
+
+        for (int i = 0; i < 50 && !cache.getHitRatios().isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(cache.getHitRatios()).isEmpty();
+    }
+
+    private static Keyword newKeyword(String name) {
+        KeywordType type = new KeywordType() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Keyword createKeyword(JsonValue jsonValue, SubschemaParser schemaParser) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        return new Keyword() {
+            @Override
+            public JsonValue getValueAsJson() {
+                return JsonValue.TRUE;
+            }
+
+            @Override
+            public KeywordType getType() {
+                return type;
+            }
+        };
+    }
+}